@@ -0,0 +1,86 @@
+package com.likelion.basecode.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 측정 대상 앱을 별도 JVM으로 실행 (부하 발생기와 CPU/GC가 섞이지 않도록)
+// 클래스패스는 이 모듈과 같음 (앱 클래스 + H2)
+class AppProcess implements AutoCloseable {
+
+    private static final String MAIN_CLASS = "com.likelion.basecode.BasecodeApplication";
+
+    private final Process process;
+    private final String baseUrl;
+
+    private AppProcess(Process process, String baseUrl) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+    }
+
+    static AppProcess start(LoadTestConfig config, Map<String, String> properties, Path logFile) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.stream(config.appJvmArgs().split(" ")).filter(arg -> !arg.isBlank()).toList());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(MAIN_CLASS);
+        command.add("--server.port=" + config.appPort());
+        properties.forEach((key, value) -> command.add("--" + key + "=" + value));
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        return new AppProcess(process, "http://127.0.0.1:" + config.appPort());
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    // readiness는 앱의 워밍업이 끝나야 UP
+    void awaitReady(HttpClient client, Duration timeout) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("앱이 기동 중에 종료되었습니다 (exit " + process.exitValue() + ")");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ignored) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException("앱이 " + timeout.toSeconds() + "초 안에 준비되지 않았습니다");
+    }
+
+    // 정상 종료를 기다리다 인터럽트되면 강제 종료하고 인터럽트 상태는 다시 설정 (호출한 쪽이 확인할 수 있도록)
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.likelion.basecode.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 실행 결과 저장
+//   {output}/{시각}-{커밋}/report.json   설정 + 시나리오별 요약
+//   {output}/{시각}-{커밋}/{시나리오}.hgrm HdrHistogram 백분위 분포 (ms, HistogramPlotter로 그래프화 가능)
+//   {output}/history.csv                 커밋 간 비교용 누적 이력 (실행마다 시나리오별 한 줄)
+class LoadReport {
+
+    private static final String HISTORY_HEADER = "timestamp,commit,scenario,target_rps,duration_s,sent,succeeded,failed,dropped,"
+            + "throughput_rps,p50_ms,p90_ms,p99_ms,p999_ms,max_ms";
+
+    private final LoadTestConfig config;
+    private final String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+
+    LoadReport(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    Path runDir() {
+        return config.outputDir().resolve(timestamp + "-" + config.commit());
+    }
+
+    void write(List<Scenario> scenarios, Map<String, ScenarioStats> results, Map<String, Object> fakeStats) throws IOException {
+        Files.createDirectories(runDir());
+        double seconds = config.duration().toMillis() / 1000.0;
+
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        List<String> historyLines = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            ScenarioStats stats = results.get(scenario.name());
+            Histogram latency = stats.latency();
+            double throughput = stats.succeededCount() / seconds;
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("scenario", scenario.name());
+            summary.put("targetRps", scenario.ratePerSecond());
+            summary.put("sent", stats.sentCount());
+            summary.put("succeeded", stats.succeededCount());
+            summary.put("failed", stats.failedCount());
+            summary.put("dropped", stats.droppedCount());
+            summary.put("throughputRps", round(throughput));
+            summary.put("p50Ms", millis(latency.getValueAtPercentile(50)));
+            summary.put("p90Ms", millis(latency.getValueAtPercentile(90)));
+            summary.put("p99Ms", millis(latency.getValueAtPercentile(99)));
+            summary.put("p999Ms", millis(latency.getValueAtPercentile(99.9)));
+            summary.put("maxMs", millis(latency.getMaxValue()));
+            summary.put("outcomes", stats.outcomes());
+            summaries.add(summary);
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(runDir().resolve(scenario.name() + ".hgrm")),
+                    false, StandardCharsets.UTF_8)) {
+                latency.outputPercentileDistribution(out, 1000.0);
+            }
+
+            historyLines.add(String.join(",", timestamp, config.commit(), scenario.name(),
+                    Double.toString(scenario.ratePerSecond()), Long.toString(config.duration().toSeconds()),
+                    Long.toString(stats.sentCount()), Long.toString(stats.succeededCount()),
+                    Long.toString(stats.failedCount()), Long.toString(stats.droppedCount()),
+                    Double.toString(round(throughput)),
+                    Double.toString(millis(latency.getValueAtPercentile(50))),
+                    Double.toString(millis(latency.getValueAtPercentile(90))),
+                    Double.toString(millis(latency.getValueAtPercentile(99))),
+                    Double.toString(millis(latency.getValueAtPercentile(99.9))),
+                    Double.toString(millis(latency.getMaxValue()))));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", timestamp);
+        report.put("commit", config.commit());
+        report.put("config", config.toString());
+        report.put("scenarios", summaries);
+        report.put("fakes", fakeStats);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(runDir().resolve("report.json").toFile(), report);
+
+        appendHistory(historyLines);
+        print(summaries);
+    }
+
+    private void appendHistory(List<String> lines) throws IOException {
+        Path history = config.outputDir().resolve("history.csv");
+        if (Files.notExists(history)) {
+            Files.writeString(history, HISTORY_HEADER + System.lineSeparator());
+        }
+        Files.write(history, lines, StandardOpenOption.APPEND);
+    }
+
+    private void print(List<Map<String, Object>> summaries) {
+        System.out.printf("%n부하 테스트 결과 (commit %s, %ds, 결과: %s)%n", config.commit(), config.duration().toSeconds(), runDir());
+        System.out.printf("%-14s %8s %8s %8s %8s %8s %9s %9s %9s %9s%n",
+                "scenario", "target", "sent", "ok", "failed", "dropped", "rps", "p50(ms)", "p99(ms)", "max(ms)");
+        for (Map<String, Object> summary : summaries) {
+            System.out.printf("%-14s %8s %8s %8s %8s %8s %9s %9s %9s %9s%n",
+                    summary.get("scenario"), summary.get("targetRps"), summary.get("sent"), summary.get("succeeded"),
+                    summary.get("failed"), summary.get("dropped"), summary.get("throughputRps"),
+                    summary.get("p50Ms"), summary.get("p99Ms"), summary.get("maxMs"));
+        }
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
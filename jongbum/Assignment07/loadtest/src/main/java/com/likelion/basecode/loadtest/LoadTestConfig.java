@@ -0,0 +1,70 @@
+package com.likelion.basecode.loadtest;
+
+import com.likelion.basecode.loadtest.fake.FaultInjection;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+// 부하 테스트 설정 - 시스템 프로퍼티 loadtest.* 로 덮어씀 (Gradle에서는 -Ploadtest.*)
+// 결과 비교를 위해 모든 값이 보고서에 그대로 기록됨
+public record LoadTestConfig(
+        String commit,
+        Path outputDir,
+        int appPort,
+        String appJvmArgs,
+        Duration warmup,
+        Duration duration,
+        int seedMembers,
+        int seedPosts,
+        double postSaveRate,        // 초당 요청 수 (open model: 응답 시간과 무관하게 이 속도로 요청 시작)
+        double postListRate,
+        double recommendRate,
+        double saveImageRatio,      // /post/save 중 이미지를 포함하는 비율
+        int maxInFlight,            // 이 이상 응답 대기 중이면 요청을 보내지 않고 dropped로 기록
+        Duration requestTimeout,
+        FaultInjection kobis,
+        FaultInjection tagApi,
+        FaultInjection s3
+) {
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                string("commit", "unknown"),
+                Path.of(string("output-dir", "build/loadtest")),
+                integer("app.port", 18081),
+                string("app.jvm-args", "-Xms512m -Xmx512m"),
+                Duration.ofSeconds(integer("warmup-seconds", 15)),
+                Duration.ofSeconds(integer("duration-seconds", 60)),
+                integer("seed.members", 200),
+                integer("seed.posts", 1000),
+                decimal("rate.post-save", 20),
+                decimal("rate.post-list", 200),
+                decimal("rate.recommend", 50),
+                decimal("save.image-ratio", 0.2),
+                integer("max-in-flight", 1000),
+                Duration.ofMillis(integer("request-timeout-ms", 10000)),
+                fault("kobis", 30),
+                fault("tag", 50),
+                fault("s3", 20)
+        );
+    }
+
+    private static FaultInjection fault(String name, int latencyMs) {
+        return new FaultInjection(
+                integer("fake." + name + ".latency-ms", latencyMs),
+                integer("fake." + name + ".jitter-ms", latencyMs / 2),
+                decimal("fake." + name + ".error-rate", 0.0)
+        );
+    }
+
+    private static String string(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static int integer(String name, int defaultValue) {
+        return Integer.parseInt(string(name, Integer.toString(defaultValue)));
+    }
+
+    private static double decimal(String name, double defaultValue) {
+        return Double.parseDouble(string(name, Double.toString(defaultValue)));
+    }
+}
@@ -0,0 +1,199 @@
+package com.likelion.basecode.loadtest;
+
+import com.likelion.basecode.loadtest.fake.FakeHandlers;
+import com.likelion.basecode.loadtest.fake.FakeS3;
+import com.likelion.basecode.loadtest.fake.FakeServer;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 부하 테스트 진입점 (./gradlew :loadtest:loadTest)
+// 1. 가짜 KOBIS / 태그 추천 / S3 서버 기동
+// 2. 앱을 별도 JVM으로 기동 (H2 MySQL 모드 + Flyway, 외부 주소는 가짜 서버로) 후 readiness 대기
+// 3. 사용자/게시글 시드 -> 워밍업 부하(결과 버림) -> 측정 부하 -> 보고서
+public class LoadTestMain {
+
+    private static final String BUCKET = "loadtest";
+    private static final String MULTIPART_BOUNDARY = "loadtest-boundary";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        LoadReport report = new LoadReport(config);
+        Files.createDirectories(report.runDir());
+
+        FakeS3 s3 = new FakeS3(BUCKET);
+        try (FakeServer kobis = new FakeServer("kobis", config.kobis(), FakeHandlers.kobis());
+             FakeServer tagApi = new FakeServer("tag", config.tagApi(), FakeHandlers.tagRecommendation());
+             FakeServer s3Server = new FakeServer("s3", config.s3(), s3);
+             AppProcess app = AppProcess.start(config, appProperties(kobis, tagApi, s3Server), report.runDir().resolve("app.log"))) {
+
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2))
+                    .build();
+
+            System.out.println("앱 기동 대기: " + app.baseUrl());
+            app.awaitReady(client, Duration.ofMinutes(2));
+            seed(client, app.baseUrl(), config);
+
+            List<Scenario> scenarios = scenarios(app.baseUrl(), config);
+            OpenModelLoad load = new OpenModelLoad(client, config.maxInFlight(), config.requestTimeout());
+
+            System.out.printf("워밍업 %ds%n", config.warmup().toSeconds());
+            load.run(scenarios, config.warmup());
+
+            long kobisBefore = kobis.requests();
+            long tagBefore = tagApi.requests();
+            long s3Before = s3Server.requests();
+            System.out.printf("측정 %ds%n", config.duration().toSeconds());
+            Map<String, ScenarioStats> results = load.run(scenarios, config.duration());
+
+            Map<String, Object> fakeStats = new LinkedHashMap<>();
+            fakeStats.put("kobisRequests", kobis.requests() - kobisBefore);
+            fakeStats.put("tagRequests", tagApi.requests() - tagBefore);
+            fakeStats.put("s3Requests", s3Server.requests() - s3Before);
+            fakeStats.put("s3Objects", s3.objectCount());
+            fakeStats.put("injectedErrors", Map.of(
+                    "kobis", kobis.injectedErrors(), "tag", tagApi.injectedErrors(), "s3", s3Server.injectedErrors()));
+            report.write(scenarios, results, fakeStats);
+        }
+        System.exit(0);
+    }
+
+    private static Map<String, String> appProperties(FakeServer kobis, FakeServer tagApi, FakeServer s3) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.profiles.active", "loadtest");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.autoconfigure.exclude",
+                "org.springframework.cloud.aws.autoconfigure.context.ContextInstanceDataAutoConfiguration,"
+                        + "org.springframework.cloud.aws.autoconfigure.context.ContextStackAutoConfiguration");
+        properties.put("cloud.aws.stack.auto", "false");
+        properties.put("cloud.aws.region.static", "ap-northeast-2");
+        properties.put("cloud.aws.credentials.access-key", "loadtest");
+        properties.put("cloud.aws.credentials.secret-key", "loadtest");
+        properties.put("cloud.aws.s3.bucket", BUCKET);
+        properties.put("cloud.aws.s3.endpoint", s3.baseUrl());
+        properties.put("storage.type", "s3");
+        properties.put("movie-api.boxOfficeUrl", kobis.baseUrl() + FakeHandlers.BOX_OFFICE_PATH);
+        properties.put("movie-api.movieInfoUrl", kobis.baseUrl() + FakeHandlers.MOVIE_INFO_PATH);
+        properties.put("movie-api.service-key", "loadtest");
+        properties.put("tag.recommendation.api-url", tagApi.baseUrl() + FakeHandlers.TAG_PATH);
+        return properties;
+    }
+
+    // 사용자 1..members, 게시글 1..posts (빈 DB라서 id가 순서대로 매겨짐)
+    private static void seed(HttpClient client, String baseUrl, LoadTestConfig config) throws Exception {
+        System.out.printf("시드: 사용자 %d명, 게시글 %d개%n", config.seedMembers(), config.seedPosts());
+        for (int i = 1; i <= config.seedMembers(); i++) {
+            String json = String.format("{\"name\":\"member%d\",\"age\":%d,\"part\":\"%s\"}",
+                    i, 20 + i % 30, i % 2 == 0 ? "BACKEND" : "FRONTEND");
+            expectSuccess(client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/member/save"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build(), HttpResponse.BodyHandlers.ofString()));
+        }
+
+        // 게시글 저장은 태그 API 지연이 있으므로 묶음 단위로 병렬 요청
+        int batch = 32;
+        for (int from = 1; from <= config.seedPosts(); from += batch) {
+            List<CompletableFuture<HttpResponse<String>>> futures = new ArrayList<>();
+            for (int i = from; i < from + batch && i <= config.seedPosts(); i++) {
+                long memberId = 1 + (i - 1) % config.seedMembers();
+                futures.add(client.sendAsync(postSave(baseUrl, memberId, i, null), HttpResponse.BodyHandlers.ofString()));
+            }
+            for (CompletableFuture<HttpResponse<String>> future : futures) {
+                expectSuccess(future.join());
+            }
+        }
+    }
+
+    private static List<Scenario> scenarios(String baseUrl, LoadTestConfig config) throws IOException {
+        byte[] image = sampleJpeg();
+        return List.of(
+                new Scenario("post-save", config.postSaveRate(), n -> {
+                    long memberId = 1 + ThreadLocalRandom.current().nextLong(config.seedMembers());
+                    boolean withImage = ThreadLocalRandom.current().nextDouble() < config.saveImageRatio();
+                    return postSave(baseUrl, memberId, n, withImage ? image : null);
+                }),
+                new Scenario("post-list", config.postListRate(), n -> HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/post/" + (1 + ThreadLocalRandom.current().nextLong(config.seedMembers()))))
+                        .GET()
+                        .build()),
+                new Scenario("recommend", config.recommendRate(), n -> HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/movies/recommend/" + (1 + ThreadLocalRandom.current().nextLong(config.seedPosts()))))
+                        .GET()
+                        .build())
+        );
+    }
+
+    // multipart/form-data: post(JSON) 파트 + 선택적으로 image 파트
+    private static HttpRequest postSave(String baseUrl, long memberId, long n, byte[] image) {
+        String json = String.format("{\"memberId\":%d,\"title\":\"load %d\",\"contents\":\"load test contents %d\"}",
+                memberId, n % 100_000, n);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writePart(body, "post", null, "application/json", json.getBytes(StandardCharsets.UTF_8));
+        if (image != null) {
+            writePart(body, "image", "image.jpg", "image/jpeg", image);
+        }
+        body.writeBytes(("--" + MULTIPART_BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/post/save"))
+                .header("Content-Type", "multipart/form-data; boundary=" + MULTIPART_BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+    }
+
+    private static void writePart(ByteArrayOutputStream body, String name, String fileName, String contentType, byte[] content) {
+        String header = "--" + MULTIPART_BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\""
+                + (fileName != null ? "; filename=\"" + fileName + "\"" : "") + "\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n";
+        body.writeBytes(header.getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 리사이즈/썸네일 경로를 타도록 최대 크기보다 큰 사진 크기의 JPEG
+    private static byte[] sampleJpeg() throws IOException {
+        BufferedImage image = new BufferedImage(2400, 1600, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        for (int y = 0; y < image.getHeight(); y += 40) {
+            graphics.setColor(new Color((y * 7) % 256, (y * 3) % 256, (y * 11) % 256));
+            graphics.fillRect(0, y, image.getWidth(), 40);
+        }
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static void expectSuccess(HttpResponse<String> response) {
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("시드 요청 실패 " + response.statusCode() + ": " + response.body());
+        }
+    }
+}
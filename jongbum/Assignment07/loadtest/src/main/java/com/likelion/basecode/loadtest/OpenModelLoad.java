@@ -0,0 +1,102 @@
+package com.likelion.basecode.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// open-model 부하: 요청 시작 시각이 응답과 무관하게 정해짐 (도착률 고정)
+// closed-model(응답 받고 다음 요청)과 달리 앱이 느려져도 부하가 줄지 않아서 실제 트래픽의 대기열 효과가 드러남
+class OpenModelLoad {
+
+    private final HttpClient client;
+    private final int maxInFlight;
+    private final Duration requestTimeout;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    OpenModelLoad(HttpClient client, int maxInFlight, Duration requestTimeout) {
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+        this.requestTimeout = requestTimeout;
+    }
+
+    // 시나리오마다 스케줄러 스레드 하나가 정해진 간격으로 요청을 시작하고, 응답은 HttpClient 비동기 처리
+    Map<String, ScenarioStats> run(List<Scenario> scenarios, Duration duration) throws InterruptedException {
+        Map<String, ScenarioStats> results = new LinkedHashMap<>();
+        List<Thread> schedulers = new ArrayList<>();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (Scenario scenario : scenarios) {
+            ScenarioStats stats = new ScenarioStats();
+            results.put(scenario.name(), stats);
+            if (scenario.ratePerSecond() <= 0) {
+                continue;
+            }
+            Thread scheduler = new Thread(() -> schedule(scenario, stats, start, end), "load-" + scenario.name());
+            scheduler.start();
+            schedulers.add(scheduler);
+        }
+
+        for (Thread scheduler : schedulers) {
+            scheduler.join();
+        }
+        awaitInFlight();
+        return results;
+    }
+
+    private void schedule(Scenario scenario, ScenarioStats stats, long start, long end) {
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / scenario.ratePerSecond();
+        for (long n = 0; ; n++) {
+            long intended = start + (long) (n * intervalNanos);
+            if (intended >= end) {
+                return;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            if (inFlight.get() >= maxInFlight) {
+                stats.dropped();
+                continue;
+            }
+
+            HttpRequest request;
+            try {
+                request = HttpRequest.newBuilder(scenario.request().apply(n), (name, value) -> true)
+                        .timeout(requestTimeout)
+                        .build();
+            } catch (RuntimeException e) {
+                stats.failed(intended, e);
+                continue;
+            }
+
+            inFlight.incrementAndGet();
+            stats.sent();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.decrementAndGet();
+                        if (error != null) {
+                            stats.failed(intended, error);
+                        } else {
+                            stats.completed(intended, response.statusCode());
+                        }
+                    });
+        }
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + requestTimeout.toNanos() + TimeUnit.SECONDS.toNanos(5);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.likelion.basecode.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.function.LongFunction;
+
+// 부하 시나리오: 초당 rate 개의 요청을 일정한 간격으로 시작 (n번째 요청을 만드는 함수)
+record Scenario(String name, double ratePerSecond, LongFunction<HttpRequest> request) {
+}
@@ -0,0 +1,82 @@
+package com.likelion.basecode.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 시나리오별 지연 분포(마이크로초)와 결과 수
+// 지연은 요청이 "시작됐어야 하는 시각"부터 잼 -> 앱이 밀려서 늦게 보낸 요청의 대기 시간도 포함 (coordinated omission 보정)
+class ScenarioStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    void sent() {
+        sent.increment();
+    }
+
+    void completed(long intendedStartNanos, int status) {
+        record(intendedStartNanos);
+        if (status >= 200 && status < 400) {
+            succeeded.increment();
+        } else {
+            failed.increment();
+        }
+        outcomes.computeIfAbsent(Integer.toString(status), key -> new LongAdder()).increment();
+    }
+
+    void failed(long intendedStartNanos, Throwable error) {
+        record(intendedStartNanos);
+        failed.increment();
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        outcomes.computeIfAbsent(cause.getClass().getSimpleName(), key -> new LongAdder()).increment();
+    }
+
+    // 동시 대기 요청 상한을 넘어서 보내지 못한 요청
+    void dropped() {
+        dropped.increment();
+        outcomes.computeIfAbsent("dropped", key -> new LongAdder()).increment();
+    }
+
+    private void record(long intendedStartNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        latency.recordValue(Math.min(Math.max(micros, 1), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    long sentCount() {
+        return sent.sum();
+    }
+
+    long succeededCount() {
+        return succeeded.sum();
+    }
+
+    long failedCount() {
+        return failed.sum();
+    }
+
+    long droppedCount() {
+        return dropped.sum();
+    }
+
+    Map<String, Long> outcomes() {
+        Map<String, Long> result = new TreeMap<>();
+        outcomes.forEach((key, count) -> result.put(key, count.sum()));
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+package com.likelion.basecode.loadtest.fake;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// KOBIS와 태그 추천 API의 고정 응답
+// 추천 태그는 박스오피스 영화명에 포함된 단어라서 /movies/recommend 가 항상 결과를 돌려줌
+public final class FakeHandlers {
+
+    public static final String BOX_OFFICE_PATH = "/kobis/searchDailyBoxOfficeList.json";
+    public static final String MOVIE_INFO_PATH = "/kobis/searchMovieInfo.json";
+    public static final String TAG_PATH = "/recommend";
+
+    private static final List<String> WORDS = List.of("액션", "드라마", "코미디", "스릴러", "가족", "모험", "로맨스", "공포");
+    private static final int BOX_OFFICE_SIZE = 10;
+
+    private FakeHandlers() {
+    }
+
+    public static HttpHandler kobis() {
+        byte[] boxOffice = IntStream.range(0, BOX_OFFICE_SIZE)
+                .mapToObj(i -> String.format("{\"movieCd\":\"2024%04d\",\"movieNm\":\"%s %s %d\",\"openDt\":\"2024-01-01\","
+                        + "\"repNationNm\":\"한국\"}", i, WORDS.get(i % WORDS.size()), WORDS.get((i + 3) % WORDS.size()), i))
+                .collect(Collectors.joining(",", "{\"boxOfficeResult\":{\"dailyBoxOfficeList\":[", "]}}"))
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] movieInfo = "{\"movieInfoResult\":{\"movieInfo\":{\"genres\":[{\"genreNm\":\"드라마\"},{\"genreNm\":\"액션\"}]}}}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        return exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals(BOX_OFFICE_PATH)) {
+                json(exchange, boxOffice);
+            } else if (path.equals(MOVIE_INFO_PATH)) {
+                json(exchange, movieInfo);
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+        };
+    }
+
+    // 본문 해시로 태그 3개를 고름 -> 같은 본문이면 같은 태그
+    public static HttpHandler tagRecommendation() {
+        return exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            int seed = Math.abs(Arrays.hashCode(body) % WORDS.size());
+            String tags = IntStream.range(0, 3)
+                    .mapToObj(i -> "\"" + WORDS.get((seed + i) % WORDS.size()) + "\"")
+                    .collect(Collectors.joining(",", "{\"tags\":[", "]}"));
+            json(exchange, tags.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    static void json(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
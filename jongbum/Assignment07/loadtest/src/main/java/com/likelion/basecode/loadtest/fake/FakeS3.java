@@ -0,0 +1,147 @@
+package com.likelion.basecode.loadtest.fake;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 메모리에 객체를 저장하는 S3 대역 (path-style: /{bucket}/{key})
+// 앱이 사용하는 PUT/GET/HEAD/DELETE만 지원 (multipart 업로드는 501)
+public class FakeS3 implements HttpHandler {
+
+    private static final String STREAMING_PAYLOAD = "STREAMING-AWS4-HMAC-SHA256-PAYLOAD";
+
+    private final String bucket;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    public FakeS3(String bucket) {
+        this.bucket = bucket;
+    }
+
+    public int objectCount() {
+        return objects.size();
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String prefix = "/" + bucket + "/";
+        if (!path.startsWith(prefix) || exchange.getRequestURI().getQuery() != null
+                && exchange.getRequestURI().getQuery().contains("upload")) {
+            FakeServer.drain(exchange);
+            error(exchange, 501, "NotImplemented");
+            return;
+        }
+
+        String key = path.substring(prefix.length());
+        switch (exchange.getRequestMethod()) {
+            case "PUT" -> put(exchange, key);
+            case "GET" -> get(exchange, key, true);
+            case "HEAD" -> get(exchange, key, false);
+            case "DELETE" -> {
+                objects.remove(key);
+                exchange.sendResponseHeaders(204, -1);
+            }
+            default -> error(exchange, 405, "MethodNotAllowed");
+        }
+    }
+
+    private void put(HttpExchange exchange, String key) throws IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            // AWS SDK v1은 PutObject 본문을 aws-chunked 형식(청크마다 서명)으로 보냄
+            body = STREAMING_PAYLOAD.equals(exchange.getRequestHeaders().getFirst("x-amz-content-sha256"))
+                    ? decodeAwsChunked(in)
+                    : in.readAllBytes();
+        }
+
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        StoredObject object = new StoredObject(body, contentType != null ? contentType : "application/octet-stream", md5(body));
+        objects.put(key, object);
+
+        // SDK가 업로드한 내용의 MD5와 ETag를 비교함
+        exchange.getResponseHeaders().set("ETag", object.eTag());
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void get(HttpExchange exchange, String key, boolean withBody) throws IOException {
+        StoredObject object = objects.get(key);
+        if (object == null) {
+            if (withBody) {
+                error(exchange, 404, "NoSuchKey");
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", object.contentType());
+        exchange.getResponseHeaders().set("ETag", object.eTag());
+        if (!withBody) {
+            // HEAD 응답은 본문 없이 길이만 알려줌
+            exchange.getResponseHeaders().set("Content-Length", Integer.toString(object.body().length));
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(200, object.body().length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(object.body());
+        }
+    }
+
+    private static void error(HttpExchange exchange, int status, String code) throws IOException {
+        byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?><Error><Code>" + code + "</Code>"
+                + "<Message>" + code + "</Message><RequestId>fake</RequestId></Error>").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // "{hex 크기};chunk-signature=...\r\n{데이터}\r\n" 반복, 크기 0인 청크로 끝남
+    private static byte[] decodeAwsChunked(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        while (true) {
+            String header = readLine(in);
+            int separator = header.indexOf(';');
+            int size = Integer.parseInt(separator >= 0 ? header.substring(0, separator) : header, 16);
+            if (size == 0) {
+                return out.toByteArray();
+            }
+            out.write(in.readNBytes(size));
+            readLine(in);
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            if (b != '\r') {
+                line.append((char) b);
+            }
+        }
+        return line.toString();
+    }
+
+    private static String md5(byte[] body) {
+        try {
+            return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record StoredObject(byte[] body, String contentType, String eTag) {
+    }
+}
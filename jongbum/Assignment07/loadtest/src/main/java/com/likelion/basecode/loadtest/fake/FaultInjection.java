@@ -0,0 +1,21 @@
+package com.likelion.basecode.loadtest.fake;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// 가짜 외부 서비스의 응답 지연과 오류 주입 설정
+public record FaultInjection(
+        int latencyMs,      // 기본 지연
+        int jitterMs,       // 0 ~ jitterMs 사이의 추가 지연
+        double errorRate    // 503으로 응답할 확률 (0.0 ~ 1.0)
+) {
+    void delay() throws InterruptedException {
+        int jitter = jitterMs > 0 ? ThreadLocalRandom.current().nextInt(jitterMs + 1) : 0;
+        if (latencyMs + jitter > 0) {
+            Thread.sleep(latencyMs + jitter);
+        }
+    }
+
+    boolean shouldFail() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+}
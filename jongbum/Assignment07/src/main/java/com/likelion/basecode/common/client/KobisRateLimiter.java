@@ -0,0 +1,149 @@
+package com.likelion.basecode.common.client;
+
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// KOBIS 호출용 토큰 버킷 (fetchDailyBoxOffice, fetchMovieDetail 공용)
+// - 토큰이 없으면 max-wait-ms 까지만 기다리고 그 이상이면 바로 거절 (호출자는 캐시된 데이터로 대체)
+// - 429/5xx/타임아웃이면 초당 허용량을 줄이고, 성공이 이어지면 조금씩 원래 속도로 회복 (AIMD)
+// - 일일 호출 한도는 KOBIS 기준 날짜(KST)마다 초기화, 남은 호출 수는 kobis.quota.remaining 게이지로 노출
+// 호출 수는 인스턴스별로 세므로 여러 대를 띄우면 daily-quota를 인스턴스 수로 나눠서 설정
+@Slf4j
+@Component
+public class KobisRateLimiter {
+
+    private static final ZoneId KOBIS_ZONE = ZoneId.of("Asia/Seoul");
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double maxPermitsPerSecond;
+    private final double minPermitsPerSecond;
+    private final double burst;
+    private final long maxWaitNanos;
+    private final int dailyQuota;
+    private final double backoffFactor;
+    private final double recoveryStep;
+
+    private final Counter rejected;
+    private final Counter throttled;
+
+    // 아래 상태는 모두 this 잠금 아래에서만 변경
+    private double permitsPerSecond;
+    private double storedPermits;
+    private long lastRefillNanos;
+    private LocalDate quotaDate;
+    private int usedToday;
+
+    public KobisRateLimiter(@Value("${movie-api.rate-limit.permits-per-second:10}") double maxPermitsPerSecond,
+                            @Value("${movie-api.rate-limit.min-permits-per-second:0.5}") double minPermitsPerSecond,
+                            @Value("${movie-api.rate-limit.burst:10}") double burst,
+                            @Value("${movie-api.rate-limit.max-wait-ms:500}") long maxWaitMs,
+                            @Value("${movie-api.rate-limit.daily-quota:3000}") int dailyQuota,
+                            @Value("${movie-api.rate-limit.backoff-factor:0.5}") double backoffFactor,
+                            @Value("${movie-api.rate-limit.recovery-step:0.5}") double recoveryStep,
+                            MeterRegistry meterRegistry) {
+        this.maxPermitsPerSecond = maxPermitsPerSecond;
+        this.minPermitsPerSecond = minPermitsPerSecond;
+        this.burst = burst;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.dailyQuota = dailyQuota;
+        this.backoffFactor = backoffFactor;
+        this.recoveryStep = recoveryStep;
+
+        this.permitsPerSecond = maxPermitsPerSecond;
+        this.storedPermits = burst;
+        this.lastRefillNanos = System.nanoTime();
+        this.quotaDate = LocalDate.now(KOBIS_ZONE);
+
+        Gauge.builder("kobis.quota.remaining", this, KobisRateLimiter::remainingQuota)
+                .description("오늘 남은 KOBIS 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("kobis.rate.permits-per-second", this, KobisRateLimiter::currentRate)
+                .description("현재 KOBIS 초당 호출 허용량")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("kobis.calls.rejected").register(meterRegistry);
+        this.throttled = Counter.builder("kobis.calls.throttled").register(meterRegistry);
+    }
+
+    // 호출 한 번의 허가를 얻음 (필요하면 잠깐 대기), 한도 초과나 대기 시간 초과면 BusinessException
+    public void acquire() {
+        long waitNanos;
+        synchronized (this) {
+            rollQuotaDate();
+            if (usedToday >= dailyQuota) {
+                rejected.increment();
+                throw new BusinessException(ErrorCode.MOVIE_API_QUOTA_EXHAUSTED,
+                        ErrorCode.MOVIE_API_QUOTA_EXHAUSTED.getMessage() + dailyQuota);
+            }
+
+            refill(System.nanoTime());
+            // 토큰을 미리 가져가고(음수 허용) 부족분만큼 기다림 -> 대기 중인 호출들이 순서대로 간격을 두고 나감
+            waitNanos = storedPermits >= 1 ? 0 : (long) ((1 - storedPermits) / permitsPerSecond * NANOS_PER_SECOND);
+            if (waitNanos > maxWaitNanos) {
+                rejected.increment();
+                throw new BusinessException(ErrorCode.MOVIE_API_RATE_LIMITED, ErrorCode.MOVIE_API_RATE_LIMITED.getMessage());
+            }
+            storedPermits -= 1;
+            usedToday++;
+        }
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+    }
+
+    // 정상 응답 -> 허용량을 조금씩 회복
+    public synchronized void onSuccess() {
+        if (permitsPerSecond < maxPermitsPerSecond) {
+            refill(System.nanoTime());
+            permitsPerSecond = Math.min(maxPermitsPerSecond, permitsPerSecond + recoveryStep);
+        }
+    }
+
+    // 429/5xx/타임아웃 -> 허용량을 줄이고 쌓인 토큰도 버림
+    public synchronized void onThrottled(String reason) {
+        refill(System.nanoTime());
+        double previous = permitsPerSecond;
+        permitsPerSecond = Math.max(minPermitsPerSecond, permitsPerSecond * backoffFactor);
+        storedPermits = Math.min(storedPermits, 0);
+        throttled.increment();
+        log.warn("KOBIS 호출 속도 감소 ({}): {} -> {} req/s", reason, previous, permitsPerSecond);
+    }
+
+    // 백필처럼 미뤄도 되는 작업이 한도를 다 쓰지 않도록 남은 호출 수 확인
+    public synchronized boolean hasQuotaAbove(int reserve) {
+        rollQuotaDate();
+        return dailyQuota - usedToday > reserve;
+    }
+
+    public synchronized int remainingQuota() {
+        rollQuotaDate();
+        return Math.max(0, dailyQuota - usedToday);
+    }
+
+    public synchronized double currentRate() {
+        return permitsPerSecond;
+    }
+
+    private void refill(long now) {
+        storedPermits = Math.min(burst, storedPermits + (now - lastRefillNanos) * permitsPerSecond / NANOS_PER_SECOND);
+        lastRefillNanos = now;
+    }
+
+    private void rollQuotaDate() {
+        LocalDate today = LocalDate.now(KOBIS_ZONE);
+        if (!today.equals(quotaDate)) {
+            quotaDate = today;
+            usedToday = 0;
+        }
+    }
+}
@@ -8,6 +8,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 import java.net.URI;
@@ -24,6 +26,7 @@ import com.fasterxml.jackson.databind.SerializationFeature; // SerializationFeat
 public class MovieSearchClient {
 
     private final RestTemplate restTemplate;
+    private final KobisRateLimiter rateLimiter;
 
     // ObjectMapper는 JSON 직렬화/역직렬화에 사용
     private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
@@ -52,7 +55,7 @@ public class MovieSearchClient {
                 .toUri();
 
         // 외부 API 호출
-        ResponseEntity<Map> response = restTemplate.getForEntity(uri, Map.class);
+        ResponseEntity<Map> response = get(uri);
 
         if (response.getBody() != null) {
             try {
@@ -106,7 +109,7 @@ public class MovieSearchClient {
                 .build()
                 .toUri();
 
-        ResponseEntity<Map> response = restTemplate.getForEntity(uri, Map.class);
+        ResponseEntity<Map> response = get(uri);
         Map<String, Object> body = Optional.ofNullable(response.getBody())
                 .orElseThrow(() -> new BusinessException(ErrorCode.MOVIE_API_RESPONSE_NULL, "영화 상세 정보 응답이 null입니다."));
 
@@ -123,6 +126,24 @@ public class MovieSearchClient {
         return new MovieInfoResponseDto(genreAlt);
     }
 
+    // 모든 KOBIS 호출은 이 메서드로만 -> 호출 속도/일일 한도 제한과 429/5xx 시 속도 감소
+    private ResponseEntity<Map> get(URI uri) {
+        rateLimiter.acquire();
+        try {
+            ResponseEntity<Map> response = restTemplate.getForEntity(uri, Map.class);
+            rateLimiter.onSuccess();
+            return response;
+        } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode().value() == 429 || e.getStatusCode().is5xxServerError()) {
+                rateLimiter.onThrottled("HTTP " + e.getStatusCode().value());
+            }
+            throw e;
+        } catch (ResourceAccessException e) {
+            rateLimiter.onThrottled("I/O " + e.getMessage());
+            throw e;
+        }
+    }
+
     // 위에서 설명한 상황과 유사하다고 생각하면 됨. (정확히는 Map<String, Object> 캐스팅은 컴파일러가 타입 안정성을 확인할 수 없기 때문)
     @SuppressWarnings("unchecked")
     private Map<String, Object> castToMap(Object obj, ErrorCode errorCode) {
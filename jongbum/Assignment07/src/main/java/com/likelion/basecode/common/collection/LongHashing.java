@@ -0,0 +1,15 @@
+package com.likelion.basecode.common.collection;
+
+// long 키 해시 - 연속된 id도 칸이 고르게 퍼지도록 섞음
+final class LongHashing {
+
+    private static final long PHI = 0x9E3779B97F4A7C15L;
+
+    private LongHashing() {
+    }
+
+    static int mix(long key) {
+        long h = key * PHI;
+        return (int) (h ^ (h >>> 32) ^ (h >>> 16));
+    }
+}
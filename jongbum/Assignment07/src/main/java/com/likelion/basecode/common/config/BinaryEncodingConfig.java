@@ -0,0 +1,53 @@
+package com.likelion.basecode.common.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.likelion.basecode.common.template.ApiResTemplate;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// ApiResTemplate 응답의 바이너리 인코딩 (Accept 헤더로 선택, 기본은 JSON)
+// - application/cbor: CBOR
+// - application/x-jackson-smile: Smile (필드 이름 back-reference로 반복되는 목록 응답이 작음)
+// 스프링 기본 컨버터 목록에서 JSON 뒤에 있으므로 Accept가 없거나 */* 이면 그대로 JSON
+// 컨트롤러 응답과 같은 모듈/설정을 쓰도록 스프링 부트의 Jackson2ObjectMapperBuilder로 생성
+@Configuration
+public class BinaryEncodingConfig implements WebMvcConfigurer {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    // 같은 URL이 Accept에 따라 다른 본문을 주므로 캐시가 표현별로 저장하도록 Vary: Accept
+    // (ETag도 표현별로 달라야 하므로 조건부 조회 컨트롤러는 RepresentationETag로 만든 값을 사용)
+    // 304 응답(checkNotModified)에도 붙도록 핸들러 실행 전에 추가
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (handler instanceof HandlerMethod handlerMethod
+                        && ApiResTemplate.class.isAssignableFrom(handlerMethod.getMethod().getReturnType())) {
+                    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                }
+                return true;
+            }
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.likelion.basecode.common.config;
+
+import com.likelion.basecode.common.jfr.ConnectionHoldJfrListener;
+import com.likelion.basecode.common.sql.SqlStatsListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "sql.monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceProxyConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    // 애플리케이션이 사용하는 DataSource("dataSource")를 SQL 집계용 프록시로 감쌈 (Hikari 풀은 그대로, unwrap으로 접근 가능)
+    // 읽기/쓰기 라우팅을 켜면 primary/replica 풀도 DataSource 빈이지만, 바깥쪽 하나만 감싸야 두 번 세지 않음
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName)
+                        || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                SqlStatsListener listener = new SqlStatsListener();
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener)
+                        .methodListener(listener)
+                        // 커넥션 점유 시간 JFR 이벤트 (녹화 중일 때만 기록)
+                        .methodListener(new ConnectionHoldJfrListener())
+                        .proxyResultSet()
+                        .build();
+            }
+        };
+    }
+}
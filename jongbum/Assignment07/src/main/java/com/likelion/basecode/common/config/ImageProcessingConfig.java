@@ -0,0 +1,26 @@
+package com.likelion.basecode.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ImageProcessingConfig {
+
+    // 이미지 디코딩/리사이즈/업로드 전용 스레드 풀
+    // 동시에 디코딩되는 이미지 수를 풀 크기로 제한해서 전체 메모리 사용량의 상한을 둠
+    @Bean(name = "imageProcessingExecutor")
+    public ThreadPoolTaskExecutor imageProcessingExecutor(
+            @Value("${image.processing.pool-size:2}") int poolSize,
+            @Value("${image.processing.queue-capacity:32}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,26 @@
+package com.likelion.basecode.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class MovieCatalogConfig {
+
+    // 박스오피스 백필 전용 스레드 풀 (날짜 하나 = 작업 하나, 실제 호출 속도는 MovieCatalogBackfill에서 제한)
+    // 백필 한 번의 날짜가 모두 대기열에 들어가도록 큐 크기는 최대 기간 이상
+    @Bean(name = "movieBackfillExecutor")
+    public ThreadPoolTaskExecutor movieBackfillExecutor(
+            @Value("${movie.catalog.backfill.parallelism:4}") int parallelism,
+            @Value("${movie.catalog.backfill.max-days:366}") int maxDays
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(maxDays);
+        executor.setThreadNamePrefix("movie-backfill-");
+        executor.initialize();
+        return executor;
+    }
+}
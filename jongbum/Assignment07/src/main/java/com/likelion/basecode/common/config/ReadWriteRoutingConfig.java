@@ -0,0 +1,80 @@
+package com.likelion.basecode.common.config;
+
+import com.likelion.basecode.common.datasource.ReadWriteRoutingDataSource;
+import com.likelion.basecode.common.datasource.ReadYourWritesFilter;
+import com.likelion.basecode.common.datasource.ReplicaPool;
+import com.likelion.basecode.common.datasource.ReplicaRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// 읽기/쓰기 DataSource 분리 (datasource.routing.enabled=true 일 때만)
+// primary는 spring.datasource.*, replica는 datasource.routing.replicas[*] 로 설정
+// 꺼져 있으면 스프링 부트 기본 DataSource 하나만 사용
+@Configuration
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPool replicaPool(ReplicaRoutingProperties properties, DataSourceProperties dataSourceProperties,
+                                   MeterRegistry meterRegistry) {
+        List<ReplicaPool.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            ReplicaRoutingProperties.Replica replica = properties.replicas().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.url());
+            dataSource.setUsername(replica.username() != null ? replica.username() : dataSourceProperties.getUsername());
+            dataSource.setPassword(replica.password() != null ? replica.password() : dataSourceProperties.getPassword());
+            dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            dataSource.setMaximumPoolSize(properties.replicaPoolSize());
+            dataSource.setReadOnly(true);
+            // replica가 내려가 있어도 앱 기동은 되도록 풀 생성 시 접속하지 않음
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.add(new ReplicaPool.Replica("replica-" + i, dataSource));
+        }
+        return new ReplicaPool(replicas, properties.maxLagSeconds(), meterRegistry);
+    }
+
+    // JPA, Flyway 등 애플리케이션 전체가 사용하는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(primaryDataSource, replicaPool);
+        routingDataSource.afterPropertiesSet();
+        // 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션을 얻음 -> 그때는 readOnly 여부가 정해져 있음
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaRoutingProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(properties.stickyWindowSeconds()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -1,15 +1,28 @@
 package com.likelion.basecode.common.config;
 
+import com.likelion.basecode.common.jfr.OutboundCallJfrInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 @Configuration
 public class RestTemplateConfig {
     // 스프링 컨테이너에 의해 관리되는 재사용 가능한 소프트웨어 컴포넌트
     @Bean
     // RestTemplate 빈을 생성해 스프링 컨테이너에 등록
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    // 연결/응답 대기 시간 제한 -> 외부 API가 멈춰도 요청 스레드(와 박스오피스 스냅샷 잠금)를 무한정 붙잡지 않음
+    public RestTemplate restTemplate(@Value("${http-client.connect-timeout-ms:2000}") long connectTimeoutMillis,
+                                     @Value("${http-client.read-timeout-ms:5000}") long readTimeoutMillis) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(connectTimeoutMillis));
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        // 외부 호출마다 JFR 이벤트 기록 (녹화 중이 아니면 비용 없음)
+        restTemplate.getInterceptors().add(new OutboundCallJfrInterceptor());
+        return restTemplate;
     }
 }
@@ -3,14 +3,18 @@ package com.likelion.basecode.common.config;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.likelion.basecode.common.jfr.S3RequestJfrHandler;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
     @Value("${cloud.aws.credentials.access-key}")
     private String accessKey;
@@ -21,13 +25,27 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // MinIO, LocalStack 같은 S3 호환 저장소를 쓸 때만 지정 (예: http://localhost:9000)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     public AmazonS3 amazonS3() {
         BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
 
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(region)
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
                 .withCredentials(new AWSStaticCredentialsProvider(credentials))
+                // S3 요청마다 JFR 이벤트 기록 (multipart는 파트별)
+                .withRequestHandlers(new S3RequestJfrHandler());
+
+        if (endpoint.isBlank()) {
+            return builder.withRegion(region).build();
+        }
+
+        // 로컬 S3 호환 저장소는 가상 호스트 방식 버킷 주소를 지원하지 않으므로 path-style 사용
+        return builder
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                .withPathStyleAccessEnabled(true)
                 .build();
     }
 }
@@ -0,0 +1,10 @@
+package com.likelion.basecode.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 (사용자 삭제 작업, replica 상태 확인, 태그 캐시 무효화, 만료된 Idempotency-Key 정리)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,25 @@
+package com.likelion.basecode.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class StorageConfig {
+
+    // S3 multipart 업로드의 파트 전송 전용 스레드 풀 (업로드 하나당 동시 파트 수는 S3Uploader에서 별도로 제한)
+    @Bean(name = "storageUploadExecutor")
+    public ThreadPoolTaskExecutor storageUploadExecutor(
+            @Value("${storage.upload.pool-size:8}") int poolSize,
+            @Value("${storage.upload.queue-capacity:64}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("storage-upload-");
+        executor.initialize();
+        return executor;
+    }
+}
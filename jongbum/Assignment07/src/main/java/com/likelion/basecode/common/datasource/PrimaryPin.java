@@ -0,0 +1,22 @@
+package com.likelion.basecode.common.datasource;
+
+// 현재 요청의 읽기도 primary로 보내야 하는지 (쓰기 직후 read-your-writes 보장)
+public final class PrimaryPin {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryPin() {
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinned() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+}
@@ -0,0 +1,37 @@
+package com.likelion.basecode.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+// @Transactional(readOnly = true) 트랜잭션은 replica로, 나머지(쓰기 트랜잭션, 트랜잭션 없음)는 primary로
+// readOnly 여부는 트랜잭션 시작 후에 정해지므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaPool replicaPool) {
+        this.replicaPool = replicaPool;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicaPool.replicas().forEach(replica -> targets.put(replica.name(), replica.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PrimaryPin.isPinned()) {
+            return PRIMARY;
+        }
+        return replicaPool.next()
+                .map(ReplicaPool.Replica::name)
+                .orElse(PRIMARY);
+    }
+}
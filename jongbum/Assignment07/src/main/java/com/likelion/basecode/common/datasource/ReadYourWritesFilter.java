@@ -0,0 +1,66 @@
+package com.likelion.basecode.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+// 쓰기 요청을 보낸 클라이언트는 일정 시간 동안 읽기도 primary에서 처리 (방금 쓴 내용이 replica에 아직 없을 수 있음)
+// 고정 기간을 쿠키(만료 시각)로 들고 다니므로 서버에 상태가 없고, 어느 인스턴스로 가도 같은 규칙이 적용됨
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "rw-primary-until";
+    private static final Set<String> SAFE_METHODS = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+
+    private final long stickyWindowMillis;
+
+    public ReadYourWritesFilter(long stickyWindowSeconds) {
+        this.stickyWindowMillis = stickyWindowSeconds * 1000;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        // 응답 본문이 쓰이기 전에 쿠키를 붙여야 하므로 요청을 처리하기 전에 설정
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + stickyWindowMillis));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, stickyWindowMillis / 1000));
+            response.addCookie(cookie);
+            PrimaryPin.pin();
+        } else if (pinnedUntil(request) > now) {
+            PrimaryPin.pin();
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PrimaryPin.clear();
+        }
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return 0;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,132 @@
+package com.likelion.basecode.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// replica 커넥션 풀 목록과 상태 (주기적으로 접속 가능 여부와 복제 지연 확인)
+// 사용할 수 있는 replica가 없으면 읽기도 primary로 감
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+
+    private final List<Replica> replicas;
+    private final long maxLagSeconds;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaPool(List<Replica> replicas, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLagSeconds = maxLagSeconds;
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.lag.seconds", replica, r -> r.lagSeconds)
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    // 사용 가능한 replica를 돌아가면서 선택
+    public Optional<Replica> next() {
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return Optional.of(replica);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean available;
+            try {
+                Long lag = replicationLag(replica.dataSource());
+                // 복제가 멈춘 경우(지연 값이 NULL)도 제외
+                available = lag != null && lag <= maxLagSeconds;
+                replica.lagSeconds = lag != null ? lag : -1;
+            } catch (SQLException e) {
+                available = false;
+                replica.lagSeconds = -1;
+                log.debug("replica 상태 확인 실패: {} - {}", replica.name(), e.getMessage());
+            }
+
+            if (replica.available != available) {
+                log.warn("replica {} {} (lag={}s, 허용 {}s)", replica.name(), available ? "사용 재개" : "제외",
+                        replica.lagSeconds, maxLagSeconds);
+            }
+            replica.available = available;
+        }
+    }
+
+    // MySQL 8.0.22+ 는 SHOW REPLICA STATUS, 이전 버전은 SHOW SLAVE STATUS
+    // 복제 상태가 없으면(복제 구성이 아닌 읽기 엔드포인트) 지연 0으로 봄
+    private static Long replicationLag(HikariDataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(2);
+            try (ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+                return readLag(resultSet, "Seconds_Behind_Source");
+            } catch (SQLException e) {
+                try (ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+                    return readLag(resultSet, "Seconds_Behind_Master");
+                }
+            }
+        }
+    }
+
+    private static Long readLag(ResultSet resultSet, String column) throws SQLException {
+        if (!resultSet.next()) {
+            return 0L;
+        }
+        long lag = resultSet.getLong(column);
+        return resultSet.wasNull() ? null : lag;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource().close());
+    }
+
+    public static class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        // 첫 상태 확인 전까지는 사용 가능으로 봄 (기동 직후 읽기가 모두 primary로 몰리지 않게)
+        private volatile boolean available = true;
+        private volatile long lagSeconds;
+
+        public Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public HikariDataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean available() {
+            return available;
+        }
+    }
+}
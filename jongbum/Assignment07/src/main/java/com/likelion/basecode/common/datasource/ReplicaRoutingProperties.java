@@ -0,0 +1,32 @@
+package com.likelion.basecode.common.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// datasource.routing.* - 읽기 전용 트랜잭션을 보낼 replica 목록과 라우팅 정책
+@ConfigurationProperties(prefix = "datasource.routing")
+public record ReplicaRoutingProperties(
+        boolean enabled,
+        List<Replica> replicas,
+        Long maxLagSeconds,             // 복제 지연이 이보다 크면 해당 replica 제외
+        Long healthCheckIntervalMs,
+        Long stickyWindowSeconds,       // 쓰기 요청 뒤 이 시간 동안 같은 클라이언트의 읽기는 primary로
+        Integer replicaPoolSize
+) {
+    public ReplicaRoutingProperties {
+        replicas = replicas != null ? replicas : new ArrayList<>();
+        maxLagSeconds = maxLagSeconds != null ? maxLagSeconds : 5L;
+        healthCheckIntervalMs = healthCheckIntervalMs != null ? healthCheckIntervalMs : 5000L;
+        stickyWindowSeconds = stickyWindowSeconds != null ? stickyWindowSeconds : 5L;
+        replicaPoolSize = replicaPoolSize != null ? replicaPoolSize : 10;
+    }
+
+    public record Replica(
+            String url,
+            String username,
+            String password
+    ) {
+    }
+}
@@ -12,8 +12,34 @@ public enum ErrorCode {
     // 404
     MEMBER_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "해당 사용자가 없습니다. memberId = ", "NOT_FOUND_404"),
     POST_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "해당 게시글이 없습니다. postId = ", "NOT_FOUND_404"),
+    FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 파일이 없습니다. key = ", "FILE_NOT_FOUND_404"),
     TAG_RECOMMENDATION_EMPTY(HttpStatus.BAD_REQUEST, "추천 가능한 태그가 없습니다.", "TAG_RECOMMENDATION_EMPTY_400"),
     MOVIE_API_NO_RESULT(HttpStatus.NOT_FOUND, "해당 키워드로 검색된 영화가 없습니다.", "MOVIE_API_NO_RESULT_400"),
+    MEMBER_DELETION_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 사용자의 삭제 요청이 없습니다. memberId = ", "NOT_FOUND_404"),
+    TAG_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "해당 태그가 없습니다. tagId = ", "NOT_FOUND_404"),
+
+    // 400
+    IMAGE_INVALID(HttpStatus.BAD_REQUEST, "이미지 파일을 읽을 수 없습니다.", "IMAGE_INVALID_400"),
+    IMAGE_TOO_LARGE(HttpStatus.BAD_REQUEST, "이미지 해상도가 너무 큽니다. size = ", "IMAGE_TOO_LARGE_400"),
+    IMAGE_CONTENT_TYPE_UNSUPPORTED(HttpStatus.BAD_REQUEST, "지원하지 않는 이미지 형식입니다. contentType = ", "IMAGE_CONTENT_TYPE_400"),
+    IMAGE_KEY_INVALID(HttpStatus.BAD_REQUEST, "사용할 수 없는 이미지 키입니다. key = ", "IMAGE_KEY_INVALID_400"),
+    IMAGE_NOT_UPLOADED(HttpStatus.BAD_REQUEST, "이미지가 업로드되지 않았습니다. key = ", "IMAGE_NOT_UPLOADED_400"),
+    UPLOAD_STREAM_FAIL(HttpStatus.BAD_REQUEST, "업로드 요청을 끝까지 읽지 못했습니다.", "UPLOAD_STREAM_FAIL_400"),
+    MEMBER_DELETION_NOT_RETRYABLE(HttpStatus.BAD_REQUEST, "실패한 삭제 작업만 다시 실행할 수 있습니다. status = ", "MEMBER_DELETION_NOT_RETRYABLE_400"),
+    MOVIE_TARGET_DATE_INVALID(HttpStatus.BAD_REQUEST, "조회할 수 없는 박스오피스 날짜입니다. (yyyyMMdd, 집계 시작일부터 어제까지) targetDate = ", "MOVIE_TARGET_DATE_INVALID_400"),
+    MOVIE_BACKFILL_RANGE_INVALID(HttpStatus.BAD_REQUEST, "백필 기간이 올바르지 않습니다. ", "MOVIE_BACKFILL_RANGE_INVALID_400"),
+    STORAGE_OPERATION_UNSUPPORTED(HttpStatus.BAD_REQUEST, "현재 저장소에서 지원하지 않는 기능입니다. operation = ", "STORAGE_UNSUPPORTED_400"),
+    TAG_NAME_INVALID(HttpStatus.BAD_REQUEST, "태그 이름은 1~255자여야 합니다. name = ", "TAG_NAME_INVALID_400"),
+    TAG_MERGE_INVALID(HttpStatus.BAD_REQUEST, "병합할 태그가 올바르지 않습니다. ", "TAG_MERGE_INVALID_400"),
+    IDEMPOTENCY_KEY_INVALID(HttpStatus.BAD_REQUEST, "Idempotency-Key는 1~255자여야 합니다. length = ", "IDEMPOTENCY_KEY_INVALID_400"),
+
+    // 409
+    MOVIE_BACKFILL_RUNNING(HttpStatus.CONFLICT, "이미 실행 중인 박스오피스 백필이 있습니다.", "MOVIE_BACKFILL_RUNNING_409"),
+    TAG_NAME_DUPLICATE(HttpStatus.CONFLICT, "이미 같은 이름의 태그가 있습니다. name = ", "TAG_NAME_DUPLICATE_409"),
+    IDEMPOTENCY_KEY_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.", "IDEMPOTENCY_KEY_IN_PROGRESS_409"),
+
+    // 422
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "이미 다른 요청에 사용된 Idempotency-Key입니다.", "IDEMPOTENCY_KEY_REUSED_422"),
 
     // 500
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 에러가 발생했습니다", "INTERNAL_SERVER_ERROR_500"),
@@ -21,7 +47,15 @@ public enum ErrorCode {
     MOVIE_API_BODY_MALFORMED(HttpStatus.INTERNAL_SERVER_ERROR, "영화 API의 body 항목이 잘못되었습니다.", "MOVIE_API_500"),
     MOVIE_API_ITEMS_MALFORMED(HttpStatus.INTERNAL_SERVER_ERROR, "영화 API의 items 항목이 잘못되었습니다.", "MOVIE_API_500"),
     MOVIE_API_ITEM_MALFORMED(HttpStatus.INTERNAL_SERVER_ERROR, "영화 API의 item 항목이 잘못되었습니다.", "MOVIE_API_500"),
-    S3_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "S3 파일 업로드에 실패했습니다.", "S3_UPLOAD_FAIL_500");
+    S3_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "S3 파일 업로드에 실패했습니다.", "S3_UPLOAD_FAIL_500"),
+    IMAGE_PROCESSING_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 처리에 실패했습니다.", "IMAGE_PROCESSING_FAIL_500"),
+    STORAGE_IO_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "파일 저장소 입출력에 실패했습니다.", "STORAGE_IO_FAIL_500"),
+
+    // 503
+    IMAGE_PROCESSING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.", "IMAGE_PROCESSING_BUSY_503"),
+    MOVIE_API_RATE_LIMITED(HttpStatus.SERVICE_UNAVAILABLE, "영화 API 호출이 많습니다. 잠시 후 다시 시도해주세요.", "MOVIE_API_RATE_LIMITED_503"),
+    MOVIE_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "영화 API 호출이 최근 실패해 잠시 후 다시 시도합니다. targetDate = ", "MOVIE_API_UNAVAILABLE_503"),
+    MOVIE_API_QUOTA_EXHAUSTED(HttpStatus.SERVICE_UNAVAILABLE, "오늘 영화 API 호출 한도를 모두 사용했습니다. quota = ", "MOVIE_API_QUOTA_EXHAUSTED_503");
 
     private final HttpStatus httpStatus;
     private final String message;
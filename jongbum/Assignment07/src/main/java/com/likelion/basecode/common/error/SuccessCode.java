@@ -13,12 +13,20 @@ public enum SuccessCode {
     GET_SUCCESS(HttpStatus.OK, "성공적으로 조회했습니다."),
     MEMBER_UPDATE_SUCCESS(HttpStatus.OK, "사용자가 성공적으로 수정되었습니다."),
     POST_UPDATE_SUCCESS(HttpStatus.OK, "글이 성공적으로 수정되었습니다."),
-    MEMBER_DELETE_SUCCESS(HttpStatus.OK, "사용자가 성공적으로 삭제되었습니다."),
     POST_DELETE_SUCCESS(HttpStatus.OK, "글이 성공적으로 삭제되었습니다."),
+    TAG_UPDATE_SUCCESS(HttpStatus.OK, "태그가 성공적으로 수정되었습니다."),
+    TAG_DELETE_SUCCESS(HttpStatus.OK, "태그가 성공적으로 삭제되었습니다."),
+    TAG_MERGE_SUCCESS(HttpStatus.OK, "태그가 성공적으로 병합되었습니다."),
 
     // 201
     MEMBER_SAVE_SUCCESS(HttpStatus.CREATED, "사용자가 성공적으로 생성되었습니다."),
-    POST_SAVE_SUCCESS(HttpStatus.CREATED, "글이 성공적으로 생성되었습니다.");
+    POST_SAVE_SUCCESS(HttpStatus.CREATED, "글이 성공적으로 생성되었습니다."),
+    IMAGE_UPLOAD_URL_SUCCESS(HttpStatus.CREATED, "이미지 업로드 URL이 발급되었습니다."),
+    IMAGE_UPLOAD_SUCCESS(HttpStatus.CREATED, "이미지가 성공적으로 업로드되었습니다."),
+    TAG_SAVE_SUCCESS(HttpStatus.CREATED, "태그가 성공적으로 생성되었습니다."),
+
+    // 202
+    MEMBER_DELETE_ACCEPTED(HttpStatus.ACCEPTED, "사용자 삭제가 요청되었습니다. 게시글과 이미지는 순차적으로 삭제됩니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
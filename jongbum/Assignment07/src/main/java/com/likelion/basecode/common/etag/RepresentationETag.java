@@ -0,0 +1,55 @@
+package com.likelion.basecode.common.etag;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// ApiResTemplate 응답은 Accept에 따라 JSON/CBOR/Smile 본문이 달라지는데(BinaryEncodingConfig) 강한 ETag는 바이트까지 같은 본문에만 쓸 수 있음
+// -> CBOR/Smile로 응답할 요청이면 ETag 끝에 -cbor/-smile을 붙여 표현마다 다른 ETag 사용 (JSON은 그대로)
+public final class RepresentationETag {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private RepresentationETag() {
+    }
+
+    public static String of(String eTag, WebRequest webRequest) {
+        String suffix = suffix(webRequest.getHeader(HttpHeaders.ACCEPT));
+        return suffix == null ? eTag : eTag.substring(0, eTag.length() - 1) + "-" + suffix + "\"";
+    }
+
+    // 메시지 컨버터 선택과 같은 순서(q가 높고 구체적인 타입 먼저)로 Accept를 보고 응답 형식 결정, JSON이면 null
+    static String suffix(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        MimeTypeUtils.sortBySpecificity(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)) {
+                return "cbor";
+            }
+            if (SMILE.equalsTypeAndSubtype(mediaType)) {
+                return "smile";
+            }
+            // */*, application/* 는 컨버터 목록에서 앞에 있는 JSON으로 응답
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
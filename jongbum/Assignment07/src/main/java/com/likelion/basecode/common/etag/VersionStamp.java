@@ -0,0 +1,15 @@
+package com.likelion.basecode.common.etag;
+
+// 목록 응답의 변경 여부를 판단하기 위한 요약 값 (행 개수, 최대 id, @Version 합계)
+// 엔티티를 로딩하지 않고 집계 쿼리 한 번으로 만들어지며, 셋 중 하나라도 바뀌면 ETag가 달라짐
+public record VersionStamp(
+        Long count,
+        Long maxId,
+        Long versionSum
+) {
+    public String toETag(String prefix) {
+        return "\"" + prefix + "-" + Long.toHexString(count)
+                + "-" + Long.toHexString(maxId)
+                + "-" + Long.toHexString(versionSum) + "\"";
+    }
+}
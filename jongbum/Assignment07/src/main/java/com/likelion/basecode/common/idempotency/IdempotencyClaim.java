@@ -0,0 +1,8 @@
+package com.likelion.basecode.common.idempotency;
+
+// 이 요청이 Idempotency-Key를 처리할 권한을 얻었음을 나타냄 (IdempotencyService.complete에 전달)
+public record IdempotencyClaim(
+        String keyHash,
+        long ownerToken
+) {
+}
@@ -0,0 +1,41 @@
+package com.likelion.basecode.common.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Idempotency-Key 하나의 처리 상태
+// 행 추가는 IdempotencyRecordRepository.insertIfAbsent로만 (같은 키 동시 요청 중 하나만 성공)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_record")
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "key_hash", length = 64)
+    private String keyHash;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    // 처리 중인 요청 식별값 - 임대 시간이 지나 다른 요청이 넘겨받으면 바뀌므로 이전 요청은 완료 처리하지 못함
+    @Column(name = "owner_token", nullable = false)
+    private long ownerToken;
+
+    @Column(name = "resource_id")
+    private Long resourceId;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,59 @@
+package com.likelion.basecode.common.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // 키가 없을 때만 IN_PROGRESS로 추가, 추가되면 1 (이미 있으면 0)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO idempotency_record " +
+            "(key_hash, request_hash, status, owner_token, resource_id, locked_until, expires_at) " +
+            "VALUES (:keyHash, :requestHash, 'IN_PROGRESS', :ownerToken, NULL, :lockedUntil, :expiresAt)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("keyHash") String keyHash,
+                       @Param("requestHash") String requestHash,
+                       @Param("ownerToken") long ownerToken,
+                       @Param("lockedUntil") LocalDateTime lockedUntil,
+                       @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 처리 중이던 요청의 임대 시간이 지났으면(서버 종료 등) 새 요청이 넘겨받음
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.ownerToken = :ownerToken, r.lockedUntil = :lockedUntil " +
+            "WHERE r.keyHash = :keyHash AND r.status = :status AND r.lockedUntil < :now")
+    int takeOver(@Param("keyHash") String keyHash,
+                 @Param("ownerToken") long ownerToken,
+                 @Param("lockedUntil") LocalDateTime lockedUntil,
+                 @Param("now") LocalDateTime now,
+                 @Param("status") IdempotencyStatus status);
+
+    // 결과 기록 - 리소스를 만드는 트랜잭션 안에서 호출해야 리소스와 함께 커밋됨
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = :completed, r.resourceId = :resourceId " +
+            "WHERE r.keyHash = :keyHash AND r.ownerToken = :ownerToken AND r.status = :inProgress")
+    int complete(@Param("keyHash") String keyHash,
+                 @Param("ownerToken") long ownerToken,
+                 @Param("resourceId") Long resourceId,
+                 @Param("inProgress") IdempotencyStatus inProgress,
+                 @Param("completed") IdempotencyStatus completed);
+
+    // 처리 실패 시 키 반납 -> 같은 키로 다시 요청하면 처음부터 실행
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r " +
+            "WHERE r.keyHash = :keyHash AND r.ownerToken = :ownerToken AND r.status = :status")
+    int release(@Param("keyHash") String keyHash,
+                @Param("ownerToken") long ownerToken,
+                @Param("status") IdempotencyStatus status);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.keyHash = :keyHash AND r.expiresAt < :now")
+    int deleteIfExpired(@Param("keyHash") String keyHash, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
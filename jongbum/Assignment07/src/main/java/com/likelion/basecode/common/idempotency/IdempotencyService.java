@@ -0,0 +1,221 @@
+package com.likelion.basecode.common.idempotency;
+
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+// Idempotency-Key 처리
+// - 같은 키의 첫 요청만 작업을 실행하고 결과(리소스 id)를 idempotency_record에 남김 (ttl-hours 동안 보관)
+// - 첫 요청이 처리 중이면 같은 키의 요청은 최대 wait-timeout-ms 동안 기다렸다가 그 결과를 받음
+// - 이미 끝난 키로 다시 오면 작업 없이 저장된 리소스를 다시 조회해서 응답
+// - 처리 중이던 인스턴스가 죽으면 lease-seconds 뒤에 다음 요청이 넘겨받아 다시 실행
+// 대기 중에는 DB 커넥션을 잡지 않고, 확인할 때마다 짧은 트랜잭션을 새로 염
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long MAX_POLL_INTERVAL_MS = 500;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration ttl;
+    private final Duration lease;
+    private final long waitTimeoutNanos;
+    private final long initialPollIntervalMs;
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${idempotency.lease-seconds:60}") long leaseSeconds,
+                              @Value("${idempotency.wait-timeout-ms:30000}") long waitTimeoutMs,
+                              @Value("${idempotency.poll-interval-ms:50}") long pollIntervalMs) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.waitTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        this.initialPollIntervalMs = pollIntervalMs;
+    }
+
+    // scope: 엔드포인트 구분 (같은 키라도 엔드포인트가 다르면 별개)
+    // requestHash: 요청 내용 요약 (requestHash(...)로 생성) - 같은 키로 내용이 다른 요청이 오면 422
+    // action: 처음 실행할 때 호출, 같은 트랜잭션 안에서 complete(claim, 리소스 id)를 호출해야 함
+    //         (complete가 키 행을 커밋까지 잠그므로 트랜잭션의 마지막 문장으로)
+    // replay: 이미 처리된 키일 때 저장된 리소스 id로 응답을 다시 만듦
+    public <T> T execute(String scope, String idempotencyKey, String requestHash,
+                         Function<IdempotencyClaim, T> action, LongFunction<T> replay) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_INVALID,
+                    ErrorCode.IDEMPOTENCY_KEY_INVALID.getMessage() + idempotencyKey.length());
+        }
+
+        String keyHash = sha256Hex(scope + ":" + idempotencyKey);
+        long deadline = System.nanoTime() + waitTimeoutNanos;
+        long pollIntervalMs = initialPollIntervalMs;
+
+        while (true) {
+            long ownerToken = ThreadLocalRandom.current().nextLong();
+            Attempt attempt = transactionTemplate.execute(status -> attempt(keyHash, requestHash, ownerToken));
+
+            switch (Objects.requireNonNull(attempt).state()) {
+                case ACQUIRED -> {
+                    IdempotencyClaim claim = new IdempotencyClaim(keyHash, ownerToken);
+                    try {
+                        return action.apply(claim);
+                    } catch (RuntimeException e) {
+                        release(claim);
+                        throw e;
+                    }
+                }
+                case COMPLETED -> {
+                    log.debug("Idempotency-Key 응답 재생: scope = {}, resourceId = {}", scope, attempt.resourceId());
+                    return replay.apply(attempt.resourceId());
+                }
+                case MISMATCH -> throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED,
+                        ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+                case IN_PROGRESS -> {
+                    if (System.nanoTime() >= deadline) {
+                        throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS,
+                                ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS.getMessage());
+                    }
+                    sleep(pollIntervalMs);
+                    pollIntervalMs = Math.min(MAX_POLL_INTERVAL_MS, pollIntervalMs * 2);
+                }
+            }
+        }
+    }
+
+    // action 안(리소스를 저장하는 트랜잭션)에서 호출
+    // 임대 시간이 지나 다른 요청이 넘겨받았다면 예외 -> 리소스 저장도 롤백되어 중복 생성되지 않음
+    public void complete(IdempotencyClaim claim, Long resourceId) {
+        int updated = idempotencyRecordRepository.complete(claim.keyHash(), claim.ownerToken(), resourceId,
+                IdempotencyStatus.IN_PROGRESS, IdempotencyStatus.COMPLETED);
+        if (updated == 0) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS,
+                    ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS.getMessage());
+        }
+    }
+
+    // 요청 내용 요약 (null은 빈 값으로 구분해서 이어 붙인 뒤 SHA-256)
+    public static String requestHash(Object... parts) {
+        StringBuilder joined = new StringBuilder();
+        for (Object part : parts) {
+            joined.append(part == null ? "\u0000" : part.toString()).append('\u001f');
+        }
+        return sha256Hex(joined.toString());
+    }
+
+    // 업로드 파일처럼 큰 요청 내용은 스트림으로 읽으면서 SHA-256 (전체를 메모리에 올리지 않음, requestHash의 한 부분으로 사용)
+    public static String contentHash(InputStream in) throws IOException {
+        MessageDigest digest = sha256();
+        try (DigestInputStream digesting = new DigestInputStream(in, digest)) {
+            digesting.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 보관 기간이 지난 키 삭제 (여러 인스턴스가 동시에 실행해도 무방)
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:600000}",
+            initialDelayString = "${idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        Integer deleted = transactionTemplate.execute(status ->
+                idempotencyRecordRepository.deleteExpired(LocalDateTime.now()));
+        log.debug("만료된 Idempotency-Key {}건 삭제", deleted);
+    }
+
+    // 먼저 잠그지 않는 읽기로 상태를 확인하고, 잠그는 문장(DELETE/INSERT/UPDATE)은 꼭 필요할 때만 실행
+    // -> 처리 중인 요청의 트랜잭션이 행을 잠그고 있어도 확인하는 쪽은 기다리지 않음
+    private Attempt attempt(String keyHash, String requestHash, long ownerToken) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord record = idempotencyRecordRepository.findById(keyHash).orElse(null);
+        if (record != null && record.getExpiresAt().isBefore(now)) {
+            idempotencyRecordRepository.deleteIfExpired(keyHash, now);
+            record = null;
+        }
+
+        if (record == null) {
+            if (idempotencyRecordRepository.insertIfAbsent(keyHash, requestHash, ownerToken,
+                    now.plus(lease), now.plus(ttl)) == 1) {
+                return new Attempt(State.ACQUIRED, null);
+            }
+            // 그 사이 다른 요청이 추가함 (이 트랜잭션의 읽기 시점 이후라 보이지 않으므로) -> 다음 확인에서 다시 읽음
+            return new Attempt(State.IN_PROGRESS, null);
+        }
+        if (!record.getRequestHash().equals(requestHash)) {
+            return new Attempt(State.MISMATCH, null);
+        }
+        if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+            return new Attempt(State.COMPLETED, record.getResourceId());
+        }
+        if (record.getLockedUntil().isBefore(now) && idempotencyRecordRepository.takeOver(keyHash, ownerToken,
+                now.plus(lease), now, IdempotencyStatus.IN_PROGRESS) == 1) {
+            log.warn("처리 중이던 Idempotency-Key의 임대 시간이 지나 다시 실행합니다. lockedUntil = {}", record.getLockedUntil());
+            return new Attempt(State.ACQUIRED, null);
+        }
+        return new Attempt(State.IN_PROGRESS, null);
+    }
+
+    private void release(IdempotencyClaim claim) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.release(
+                    claim.keyHash(), claim.ownerToken(), IdempotencyStatus.IN_PROGRESS));
+        } catch (RuntimeException e) {
+            // 반납하지 못해도 임대 시간이 지나면 다음 요청이 넘겨받음
+            log.warn("Idempotency-Key 반납 실패", e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS,
+                    ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS.getMessage());
+        }
+    }
+
+    private static String sha256Hex(String value) {
+        return HexFormat.of().formatHex(sha256().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private enum State {
+        ACQUIRED,
+        COMPLETED,
+        MISMATCH,
+        IN_PROGRESS
+    }
+
+    private record Attempt(State state, Long resourceId) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.likelion.basecode.common.idempotency;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,    // 첫 요청 처리 중 (같은 키의 다른 요청은 대기)
+    COMPLETED       // 처리 완료, resource_id로 응답 재생
+}
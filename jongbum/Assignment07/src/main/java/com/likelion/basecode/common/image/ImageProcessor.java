@@ -0,0 +1,218 @@
+package com.likelion.basecode.common.image;
+
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 업로드된 이미지를 디코딩해서 크기를 제한한 본문 이미지와 썸네일을 JPEG으로 재인코딩
+// 재인코딩 시 메타데이터(EXIF, GPS 등)를 넘기지 않으므로 자동으로 제거됨
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageProcessor {
+
+    private static final String CONTENT_TYPE = "image/jpeg";
+    private static final String EXTENSION = "jpg";
+
+    private final ThreadPoolTaskExecutor imageProcessingExecutor;
+
+    @Value("${image.max-dimension:1600}")
+    private int maxDimension;
+
+    @Value("${image.thumbnail-dimension:320}")
+    private int thumbnailDimension;
+
+    // 디코딩 결과 픽셀 수 상한 (RGB 기준 픽셀당 4바이트)
+    @Value("${image.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${image.jpeg-quality:0.82}")
+    private float jpegQuality;
+
+    @Value("${image.processing.timeout-ms:10000}")
+    private long processingTimeoutMs;
+
+    // 디코딩/리사이즈는 이미지 전용 스레드 풀에서 실행 (동시 디코딩 수 제한)
+    public ProcessedImage process(MultipartFile file) {
+        byte[] source = readBytes(file);
+
+        // CompletableFuture.cancel은 작업 스레드를 인터럽트하지 않으므로 submit으로 받은 Future 사용
+        Future<ProcessedImage> future;
+        try {
+            future = imageProcessingExecutor.submit(() -> process(source));
+        } catch (RejectedExecutionException e) {
+            throw new BusinessException(ErrorCode.IMAGE_PROCESSING_BUSY, ErrorCode.IMAGE_PROCESSING_BUSY.getMessage());
+        }
+
+        try {
+            return future.get(processingTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            log.error("이미지 처리 실패: {}", e.getMessage(), e);
+            throw new BusinessException(ErrorCode.IMAGE_PROCESSING_FAIL, ErrorCode.IMAGE_PROCESSING_FAIL.getMessage());
+        } catch (TimeoutException e) {
+            // 작업 스레드 인터럽트 -> 진행 중인 단계가 끝나면 다음 단계로 넘어가지 않고 스레드를 반납
+            future.cancel(true);
+            throw new BusinessException(ErrorCode.IMAGE_PROCESSING_BUSY, ErrorCode.IMAGE_PROCESSING_BUSY.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.IMAGE_PROCESSING_FAIL, ErrorCode.IMAGE_PROCESSING_FAIL.getMessage());
+        }
+    }
+
+    // 단계 사이마다 인터럽트 확인 (시간 초과로 취소된 작업이 풀 스레드를 계속 차지하지 않도록)
+    public ProcessedImage process(byte[] source) {
+        BufferedImage decoded = decode(source);
+        checkInterrupted();
+
+        BufferedImage main = resize(decoded, maxDimension);
+        BufferedImage thumbnail = resize(main, thumbnailDimension);
+
+        byte[] mainBytes = encodeJpeg(main);
+        checkInterrupted();
+        return new ProcessedImage(mainBytes, encodeJpeg(thumbnail), CONTENT_TYPE, EXTENSION);
+    }
+
+    // 헤더로 크기만 먼저 읽은 뒤, 목표 크기보다 훨씬 크면 서브샘플링해서 디코딩 (메모리 사용량 제한)
+    private BufferedImage decode(byte[] source) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new BusinessException(ErrorCode.IMAGE_INVALID, ErrorCode.IMAGE_INVALID.getMessage());
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                // ignoreMetadata = true -> 메타데이터는 파싱하지 않음
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                // 본문 이미지 크기의 2배까지만 서브샘플링 (이후 리사이즈 단계에서 품질 유지)
+                int subsampling = Math.max(1, Math.max(width, height) / (maxDimension * 2));
+                long decodedPixels = (long) ceilDiv(width, subsampling) * ceilDiv(height, subsampling);
+                if (decodedPixels > maxPixels) {
+                    throw new BusinessException(ErrorCode.IMAGE_TOO_LARGE,
+                            ErrorCode.IMAGE_TOO_LARGE.getMessage() + width + "x" + height);
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            log.warn("이미지 디코딩 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.IMAGE_INVALID, ErrorCode.IMAGE_INVALID.getMessage());
+        }
+    }
+
+    // 긴 변이 maxSize 이하가 되도록 축소 (확대는 하지 않음), 투명 배경은 흰색으로 채움
+    private BufferedImage resize(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+
+        // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소 (축소가 필요 없으면 RGB 변환만 1회)
+        do {
+            if (scale < 1.0) {
+                currentWidth = Math.max(targetWidth, currentWidth / 2);
+                currentHeight = Math.max(targetHeight, currentHeight / 2);
+            }
+            checkInterrupted();
+            current = draw(current, currentWidth, currentHeight);
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+
+            writer.setOutput(ios);
+            // 메타데이터 없이 픽셀만 기록
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.IMAGE_PROCESSING_FAIL, ErrorCode.IMAGE_PROCESSING_FAIL.getMessage());
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] readBytes(MultipartFile file) {
+        try {
+            return file.getBytes();
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.IMAGE_INVALID, ErrorCode.IMAGE_INVALID.getMessage());
+        }
+    }
+
+    // 인터럽트 상태를 지우고 중단 (풀 스레드는 다음 작업에 인터럽트 없이 재사용)
+    private static void checkInterrupted() {
+        if (Thread.interrupted()) {
+            throw new BusinessException(ErrorCode.IMAGE_PROCESSING_BUSY, ErrorCode.IMAGE_PROCESSING_BUSY.getMessage());
+        }
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+}
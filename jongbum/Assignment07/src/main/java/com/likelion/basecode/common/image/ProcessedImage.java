@@ -0,0 +1,10 @@
+package com.likelion.basecode.common.image;
+
+// 재인코딩이 끝난 이미지 변형본 (메타데이터 제거된 본문 이미지 + 썸네일)
+public record ProcessedImage(
+        byte[] main,
+        byte[] thumbnail,
+        String contentType,
+        String extension
+) {
+}
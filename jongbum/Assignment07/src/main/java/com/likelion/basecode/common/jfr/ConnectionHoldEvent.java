@@ -0,0 +1,32 @@
+package com.likelion.basecode.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 커넥션을 얻은 시점부터 반납(close)까지 (트랜잭션 하나가 커넥션을 잡고 있던 시간)
+@Name("basecode.ConnectionHold")
+@Label("Connection Hold")
+@Category({"Basecode", "Database"})
+@Description("DB 커넥션 점유 시간과 커밋/롤백 횟수")
+@StackTrace(false)
+public class ConnectionHoldEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Connection Id")
+    String connectionId;
+
+    @Label("Commits")
+    int commits;
+
+    @Label("Rollbacks")
+    int rollbacks;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,56 @@
+package com.likelion.basecode.common.jfr;
+
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 프록시 DataSource의 getConnection ~ Connection.close 사이를 ConnectionHoldEvent로 기록
+// (트랜잭션은 시작할 때 커넥션을 얻고 끝날 때 반납하므로 트랜잭션별 커넥션 점유 시간)
+public class ConnectionHoldJfrListener implements MethodExecutionListener {
+
+    private final Map<String, ConnectionHoldEvent> holding = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        ConnectionInfo connectionInfo = executionContext.getConnectionInfo();
+        if (connectionInfo == null) {
+            return;
+        }
+        String method = executionContext.getMethod().getName();
+
+        if (executionContext.getTarget() instanceof DataSource && "getConnection".equals(method)
+                && executionContext.getThrown() == null) {
+            ConnectionHoldEvent event = new ConnectionHoldEvent();
+            if (event.isEnabled()) {
+                event.endpoint = JfrContext.currentEndpoint();
+                event.begin();
+                holding.put(connectionInfo.getConnectionId(), event);
+            }
+            return;
+        }
+
+        if (executionContext.getTarget() instanceof Connection && "close".equals(method)) {
+            ConnectionHoldEvent event = holding.remove(connectionInfo.getConnectionId());
+            if (event == null) {
+                return;
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.connectionId = connectionInfo.getConnectionId();
+                event.commits = connectionInfo.getCommitCount();
+                event.rollbacks = connectionInfo.getRollbackCount();
+                event.outcome = event.rollbacks > 0 ? "ROLLBACK" : event.commits > 0 ? "COMMIT" : "NO_TX";
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.likelion.basecode.common.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+// 이벤트에 기록할 현재 엔드포인트 ("GET /post/{memberId}"), 요청 밖이면 스레드 이름
+final class JfrContext {
+
+    private JfrContext() {
+    }
+
+    static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        }
+        return "thread:" + Thread.currentThread().getName();
+    }
+
+    static String outcomeOf(Throwable thrown) {
+        return thrown == null ? "OK" : "ERROR:" + thrown.getClass().getSimpleName();
+    }
+}
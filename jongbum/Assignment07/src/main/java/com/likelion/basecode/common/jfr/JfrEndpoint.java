@@ -0,0 +1,48 @@
+package com.likelion.basecode.common.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+
+// GET  /actuator/jfr                          -> 녹화 상태
+// POST /actuator/jfr/start {durationSeconds, settings} -> 요청 녹화 시작 (기본 60초, profile)
+// POST /actuator/jfr/stop                     -> 요청 녹화 중지
+// POST /actuator/jfr/dump                     -> 녹화 파일(.jfr) 다운로드 (JDK Mission Control로 열기, 서버의 임시 파일은 전송 후 삭제)
+// 인증이 없으므로 기본 노출 목록에서 빠져 있음 -> 관리 포트에서만 노출해서 사용
+@Component
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrEndpoint {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    @ReadOperation
+    public JfrRecordingStatus status() {
+        return jfrRecordingService.status();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> control(@Selector String action,
+                                               @Nullable Integer durationSeconds,
+                                               @Nullable String settings) {
+        return switch (action) {
+            case "start" -> new WebEndpointResponse<>(jfrRecordingService.start(durationSeconds, settings));
+            case "stop" -> new WebEndpointResponse<>(jfrRecordingService.stop());
+            case "dump" -> {
+                InputStream dump = jfrRecordingService.dump();
+                yield dump == null
+                        ? new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND)
+                        : new WebEndpointResponse<>(new InputStreamResource(dump));
+            }
+            default -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        };
+    }
+}
@@ -0,0 +1,136 @@
+package com.likelion.basecode.common.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// JFR 녹화 관리
+// - 상시 녹화(continuous): 기동 시 default 설정으로 시작, 최근 max-age 분량만 디스크에 유지 (오버헤드 1% 내외)
+// - 요청 녹화(on-demand): /actuator/jfr/start 로 profile 설정 녹화를 정해진 시간 동안 실행
+// dump는 요청 녹화가 있으면 그것을, 없으면 상시 녹화의 현재까지 내용을 임시 파일로 써서 스트림으로 반환 (다 읽고 닫으면 삭제)
+@Slf4j
+@Component
+public class JfrRecordingService {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    // 값에 비밀(DB 비밀번호, AWS 키 등)이 담기는 JDK 이벤트 -> default/profile 설정과 무관하게 항상 끔
+    private static final List<String> SENSITIVE_EVENTS = List.of("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty");
+
+    @Value("${jfr.continuous.enabled:true}")
+    private boolean continuousEnabled;
+
+    @Value("${jfr.continuous.max-age-minutes:30}")
+    private long continuousMaxAgeMinutes;
+
+    @Value("${jfr.continuous.max-size-mb:100}")
+    private long continuousMaxSizeMb;
+
+    @Value("${jfr.max-duration-seconds:600}")
+    private long maxDurationSeconds;
+
+    @Value("${jfr.dump-dir:${java.io.tmpdir}/basecode-jfr}")
+    private Path dumpDir;
+
+    private Recording continuous;
+    private Recording onDemand;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void startContinuous() {
+        if (!continuousEnabled || continuous != null) {
+            return;
+        }
+        continuous = newRecording("basecode-continuous", "default");
+        continuous.setMaxAge(Duration.ofMinutes(continuousMaxAgeMinutes));
+        continuous.setMaxSize(continuousMaxSizeMb * 1024 * 1024);
+        continuous.start();
+        log.info("JFR 상시 녹화 시작 (최근 {}분 유지)", continuousMaxAgeMinutes);
+    }
+
+    // 요청 녹화 시작 (이미 실행 중이면 그대로 두고 상태만 반환)
+    public synchronized JfrRecordingStatus start(Integer durationSeconds, String settings) {
+        if (onDemand == null || onDemand.getState() == RecordingState.CLOSED || onDemand.getState() == RecordingState.STOPPED) {
+            closeQuietly(onDemand);
+            long seconds = Math.min(durationSeconds == null ? 60 : Math.max(1, durationSeconds), maxDurationSeconds);
+            onDemand = newRecording("basecode-on-demand", settings == null ? "profile" : settings);
+            onDemand.setDuration(Duration.ofSeconds(seconds));
+            onDemand.start();
+            log.info("JFR 요청 녹화 시작 ({}초, {})", seconds, settings == null ? "profile" : settings);
+        }
+        return status();
+    }
+
+    public synchronized JfrRecordingStatus stop() {
+        if (onDemand != null && onDemand.getState() == RecordingState.RUNNING) {
+            onDemand.stop();
+        }
+        return status();
+    }
+
+    // 녹화 내용을 dump-dir 아래 임시 파일로 쓰고, 닫으면 파일이 지워지는 스트림으로 반환 (녹화가 없으면 null)
+    public synchronized InputStream dump() {
+        Recording source = onDemand != null && onDemand.getState() != RecordingState.CLOSED ? onDemand : continuous;
+        if (source == null) {
+            return null;
+        }
+        try {
+            Files.createDirectories(dumpDir);
+            Path file = dumpDir.resolve(source.getName() + "-" + LocalDateTime.now().format(FILE_TIME) + ".jfr");
+            source.dump(file);
+            log.info("JFR 녹화 dump: {} ({} bytes)", file, Files.size(file));
+            return Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized JfrRecordingStatus status() {
+        return new JfrRecordingStatus(JfrRecordingStatus.Entry.of(continuous), JfrRecordingStatus.Entry.of(onDemand));
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        closeQuietly(onDemand);
+        closeQuietly(continuous);
+    }
+
+    private static Recording newRecording(String name, String settings) {
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName(name);
+            recording.setToDisk(true);
+            // 직접 정의한 이벤트는 설정 파일에 없으므로 명시적으로 켬
+            recording.enable(ServiceOperationEvent.class);
+            recording.enable(OutboundCallEvent.class);
+            recording.enable(ConnectionHoldEvent.class);
+            SENSITIVE_EVENTS.forEach(recording::disable);
+            return recording;
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("JFR 설정을 읽을 수 없습니다: " + settings, e);
+        }
+    }
+
+    private static void closeQuietly(Recording recording) {
+        if (recording != null && recording.getState() != RecordingState.CLOSED) {
+            recording.close();
+        }
+    }
+}
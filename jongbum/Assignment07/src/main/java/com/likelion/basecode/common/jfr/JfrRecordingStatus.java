@@ -0,0 +1,21 @@
+package com.likelion.basecode.common.jfr;
+
+import jdk.jfr.Recording;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// GET /actuator/jfr 응답
+public record JfrRecordingStatus(Entry continuous, Entry onDemand) {
+
+    public record Entry(String name, String state, Instant startTime, Duration duration, long size) {
+
+        static Entry of(Recording recording) {
+            if (recording == null) {
+                return null;
+            }
+            return new Entry(recording.getName(), recording.getState().name(), recording.getStartTime(),
+                    recording.getDuration(), recording.getSize());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.likelion.basecode.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 외부 호출 한 번 (KOBIS/태그 추천 API는 RestTemplate, S3는 SDK 요청 단위)
+@Name("basecode.OutboundCall")
+@Label("Outbound Call")
+@Category({"Basecode", "Outbound"})
+@Description("외부 API/S3 호출 시간과 응답 상태")
+@StackTrace(false)
+public class OutboundCallEvent extends Event {
+
+    @Label("Client")
+    String client;
+
+    // HTTP 메서드 + 경로 (쿼리 문자열은 API 키가 들어 있으므로 기록하지 않음), S3는 요청 종류 + 키
+    @Label("Operation")
+    String operation;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Status")
+    int status;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,39 @@
+package com.likelion.basecode.common.jfr;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+// RestTemplate 호출(KOBIS, 태그 추천 API)마다 OutboundCallEvent 기록
+public class OutboundCallJfrInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        OutboundCallEvent event = new OutboundCallEvent();
+        if (!event.isEnabled()) {
+            return execution.execute(request, body);
+        }
+
+        event.begin();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            event.status = response.getStatusCode().value();
+            event.outcome = response.getStatusCode().isError() ? "HTTP_" + event.status : "OK";
+            return response;
+        } catch (IOException | RuntimeException e) {
+            event.outcome = JfrContext.outcomeOf(e);
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.client = request.getURI().getHost();
+                event.operation = request.getMethod() + " " + request.getURI().getPath();
+                event.endpoint = JfrContext.currentEndpoint();
+                event.commit();
+            }
+        }
+    }
+}
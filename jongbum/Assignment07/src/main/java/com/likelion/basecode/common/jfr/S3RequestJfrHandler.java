@@ -0,0 +1,52 @@
+package com.likelion.basecode.common.jfr;
+
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.handlers.HandlerContextKey;
+import com.amazonaws.handlers.RequestHandler2;
+
+// S3 SDK의 HTTP 요청(putObject, uploadPart, deleteObject 등)마다 OutboundCallEvent 기록
+// multipart 업로드는 파트별로 이벤트가 남음
+public class S3RequestJfrHandler extends RequestHandler2 {
+
+    private static final HandlerContextKey<OutboundCallEvent> EVENT = new HandlerContextKey<>("basecode.jfr.OutboundCallEvent");
+
+    @Override
+    public void beforeRequest(Request<?> request) {
+        OutboundCallEvent event = new OutboundCallEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.endpoint = JfrContext.currentEndpoint();
+        event.begin();
+        request.addHandlerContext(EVENT, event);
+    }
+
+    @Override
+    public void afterResponse(Request<?> request, Response<?> response) {
+        commit(request, response, null);
+    }
+
+    @Override
+    public void afterError(Request<?> request, Response<?> response, Exception e) {
+        commit(request, response, e);
+    }
+
+    private static void commit(Request<?> request, Response<?> response, Exception e) {
+        OutboundCallEvent event = request.getHandlerContext(EVENT);
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.client = "s3";
+            String operationName = request.getHandlerContext(HandlerContextKey.OPERATION_NAME);
+            event.operation = (operationName != null ? operationName : request.getOriginalRequest().getClass().getSimpleName())
+                    + " " + request.getResourcePath();
+            event.status = response != null && response.getHttpResponse() != null
+                    ? response.getHttpResponse().getStatusCode() : 0;
+            event.outcome = JfrContext.outcomeOf(e);
+            event.commit();
+        }
+    }
+}
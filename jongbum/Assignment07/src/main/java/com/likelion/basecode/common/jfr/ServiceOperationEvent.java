@@ -0,0 +1,29 @@
+package com.likelion.basecode.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// PostService/MovieService 공개 메서드 한 번의 실행
+@Name("basecode.ServiceOperation")
+@Label("Service Operation")
+@Category({"Basecode", "Service"})
+@Description("PostService/MovieService 작업 실행 시간과 결과")
+@StackTrace(false)
+public class ServiceOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Entity Ids")
+    String entityIds;
+
+    @Label("Outcome")
+    String outcome;
+}
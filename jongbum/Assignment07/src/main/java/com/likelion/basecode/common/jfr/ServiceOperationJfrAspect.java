@@ -0,0 +1,57 @@
+package com.likelion.basecode.common.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.util.StringJoiner;
+
+// PostService/MovieService 공개 메서드마다 ServiceOperationEvent 기록
+// 기록 중인 JFR 녹화가 없으면 isEnabled()가 false라 호출만 통과시킴
+@Aspect
+@Component
+public class ServiceOperationJfrAspect {
+
+    @Around("execution(public * com.likelion.basecode.post.application.PostService.*(..))"
+            + " || execution(public * com.likelion.basecode.movie.application.MovieService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        Throwable thrown = null;
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            thrown = t;
+            throw t;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                        + "." + joinPoint.getSignature().getName();
+                event.endpoint = JfrContext.currentEndpoint();
+                event.entityIds = entityIds(joinPoint);
+                event.outcome = JfrContext.outcomeOf(thrown);
+                event.commit();
+            }
+        }
+    }
+
+    // Long 타입 인자만 id로 기록 ("postId=1, memberId=2")
+    private static String entityIds(ProceedingJoinPoint joinPoint) {
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        StringJoiner ids = new StringJoiner(", ");
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Long id) {
+                ids.add((names != null ? names[i] : "arg" + i) + "=" + id);
+            }
+        }
+        return ids.toString();
+    }
+}
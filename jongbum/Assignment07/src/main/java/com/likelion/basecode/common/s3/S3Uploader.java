@@ -1,32 +1,68 @@
 package com.likelion.basecode.common.s3;
 
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.SdkClientException; // 기존 AWS SDK v1 예외
 import com.amazonaws.services.s3.AmazonS3; // 기존 AWS SDK v1 AmazonS3
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.DeleteObjectRequest; // S3 파일 삭제를 위해 추가 (v1)
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.likelion.basecode.common.error.ErrorCode;
 import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.common.storage.ObjectStorage;
+import com.likelion.basecode.common.storage.PresignedUpload;
+import com.likelion.basecode.common.storage.StoredObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j; // Slf4j 어노테이션 사용을 위함
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream; // upload 메서드에서 InputStream 사용을 위함 (try-with-resources)
 import java.net.URI; // URL 파싱을 위해 추가
 import java.net.URISyntaxException; // URI 파싱 시 발생할 수 있는 예외를 위해 추가
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
+// ObjectStorage의 S3 구현체 (storage.type=s3, 기본값)
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class S3Uploader {
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3Uploader implements ObjectStorage {
     private final AmazonS3 amazonS3;
+    private final ThreadPoolTaskExecutor storageUploadExecutor;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    // S3 multipart 파트 크기 (마지막 파트를 제외하면 최소 5MB)
+    @Value("${storage.upload.part-size:8388608}")
+    private int partSize;
+
+    // 업로드 하나가 동시에 들고 있는 파트 수 -> 업로드당 메모리 상한 = partSize * maxPartsInFlight
+    @Value("${storage.upload.max-parts-in-flight:3}")
+    private int maxPartsInFlight;
+
     public String upload(MultipartFile file, String dirName) {
         String fileName = dirName + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
         ObjectMetadata metadata = new ObjectMetadata();
@@ -43,6 +79,205 @@ public class S3Uploader {
         return amazonS3.getUrl(bucket, fileName).toString();
     }
 
+    // 스트림 내용을 지정한 키로 업로드
+    @Override
+    public void upload(String key, InputStream inputStream, long length, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(length);
+        metadata.setContentType(contentType);
+        // 키가 내용의 해시이므로 같은 키의 내용은 바뀌지 않음 -> 오래 캐시해도 됨
+        metadata.setCacheControl("public, max-age=31536000, immutable");
+
+        try {
+            amazonS3.putObject(bucket, key, inputStream, metadata);
+        } catch (SdkClientException e) {
+            log.error("S3 업로드 실패: {}. key: {}", e.getMessage(), key, e);
+            throw new BusinessException(ErrorCode.S3_UPLOAD_FAIL, ErrorCode.S3_UPLOAD_FAIL.getMessage());
+        }
+    }
+
+    // 스트림을 파트 단위로 읽으면서 S3 multipart 업로드로 바로 전송 (디스크 임시 파일 없음)
+    // 파트는 별도 스레드 풀에서 병렬 전송되고, 스트림이 끊기거나 파트 전송이 실패하면 업로드를 중단(abort)
+    @Override
+    public long uploadStream(String key, InputStream inputStream, String contentType) {
+        Semaphore inFlight = new Semaphore(maxPartsInFlight);
+        byte[] part = readPart(inputStream, inFlight);
+
+        // 한 파트 크기보다 작으면 multipart 없이 한 번에 업로드
+        if (part.length < partSize) {
+            try {
+                upload(key, part, contentType);
+                return part.length;
+            } finally {
+                inFlight.release();
+            }
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setCacheControl("public, max-age=31536000, immutable");
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata))
+                .getUploadId();
+
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+        long total = 0;
+        try {
+            int partNumber = 1;
+            while (true) {
+                total += part.length;
+                parts.add(uploadPartAsync(key, uploadId, partNumber++, part, inFlight));
+                if (part.length < partSize) {
+                    break;
+                }
+
+                // 이미 실패한 파트가 있으면 나머지 스트림을 읽지 않고 바로 중단
+                if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    throw new IllegalStateException("파트 업로드 실패");
+                }
+
+                part = readPart(inputStream, inFlight);
+                if (part.length == 0) {
+                    inFlight.release();
+                    break;
+                }
+            }
+
+            List<PartETag> partETags = parts.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+            return total;
+        } catch (RuntimeException e) {
+            parts.forEach(future -> future.cancel(true));
+            abortQuietly(key, uploadId);
+            if (e instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            log.error("S3 multipart 업로드 실패: {}. key: {}", e.getMessage(), key, e);
+            throw new BusinessException(ErrorCode.S3_UPLOAD_FAIL, ErrorCode.S3_UPLOAD_FAIL.getMessage());
+        }
+    }
+
+    // 동시 파트 수 허가를 얻은 뒤 한 파트(partSize) 만큼 읽음 -> 허가는 파트 전송이 끝날 때 반환
+    private byte[] readPart(InputStream inputStream, Semaphore inFlight) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.UPLOAD_STREAM_FAIL, ErrorCode.UPLOAD_STREAM_FAIL.getMessage());
+        }
+
+        try {
+            byte[] buffer = new byte[partSize];
+            int read = inputStream.readNBytes(buffer, 0, partSize);
+            return read == partSize ? buffer : Arrays.copyOf(buffer, read);
+        } catch (IOException e) {
+            // 클라이언트 연결 끊김, 크기 제한 초과 등
+            inFlight.release();
+            log.warn("업로드 스트림 읽기 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.UPLOAD_STREAM_FAIL, ErrorCode.UPLOAD_STREAM_FAIL.getMessage());
+        }
+    }
+
+    private CompletableFuture<PartETag> uploadPartAsync(String key, String uploadId, int partNumber,
+                                                        byte[] part, Semaphore inFlight) {
+        UploadPartRequest request = new UploadPartRequest()
+                .withBucketName(bucket)
+                .withKey(key)
+                .withUploadId(uploadId)
+                .withPartNumber(partNumber)
+                .withInputStream(new ByteArrayInputStream(part))
+                .withPartSize(part.length);
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return amazonS3.uploadPart(request).getPartETag();
+                } finally {
+                    inFlight.release();
+                }
+            }, storageUploadExecutor);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private void abortQuietly(String key, String uploadId) {
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            log.info("S3 multipart 업로드 중단: {}", key);
+        } catch (SdkClientException e) {
+            // 중단에 실패한 업로드는 버킷의 lifecycle 규칙(미완료 multipart 정리)으로 정리됨
+            log.error("S3 multipart 업로드 중단 실패: {}. key: {}", e.getMessage(), key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            amazonS3.deleteObject(new DeleteObjectRequest(bucket, key));
+            log.info("S3 버킷에서 파일 삭제 성공: {}", key);
+        } catch (SdkClientException e) {
+            log.error("S3 버킷 파일 삭제 실패: {}. key: {}", e.getMessage(), key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return amazonS3.getObject(bucket, key).getObjectContent();
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() == 404) {
+                throw new BusinessException(ErrorCode.FILE_NOT_FOUND, ErrorCode.FILE_NOT_FOUND.getMessage() + key);
+            }
+            log.error("S3 객체 읽기 실패: {}. key: {}", e.getMessage(), key, e);
+            throw new BusinessException(ErrorCode.STORAGE_IO_FAIL, ErrorCode.STORAGE_IO_FAIL.getMessage());
+        }
+    }
+
+    @Override
+    public String url(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            return amazonS3.doesObjectExist(bucket, key);
+        } catch (SdkClientException e) {
+            // 확인할 수 없으면 없는 것으로 보고 다시 업로드
+            log.warn("S3 객체 존재 여부 확인 실패: {}. key: {}", e.getMessage(), key);
+            return false;
+        }
+    }
+
+    // HEAD 요청으로 메타데이터 조회
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        try {
+            ObjectMetadata metadata = amazonS3.getObjectMetadata(bucket, key);
+            return Optional.of(new StoredObject(url(key), metadata.getContentLength(), metadata.getContentType()));
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() == 404) {
+                return Optional.empty();
+            }
+            log.error("S3 객체 조회 실패: {}. key: {}", e.getMessage(), key, e);
+            throw new BusinessException(ErrorCode.STORAGE_IO_FAIL, ErrorCode.STORAGE_IO_FAIL.getMessage());
+        }
+    }
+
+    // 클라이언트가 직접 업로드할 수 있는 presigned PUT URL 발급
+    @Override
+    public PresignedUpload presignUpload(String key, String contentType, Instant expiresAt) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType); // 서명에 포함되므로 다른 Content-Type으로는 업로드 불가
+
+        String uploadUrl = amazonS3.generatePresignedUrl(request).toString();
+        return new PresignedUpload(key, uploadUrl, contentType, expiresAt);
+    }
+
     public void deleteFile(String fileUrl) {
         if (fileUrl == null || fileUrl.isEmpty()) {
             log.warn("삭제할 S3 파일 URL이 null이거나 비어있습니다. 삭제를 건너뜁니다.");
@@ -51,7 +286,7 @@ public class S3Uploader {
 
         try {
             // S3 URL에서 객체 키(key) 추출
-            String fileKey = getFileKeyFromUrl(fileUrl);
+            String fileKey = keyOf(fileUrl);
 
             if (fileKey == null || fileKey.isEmpty()) {
                 log.warn("S3 URL에서 파일 키를 추출할 수 없습니다: {}", fileUrl);
@@ -72,12 +307,17 @@ public class S3Uploader {
 
 
     // S3 URL에서 파일 키(Key)를 추출
-    private String getFileKeyFromUrl(String fileUrl) {
+    @Override
+    public String keyOf(String fileUrl) {
         try {
             URI uri = new URI(fileUrl);
             String path = uri.getPath();
             if (path.startsWith("/")) {
-                return path.substring(1); // 첫 번째 '/' 문자 제거
+                path = path.substring(1); // 첫 번째 '/' 문자 제거
+            }
+            // path-style 주소(로컬 S3 호환 저장소)는 경로 앞에 버킷 이름이 붙음
+            if (!endpoint.isBlank() && path.startsWith(bucket + "/")) {
+                path = path.substring(bucket.length() + 1);
             }
             return path;
         } catch (URISyntaxException e) {
@@ -0,0 +1,96 @@
+package com.likelion.basecode.common.sql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// HTTP 요청 하나가 실행한 SQL 통계 (요청 스레드에 묶여 있으며 요청이 끝나면 버려짐)
+// 같은 SQL 문자열은 한 항목으로 묶어서 횟수를 셈 -> 같은 쿼리가 수십 번 나오면 N+1
+public class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final int maxDistinctStatements;
+    private final Map<String, Statement> statements = new LinkedHashMap<>();
+
+    private int statementCount;
+    private long totalNanos;
+    private long rows;
+    private long queryStartedAt;
+
+    private SqlRequestStats(int maxDistinctStatements) {
+        this.maxDistinctStatements = maxDistinctStatements;
+    }
+
+    public static SqlRequestStats begin(int maxDistinctStatements) {
+        SqlRequestStats stats = new SqlRequestStats(maxDistinctStatements);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    // 요청 스레드가 아니면(워밍업, 비동기 작업 등) null
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void queryStarted() {
+        queryStartedAt = System.nanoTime();
+    }
+
+    void queryFinished(String sql, int executions, long updatedRows) {
+        long elapsed = System.nanoTime() - queryStartedAt;
+        statementCount += executions;
+        totalNanos += elapsed;
+        rows += updatedRows;
+
+        Statement statement = statements.get(sql);
+        if (statement == null && statements.size() < maxDistinctStatements) {
+            statement = new Statement();
+            statements.put(sql, statement);
+        }
+        if (statement != null) {
+            statement.count += executions;
+            statement.nanos += elapsed;
+        }
+    }
+
+    void rowRead() {
+        rows++;
+    }
+
+    public int statementCount() {
+        return statementCount;
+    }
+
+    public long totalNanos() {
+        return totalNanos;
+    }
+
+    public long totalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalNanos);
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    // 실행 횟수가 많은 순서로 "횟수 x 누적시간 SQL" 형태의 요약
+    public String summary() {
+        StringBuilder builder = new StringBuilder();
+        statements.entrySet().stream()
+                .sorted((a, b) -> Integer.compare(b.getValue().count, a.getValue().count))
+                .forEach(entry -> builder.append(System.lineSeparator())
+                        .append(String.format("  %4dx %6.1fms  ", entry.getValue().count, entry.getValue().nanos / 1_000_000.0))
+                        .append(entry.getKey()));
+        return builder.toString();
+    }
+
+    private static class Statement {
+        private int count;
+        private long nanos;
+    }
+}
@@ -0,0 +1,88 @@
+package com.likelion.basecode.common.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 실행된 SQL 수, JDBC 누적 시간, 행 수를 집계
+// - 엔드포인트(URI 패턴)별 메트릭: http.server.requests.sql.statements / .time / .rows
+// - 문장 수나 시간이 임계값을 넘은 요청만 SQL 요약과 함께 WARN 로그 (show-sql 없이 상시 N+1 감지)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sql.monitor.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sql.monitor.statement-threshold:20}")
+    private int statementThreshold;
+
+    @Value("${sql.monitor.time-threshold-ms:200}")
+    private long timeThresholdMs;
+
+    @Value("${sql.monitor.max-distinct-statements:50}")
+    private int maxDistinctStatements;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.begin(maxDistinctStatements);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestStats stats) {
+        // 패턴(/post/{memberId})으로 태그를 달아서 id마다 메트릭이 생기지 않게 함
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.statementCount());
+        DistributionSummary.builder("http.server.requests.sql.rows")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.rows());
+        Timer.builder("http.server.requests.sql.time")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.totalNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.statementCount() > statementThreshold || stats.totalMillis() > timeThresholdMs) {
+            meterRegistry.counter("http.server.requests.sql.over-budget", tags).increment();
+            log.warn("SQL 임계값 초과: {} {} statements={} time={}ms rows={}{}",
+                    request.getMethod(), uri, stats.statementCount(), stats.totalMillis(), stats.rows(), stats.summary());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.likelion.basecode.common.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+// 프록시 DataSource가 호출하는 리스너 - 현재 요청의 SqlRequestStats에 실행 횟수, 시간, 행 수를 누적
+// 요청 밖(워밍업, 배치 스레드 등)에서 실행된 SQL은 집계하지 않음
+public class SqlStatsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.queryStarted();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats == null || queryInfoList.isEmpty()) {
+            return;
+        }
+
+        // 배치 실행은 SQL 하나에 실행 횟수가 batchSize
+        int executions = execInfo.isBatch() ? Math.max(1, execInfo.getBatchSize()) : queryInfoList.size();
+        stats.queryFinished(queryInfoList.get(0).getQuery(), executions, updatedRows(execInfo.getResult()));
+    }
+
+    // SELECT 결과 행 수는 ResultSet.next() 호출로 셈
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            SqlRequestStats stats = SqlRequestStats.current();
+            if (stats != null) {
+                stats.rowRead();
+            }
+        }
+    }
+
+    private static long updatedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(0, count);
+        }
+        if (result instanceof Long count) {
+            return Math.max(0, count);
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                sum += Math.max(0, count);
+            }
+            return sum;
+        }
+        return 0;
+    }
+}
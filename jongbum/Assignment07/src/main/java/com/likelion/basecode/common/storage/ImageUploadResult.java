@@ -0,0 +1,8 @@
+package com.likelion.basecode.common.storage;
+
+// 이미지 변형본별 업로드 URL
+public record ImageUploadResult(
+        String imageUrl,
+        String thumbnailUrl
+) {
+}
@@ -0,0 +1,141 @@
+package com.likelion.basecode.common.storage;
+
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// LocalFileStorage에 저장된 파일 서빙 (Range 요청 지원)
+// Tomcat이 sendfile을 지원하면 커널이 파일을 소켓으로 직접 보내고, 아니면 FileChannel.transferTo 사용
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalFileController {
+
+    private static final String PATH_PREFIX = "/files/";
+    // 작은 파일은 sendfile 준비 비용이 더 크므로 직접 전송 (Tomcat DefaultServlet 기본값과 동일)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalFileStorage localFileStorage;
+
+    @GetMapping("/files/**")
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String key = URLDecoder.decode(path.substring(PATH_PREFIX.length()), StandardCharsets.UTF_8);
+
+        Path file = localFileStorage.resolve(key);
+        if (!Files.isRegularFile(file)) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND, ErrorCode.FILE_NOT_FOUND.getMessage() + key);
+        }
+        long size = Files.size(file);
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+        response.setContentType(localFileStorage.contentTypeOf(key));
+
+        ByteRange range = ByteRange.parse(request.getHeader(HttpHeaders.RANGE), size);
+        if (range == null) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            return;
+        }
+        if (range.partial()) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + size);
+        }
+        response.setContentLengthLong(range.length());
+
+        if ("HEAD".equals(request.getMethod()) || range.length() == 0) {
+            return;
+        }
+
+        // sendfile: 응답 본문을 쓰지 않고 속성만 지정하면 커넥터가 파일을 직접 전송
+        if (range.length() >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    // 단일 바이트 범위 (end 포함), 여러 범위 요청은 전체 파일로 응답
+    private record ByteRange(long start, long end, boolean partial) {
+
+        long length() {
+            return end - start + 1;
+        }
+
+        // 만족할 수 없는 범위면 null
+        static ByteRange parse(String header, long size) {
+            ByteRange full = new ByteRange(0, size - 1, false);
+            if (header == null || !header.startsWith("bytes=") || header.contains(",")) {
+                return full;
+            }
+
+            String spec = header.substring("bytes=".length()).trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return full;
+            }
+
+            try {
+                String startPart = spec.substring(0, dash).trim();
+                String endPart = spec.substring(dash + 1).trim();
+
+                if (startPart.isEmpty()) {
+                    // bytes=-N : 마지막 N 바이트
+                    long suffix = Long.parseLong(endPart);
+                    if (suffix <= 0 || size == 0) {
+                        return null;
+                    }
+                    return new ByteRange(Math.max(0, size - suffix), size - 1, true);
+                }
+
+                long start = Long.parseLong(startPart);
+                long end = endPart.isEmpty() ? size - 1 : Math.min(Long.parseLong(endPart), size - 1);
+                if (start >= size || start > end) {
+                    return null;
+                }
+                return new ByteRange(start, end, true);
+            } catch (NumberFormatException e) {
+                // 형식이 잘못된 Range 헤더는 무시
+                return full;
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.likelion.basecode.common.storage;
+
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+// ObjectStorage의 로컬 파일시스템 구현체 (storage.type=local)
+// 개발/CI/온프레미스 노드에서 S3 없이 이미지를 저장하고 LocalFileController로 직접 서빙
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalFileStorage implements ObjectStorage {
+
+    private static final long STREAM_CHUNK_SIZE = 8L * 1024 * 1024;
+
+    private final Path rootDir;
+    private final String baseUrl;
+
+    public LocalFileStorage(
+            @Value("${storage.local.root-dir:./storage}") String rootDir,
+            @Value("${storage.local.base-url:/files}") String baseUrl
+    ) throws IOException {
+        this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        Files.createDirectories(this.rootDir);
+    }
+
+    // 같은 디렉터리의 임시 파일에 쓴 뒤 원자적으로 이동 -> 읽는 쪽은 완성된 파일만 봄
+    // 입력이 파일 스트림이면 FileChannel 간 transferFrom으로 커널 내부에서 복사
+    @Override
+    public void upload(String key, InputStream inputStream, long length, String contentType) {
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 ReadableByteChannel in = inputStream instanceof FileInputStream fileInputStream
+                         ? fileInputStream.getChannel()
+                         : Channels.newChannel(inputStream)) {
+                long position = 0;
+                while (position < length) {
+                    long transferred = out.transferFrom(in, position, length - position);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    position += transferred;
+                }
+                if (position != length) {
+                    throw new IOException("스트림이 예상보다 일찍 끝났습니다. expected = " + length + ", actual = " + position);
+                }
+            }
+
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("로컬 파일 저장 실패: {}. key: {}", e.getMessage(), key, e);
+            deleteQuietly(temp);
+            throw new BusinessException(ErrorCode.STORAGE_IO_FAIL, ErrorCode.STORAGE_IO_FAIL.getMessage());
+        }
+    }
+
+    // 길이를 모르므로 transferFrom을 EOF(0 반환)까지 반복
+    @Override
+    public long uploadStream(String key, InputStream inputStream, String contentType) {
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+
+            long position = 0;
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 ReadableByteChannel in = Channels.newChannel(inputStream)) {
+                long transferred;
+                while ((transferred = out.transferFrom(in, position, STREAM_CHUNK_SIZE)) > 0) {
+                    position += transferred;
+                }
+            }
+
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return position;
+        } catch (IOException e) {
+            log.warn("로컬 스트림 저장 중단: {}. key: {}", e.getMessage(), key);
+            deleteQuietly(temp);
+            throw new BusinessException(ErrorCode.UPLOAD_STREAM_FAIL, ErrorCode.UPLOAD_STREAM_FAIL.getMessage());
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            log.error("로컬 파일 삭제 실패: {}. key: {}", e.getMessage(), key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND, ErrorCode.FILE_NOT_FOUND.getMessage() + key);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.STORAGE_IO_FAIL, ErrorCode.STORAGE_IO_FAIL.getMessage());
+        }
+    }
+
+    @Override
+    public String url(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        int index = url.indexOf(baseUrl + "/");
+        if (index < 0) {
+            return null;
+        }
+        return url.substring(index + baseUrl.length() + 1);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        Path path = resolve(key);
+        try {
+            return Optional.of(new StoredObject(url(key), Files.size(path), contentTypeOf(key)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.STORAGE_IO_FAIL, ErrorCode.STORAGE_IO_FAIL.getMessage());
+        }
+    }
+
+    // 서빙용 실제 파일 경로 (루트 디렉터리 밖을 가리키는 키는 거부)
+    public Path resolve(String key) {
+        Path path = rootDir.resolve(key).normalize();
+        if (key.isEmpty() || !path.startsWith(rootDir) || path.equals(rootDir)) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND, ErrorCode.FILE_NOT_FOUND.getMessage() + key);
+        }
+        return path;
+    }
+
+    public String contentTypeOf(String key) {
+        return MediaTypeFactory.getMediaType(key)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.likelion.basecode.common.storage;
+
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// multipart 요청 본문을 메모리/임시 파일에 모으지 않고 파일 파트 하나를 스트림으로 넘겨줌
+// (spring.servlet.multipart.resolve-lazily=true 여야 스프링이 요청 본문을 먼저 읽지 않음)
+@Component
+public class MultipartStreamReader {
+
+    @Value("${image.stream.max-bytes:10485760}")
+    private long maxBytes;
+
+    public <T> T readFilePart(HttpServletRequest request, String partName, FilePartHandler<T> handler) {
+        if (!JakartaServletFileUpload.isMultipartContent(request)) {
+            throw new BusinessException(ErrorCode.UPLOAD_STREAM_FAIL, ErrorCode.UPLOAD_STREAM_FAIL.getMessage());
+        }
+
+        // 스트리밍 API는 FileItem을 만들지 않으므로 타입 인자는 형식상 기본 구현(DiskFileItem)으로 지정
+        JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>();
+        // 크기 제한을 넘으면 스트림 읽기 도중 예외 -> 진행 중인 업로드는 중단됨
+        upload.setFileSizeMax(maxBytes);
+
+        try {
+            FileItemInputIterator items = upload.getItemIterator(request);
+            while (items.hasNext()) {
+                FileItemInput item = items.next();
+                if (item.isFormField() || !partName.equals(item.getFieldName())) {
+                    continue;
+                }
+                try (InputStream inputStream = item.getInputStream()) {
+                    return handler.handle(inputStream, item.getContentType());
+                }
+            }
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.UPLOAD_STREAM_FAIL, ErrorCode.UPLOAD_STREAM_FAIL.getMessage());
+        }
+
+        throw new BusinessException(ErrorCode.IMAGE_INVALID, ErrorCode.IMAGE_INVALID.getMessage() + partName);
+    }
+
+    @FunctionalInterface
+    public interface FilePartHandler<T> {
+        T handle(InputStream inputStream, String contentType);
+    }
+}
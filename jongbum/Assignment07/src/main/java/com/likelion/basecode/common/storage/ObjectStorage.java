@@ -0,0 +1,46 @@
+package com.likelion.basecode.common.storage;
+
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Optional;
+
+// 이미지 등 파일 저장소 SPI
+// storage.type 설정으로 구현체 선택 (s3: S3Uploader, local: LocalFileStorage)
+public interface ObjectStorage {
+
+    // key 위치에 스트림 내용을 저장 (length 바이트)
+    void upload(String key, InputStream inputStream, long length, String contentType);
+
+    default void upload(String key, byte[] bytes, String contentType) {
+        upload(key, new ByteArrayInputStream(bytes), bytes.length, contentType);
+    }
+
+    // 길이를 모르는 스트림을 끝까지 저장하고 저장한 바이트 수 반환
+    // 스트림 도중 예외가 나면 부분 저장된 내용은 남기지 않음
+    long uploadStream(String key, InputStream inputStream, String contentType);
+
+    void delete(String key);
+
+    InputStream open(String key);
+
+    // 클라이언트에게 내려줄 객체 URL
+    String url(String key);
+
+    // url()로 만든 URL에서 다시 key 추출 (알 수 없는 형식이면 null)
+    String keyOf(String url);
+
+    boolean exists(String key);
+
+    // 객체 메타데이터 조회 (없으면 빈 Optional)
+    Optional<StoredObject> stat(String key);
+
+    // 클라이언트가 직접 업로드할 URL 발급 (지원하지 않는 저장소는 예외)
+    default PresignedUpload presignUpload(String key, String contentType, Instant expiresAt) {
+        throw new BusinessException(ErrorCode.STORAGE_OPERATION_UNSUPPORTED,
+                ErrorCode.STORAGE_OPERATION_UNSUPPORTED.getMessage() + "presignUpload");
+    }
+}
@@ -0,0 +1,12 @@
+package com.likelion.basecode.common.storage;
+
+import java.time.Instant;
+
+// 클라이언트가 S3에 직접 PUT 할 수 있는 presigned URL과 업로드될 객체 키
+public record PresignedUpload(
+        String key,
+        String uploadUrl,
+        String contentType,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,9 @@
+package com.likelion.basecode.common.storage;
+
+// 저장소에 존재가 확인된 객체의 URL, 크기, Content-Type
+public record StoredObject(
+        String url,
+        long byteSize,
+        String contentType
+) {
+}
@@ -0,0 +1,62 @@
+package com.likelion.basecode.common.template;
+
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+// 미리 직렬화된 JSON 바이트와 gzip 압축본을 함께 보관
+// 자주 바뀌지 않는 응답을 매 요청마다 Jackson으로 직렬화/압축하지 않고 그대로 출력 스트림에 쓰기 위함
+public record EncodedResponse(
+        byte[] identity,
+        byte[] gzip
+) {
+    public static EncodedResponse of(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "응답 압축에 실패했습니다.");
+        }
+        return new EncodedResponse(json, out.toByteArray());
+    }
+
+    // Accept-Encoding에 맞춰 원본 또는 gzip 바이트를 그대로 응답 (ByteArrayHttpMessageConverter가 복사 없이 기록)
+    public ResponseEntity<byte[]> toResponseEntity(String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(gzip.length)
+                    .body(gzip);
+        }
+        return builder.contentLength(identity.length)
+                .body(identity);
+    }
+
+    // "gzip" 또는 "*"이 q=0 없이 포함되어 있는지 확인
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean disabled = parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            if (!disabled) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
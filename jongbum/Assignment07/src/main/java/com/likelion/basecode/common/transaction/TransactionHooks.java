@@ -0,0 +1,25 @@
+package com.likelion.basecode.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 결과에 맞춰 실행할 작업 (노드 캐시/인덱스 반영, 저장소 객체 삭제 등)
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 실행 (롤백되면 실행하지 않음), 트랜잭션 밖이면 바로 실행
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.likelion.basecode.common.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+// GET /actuator/warmup -> 단계별 소요 시간과 결과
+@Component
+@Endpoint(id = "warmup")
+@RequiredArgsConstructor
+public class WarmupEndpoint {
+
+    private final WarmupRunner warmupRunner;
+
+    @ReadOperation
+    public WarmupReport warmup() {
+        return warmupRunner.report();
+    }
+}
@@ -0,0 +1,29 @@
+package com.likelion.basecode.common.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// readiness 그룹에 포함 -> 워밍업이 끝나기 전까지 readiness 프로브는 OUT_OF_SERVICE
+// 단계가 실패/시간 초과여도 워밍업이 끝나면 UP (워밍업은 최선 노력일 뿐 트래픽을 막을 이유는 아님)
+@Component("warmup")
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupRunner warmupRunner;
+
+    @Override
+    public Health health() {
+        WarmupReport report = warmupRunner.report();
+        Health.Builder builder = switch (report.state()) {
+            case COMPLETED, DISABLED -> Health.up();
+            case PENDING, RUNNING -> Health.outOfService();
+        };
+        return builder
+                .withDetail("state", report.state())
+                .withDetail("elapsedMs", report.elapsedMs())
+                .withDetail("budgetMs", report.budgetMs())
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.likelion.basecode.common.warmup;
+
+import java.time.Instant;
+import java.util.List;
+
+// 워밍업 전체 결과 (/actuator/warmup, readiness 헬스 상세에 노출)
+public record WarmupReport(
+        State state,
+        Instant startedAt,
+        long elapsedMs,
+        long budgetMs,
+        List<WarmupStepResult> steps
+) {
+    public enum State {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        DISABLED
+    }
+
+    public static WarmupReport pending(long budgetMs) {
+        return new WarmupReport(State.PENDING, null, 0, budgetMs, List.of());
+    }
+}
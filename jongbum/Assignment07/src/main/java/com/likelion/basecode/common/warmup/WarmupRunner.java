@@ -0,0 +1,220 @@
+package com.likelion.basecode.common.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.basecode.common.error.SuccessCode;
+import com.likelion.basecode.common.template.ApiResTemplate;
+import com.likelion.basecode.member.api.dto.response.MemberInfoResponseDto;
+import com.likelion.basecode.member.api.dto.response.MemberListResponseDto;
+import com.likelion.basecode.member.domain.Part;
+import com.likelion.basecode.member.domain.repository.MemberRepository;
+import com.likelion.basecode.movie.api.dto.response.MovieListResponseDto;
+import com.likelion.basecode.movie.api.dto.response.MovieResponseDto;
+import com.likelion.basecode.movie.application.BoxOfficeSnapshot;
+import com.likelion.basecode.movie.application.MovieService;
+import com.likelion.basecode.post.api.dto.response.PostInfoResponseDto;
+import com.likelion.basecode.post.api.dto.response.PostListResponseDto;
+import com.likelion.basecode.post.domain.repository.PostRepository;
+import com.likelion.basecode.posttag.domain.repository.PostTagRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+// 배포 직후 첫 요청들이 빈 커넥션 풀, 컴파일되지 않은 쿼리, 비어 있는 박스오피스 캐시, 차가운 JIT를 만나지 않도록 미리 실행
+// ApplicationRunner는 readiness가 ACCEPTING_TRAFFIC이 되기 전에 실행되므로, 워밍업이 끝나야 트래픽을 받음
+// 단계마다 남은 시간 예산 안에서만 기다리고, 실패/시간 초과는 기록만 하고 넘어감
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final long MISSING_ID = 0L;
+
+    private final DataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+    private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
+    private final MemberRepository memberRepository;
+    private final MovieService movieService;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<WarmupReport> report = new AtomicReference<>();
+
+    @Value("${warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${warmup.budget-ms:30000}")
+    private long budgetMs;
+
+    @Value("${warmup.query-iterations:20}")
+    private int queryIterations;
+
+    @Value("${warmup.json-iterations:500}")
+    private int jsonIterations;
+
+    public WarmupReport report() {
+        WarmupReport current = report.get();
+        return current != null ? current : WarmupReport.pending(budgetMs);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            report.set(new WarmupReport(WarmupReport.State.DISABLED, null, 0, budgetMs, List.of()));
+            return;
+        }
+
+        Instant startedAt = Instant.now();
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        List<WarmupStepResult> steps = new ArrayList<>();
+        report.set(new WarmupReport(WarmupReport.State.RUNNING, startedAt, 0, budgetMs, List.of()));
+
+        // 시간 초과된 단계가 기동을 붙잡지 않도록 데몬 스레드에서 실행
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            steps.add(runStep(executor, deadline, "connection-pool", this::warmConnectionPool));
+            steps.add(runStep(executor, deadline, "query-plans", this::warmQueryPlans));
+            steps.add(runStep(executor, deadline, "box-office", this::warmBoxOffice));
+            steps.add(runStep(executor, deadline, "json", this::warmJsonSerialization));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        report.set(new WarmupReport(WarmupReport.State.COMPLETED, startedAt, elapsedMs, budgetMs, List.copyOf(steps)));
+        log.info("워밍업 완료: {}ms (예산 {}ms) {}", elapsedMs, budgetMs, steps);
+    }
+
+    private WarmupStepResult runStep(ExecutorService executor, long deadline, String name, Callable<String> step) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return new WarmupStepResult(name, WarmupStepResult.Status.SKIPPED, 0, "시간 예산 소진");
+        }
+
+        long started = System.nanoTime();
+        Future<String> future = executor.submit(step);
+        try {
+            String detail = future.get(remaining, TimeUnit.NANOSECONDS);
+            return new WarmupStepResult(name, WarmupStepResult.Status.DONE, elapsedMs(started), detail);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return new WarmupStepResult(name, WarmupStepResult.Status.TIMED_OUT, elapsedMs(started), null);
+        } catch (ExecutionException e) {
+            log.warn("워밍업 단계 실패: {} - {}", name, e.getCause().getMessage());
+            return new WarmupStepResult(name, WarmupStepResult.Status.FAILED, elapsedMs(started), e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return new WarmupStepResult(name, WarmupStepResult.Status.FAILED, elapsedMs(started), "interrupted");
+        }
+    }
+
+    // 최소 유휴 커넥션 수만큼 동시에 빌려서 물리 커넥션을 미리 열어둠
+    private String warmConnectionPool() throws SQLException {
+        int target = 1;
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            target = Math.max(1, Math.min(hikari.getMinimumIdle(), hikari.getMaximumPoolSize()));
+        }
+
+        List<Connection> connections = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                connection.isValid(1);
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+        return "connections=" + target;
+    }
+
+    // 주요 조회 쿼리를 존재하지 않는 id로 실행 -> JPQL 파싱/SQL 변환 결과가 쿼리 플랜 캐시에 올라감
+    private String warmQueryPlans() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        for (int i = 0; i < queryIterations; i++) {
+            readOnly.executeWithoutResult(status -> {
+                postRepository.findByIdWithTags(MISSING_ID);
+                postRepository.findSummariesByMemberId(MISSING_ID);
+                postTagRepository.findTagNamesByPostIds(List.of(MISSING_ID));
+                postRepository.findVersionStampByMemberId(MISSING_ID);
+                memberRepository.findVersionStamp();
+            });
+        }
+        return "iterations=" + queryIterations;
+    }
+
+    // 박스오피스 스냅샷(원본 + gzip 바이트)을 미리 만들어 첫 요청이 KOBIS 호출을 기다리지 않게 함
+    private String warmBoxOffice() {
+        BoxOfficeSnapshot snapshot = movieService.getDailyBoxOfficeSnapshot(movieService.boxOfficeTargetDate());
+        return "targetDate=" + snapshot.targetDate() + ", movies=" + snapshot.movies().movies().size();
+    }
+
+    // 주요 응답 DTO의 직렬화 경로를 합성 데이터로 반복 실행 -> Jackson 직렬화기 생성과 JIT 컴파일
+    private String warmJsonSerialization() throws Exception {
+        List<PostInfoResponseDto> posts = IntStream.range(0, 20)
+                .mapToObj(i -> PostInfoResponseDto.builder()
+                        .title("warmup title " + i)
+                        .contents("warmup contents " + i)
+                        .writer("warmup")
+                        .tags(List.of("tag" + i, "tag" + (i + 1), "tag" + (i + 2)))
+                        .imageUrl("https://example.com/post-images/" + i + ".jpg")
+                        .thumbnailUrl("https://example.com/post-images/" + i + "_thumb.jpg")
+                        .build())
+                .toList();
+        List<MemberInfoResponseDto> members = IntStream.range(0, 20)
+                .mapToObj(i -> MemberInfoResponseDto.builder()
+                        .name("member" + i)
+                        .age(20 + i)
+                        .part(Part.values()[i % Part.values().length])
+                        .build())
+                .toList();
+        List<MovieResponseDto> movies = IntStream.range(0, 10)
+                .mapToObj(i -> new MovieResponseDto("2020" + i, "movie" + i, "2024-01-0" + i, "한국", "드라마, 액션"))
+                .toList();
+
+        long bytes = 0;
+        for (int i = 0; i < jsonIterations; i++) {
+            bytes += objectMapper.writeValueAsBytes(
+                    ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, PostListResponseDto.from(posts))).length;
+            bytes += objectMapper.writeValueAsBytes(
+                    ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, MemberListResponseDto.from(members))).length;
+            bytes += objectMapper.writeValueAsBytes(new MovieListResponseDto(movies)).length;
+        }
+        return "iterations=" + jsonIterations + ", bytes=" + bytes;
+    }
+
+    private static long elapsedMs(long started) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    }
+}
@@ -0,0 +1,16 @@
+package com.likelion.basecode.common.warmup;
+
+// 워밍업 단계 하나의 결과
+public record WarmupStepResult(
+        String name,
+        Status status,
+        long durationMs,
+        String detail       // 실패/시간 초과 사유 또는 처리량 (예: "connections=10")
+) {
+    public enum Status {
+        DONE,
+        FAILED,
+        TIMED_OUT,
+        SKIPPED     // 시간 예산을 다 써서 실행하지 않음
+    }
+}
@@ -0,0 +1,202 @@
+package com.likelion.basecode.image.application;
+
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.common.image.ImageProcessor;
+import com.likelion.basecode.common.image.ProcessedImage;
+import com.likelion.basecode.common.storage.ImageUploadResult;
+import com.likelion.basecode.common.storage.ObjectStorage;
+import com.likelion.basecode.common.storage.PresignedUpload;
+import com.likelion.basecode.common.storage.StoredObject;
+import com.likelion.basecode.common.transaction.TransactionHooks;
+import com.likelion.basecode.image.domain.ImageObject;
+import com.likelion.basecode.image.domain.repository.ImageObjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+// 내용 주소 방식(content-addressed) 이미지 저장소
+// 객체 키 = 디렉터리/SHA-256(내용).확장자 -> 같은 이미지는 한 번만 업로드되고 참조 수로 수명 관리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ImageStorageService {
+
+    // presigned 업로드로 허용하는 이미지 형식과 확장자
+    private static final Map<String, String> PRESIGNED_IMAGE_TYPES = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/webp", "webp",
+            "image/gif", "gif"
+    );
+    private static final String PRESIGNED_DIR = "uploads";
+    private static final Pattern PRESIGNED_FILE_NAME = Pattern.compile("[0-9a-f\\-]{36}\\.(jpg|png|webp|gif)");
+
+    private final ObjectStorage objectStorage;
+    private final ImageProcessor imageProcessor;
+    private final ImageObjectRepository imageObjectRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${image.presigned.expiration-seconds:300}")
+    private long presignedExpirationSeconds;
+
+    @Value("${image.presigned.max-bytes:10485760}")
+    private long presignedMaxBytes;
+
+    // 이미지를 변환한 뒤 변형본별로 참조를 얻고, 아직 저장되지 않은 것만 업로드
+    public ImageUploadResult store(MultipartFile imageFile, String dirName) {
+        ProcessedImage processed = imageProcessor.process(imageFile);
+
+        String imageUrl = storeVariant(dirName, processed.main(), processed);
+        String thumbnailUrl = storeVariant(dirName, processed.thumbnail(), processed);
+        return new ImageUploadResult(imageUrl, thumbnailUrl);
+    }
+
+    // 클라이언트가 직접 업로드할 URL 발급
+    // 키는 서버가 정하며 dirName/uploads/{UUID}.{확장자} 형태로만 만들어짐
+    @Transactional(readOnly = true)
+    public PresignedUpload issueUploadUrl(String dirName, String contentType) {
+        String extension = PRESIGNED_IMAGE_TYPES.get(contentType);
+        if (extension == null) {
+            throw new BusinessException(ErrorCode.IMAGE_CONTENT_TYPE_UNSUPPORTED,
+                    ErrorCode.IMAGE_CONTENT_TYPE_UNSUPPORTED.getMessage() + contentType);
+        }
+
+        String key = dirName + "/" + PRESIGNED_DIR + "/" + UUID.randomUUID() + "." + extension;
+        return objectStorage.presignUpload(key, contentType, Instant.now().plusSeconds(presignedExpirationSeconds));
+    }
+
+    // 요청 본문 스트림을 그대로 저장소에 업로드하고 키 반환 (presigned 업로드와 같은 uploads/ 키 공간 사용)
+    // 업로드 시간 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 -> 게시글 연결은 verifyUploaded + register로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String storeStream(String dirName, InputStream inputStream, String contentType) {
+        String extension = PRESIGNED_IMAGE_TYPES.get(contentType);
+        if (extension == null) {
+            throw new BusinessException(ErrorCode.IMAGE_CONTENT_TYPE_UNSUPPORTED,
+                    ErrorCode.IMAGE_CONTENT_TYPE_UNSUPPORTED.getMessage() + contentType);
+        }
+
+        String key = dirName + "/" + PRESIGNED_DIR + "/" + UUID.randomUUID() + "." + extension;
+        long byteSize = objectStorage.uploadStream(key, inputStream, contentType);
+        log.debug("스트리밍 업로드 완료: {} ({} bytes)", key, byteSize);
+        return key;
+    }
+
+    // 직접 업로드된 객체가 실제로 존재하는지 HEAD 요청으로 확인
+    // presigned PUT은 크기를 강제할 수 없으므로 업로드 후 검사해서 초과분은 지움
+    @Transactional(readOnly = true)
+    public StoredObject verifyUploaded(String dirName, String key) {
+        String prefix = dirName + "/" + PRESIGNED_DIR + "/";
+        if (key == null || !key.startsWith(prefix)
+                || !PRESIGNED_FILE_NAME.matcher(key.substring(prefix.length())).matches()) {
+            throw new BusinessException(ErrorCode.IMAGE_KEY_INVALID, ErrorCode.IMAGE_KEY_INVALID.getMessage() + key);
+        }
+
+        StoredObject uploaded = objectStorage.stat(key)
+                .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_NOT_UPLOADED,
+                        ErrorCode.IMAGE_NOT_UPLOADED.getMessage() + key));
+
+        if (uploaded.byteSize() > presignedMaxBytes || !PRESIGNED_IMAGE_TYPES.containsKey(uploaded.contentType())) {
+            objectStorage.delete(key);
+            throw new BusinessException(ErrorCode.IMAGE_KEY_INVALID, ErrorCode.IMAGE_KEY_INVALID.getMessage() + key);
+        }
+        return uploaded;
+    }
+
+    // 직접 업로드된 객체의 참조 등록 (키가 UUID라서 중복 제거 대상은 아님)
+    public void register(StoredObject storedObject) {
+        imageObjectRepository.acquire(objectStorage.keyOf(storedObject.url()), storedObject.byteSize());
+    }
+
+    // 참조 해제 - 마지막 참조였을 때만 저장소에서 삭제
+    public void release(String imageUrl) {
+        if (imageUrl == null || imageUrl.isEmpty()) {
+            return;
+        }
+        String key = objectStorage.keyOf(imageUrl);
+        if (key == null || key.isEmpty()) {
+            log.warn("이미지 URL에서 키를 추출할 수 없습니다: {}", imageUrl);
+            return;
+        }
+
+        Optional<ImageObject> imageObject = imageObjectRepository.findByIdForUpdate(key);
+        if (imageObject.isEmpty()) {
+            // 참조 수 관리 이전에 업로드된 객체는 단독 소유로 보고 삭제
+            deleteAfterCommit(key);
+            return;
+        }
+
+        ImageObject object = imageObject.get();
+        object.release();
+        if (object.getRefCount() == 0) {
+            imageObjectRepository.delete(object);
+            deleteAfterCommit(key);
+        }
+    }
+
+    // 저장소 객체 삭제는 커밋 후에 (롤백되면 행과 참조 수가 되살아나므로 객체도 남아 있어야 함, 행 잠금 중 S3 왕복도 없음)
+    // 삭제 직전 새 트랜잭션에서 키를 다시 잠그고 확인 -> 그 사이 같은 내용이 다시 참조됐으면 삭제하지 않음
+    // 행이 없으면 SELECT ... FOR UPDATE가 간격 잠금을 잡으므로 삭제가 끝날 때까지 같은 키의 acquire는 대기하고,
+    // 이후 storeVariant의 (refCount == 1 && !exists) 검사에서 다시 업로드됨
+    private void deleteAfterCommit(String key) {
+        Runnable delete = () -> {
+            TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+            requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            try {
+                requiresNew.executeWithoutResult(status -> {
+                    if (imageObjectRepository.findByIdForUpdate(key).isEmpty()) {
+                        objectStorage.delete(key);
+                    } else {
+                        log.debug("삭제 전에 다시 참조된 이미지 유지: {}", key);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 참조 없는 객체가 남을 뿐 게시글에는 영향 없음
+                log.warn("이미지 객체 삭제 실패: {}", key, e);
+            }
+        };
+
+        TransactionHooks.afterCommit(delete);
+    }
+
+    private String storeVariant(String dirName, byte[] bytes, ProcessedImage processed) {
+        String key = dirName + "/" + sha256Hex(bytes) + "." + processed.extension();
+
+        imageObjectRepository.acquire(key, bytes.length);
+        int refCount = imageObjectRepository.findRefCount(key);
+
+        // 다른 게시글이 이미 참조 중이면 업로드 생략, 첫 참조여도 객체가 이미 있으면(이전 롤백 등) 생략
+        if (refCount == 1 && !objectStorage.exists(key)) {
+            objectStorage.upload(key, bytes, processed.contentType());
+        } else {
+            log.debug("이미 저장된 이미지 재사용: {} (refCount = {})", key, refCount);
+        }
+        return objectStorage.url(key);
+    }
+
+    private static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.likelion.basecode.image.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// S3에 저장된 이미지 객체와 이를 참조하는 게시글 수
+// 같은 내용의 이미지는 같은 키(내용 해시)로 한 번만 저장되고, 참조 수가 0이 될 때만 삭제됨
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "image_object")
+public class ImageObject {
+
+    @Id
+    @Column(name = "object_key")
+    private String objectKey;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "byte_size", nullable = false)
+    private long byteSize;
+
+    public void release() {
+        this.refCount = Math.max(0, this.refCount - 1);
+    }
+}
@@ -0,0 +1,28 @@
+package com.likelion.basecode.image.domain.repository;
+
+import com.likelion.basecode.image.domain.ImageObject;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ImageObjectRepository extends JpaRepository<ImageObject, String> {
+
+    // 참조 수 증가 (행이 없으면 1로 생성) - 동시 업로드에도 한 문장으로 처리
+    @Modifying
+    @Query(value = "INSERT INTO image_object (object_key, ref_count, byte_size) VALUES (:objectKey, 1, :byteSize) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+    void acquire(@Param("objectKey") String objectKey, @Param("byteSize") long byteSize);
+
+    @Query(value = "SELECT ref_count FROM image_object WHERE object_key = :objectKey", nativeQuery = true)
+    int findRefCount(@Param("objectKey") String objectKey);
+
+    // 참조 해제 시 행 잠금 -> 삭제가 끝날 때까지 같은 키의 acquire는 대기
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM ImageObject i WHERE i.objectKey = :objectKey")
+    Optional<ImageObject> findByIdForUpdate(@Param("objectKey") String objectKey);
+}
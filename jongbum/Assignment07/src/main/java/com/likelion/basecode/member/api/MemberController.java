@@ -1,7 +1,9 @@
 package com.likelion.basecode.member.api;
 
 import com.likelion.basecode.common.error.SuccessCode;
+import com.likelion.basecode.common.etag.RepresentationETag;
 import com.likelion.basecode.common.template.ApiResTemplate;
+import com.likelion.basecode.member.api.dto.response.MemberDeletionStatusResponseDto;
 import com.likelion.basecode.member.api.dto.response.MemberInfoResponseDto;
 import com.likelion.basecode.member.api.dto.response.MemberListResponseDto;
 import com.likelion.basecode.member.api.dto.request.MemberSaveRequestDto;
@@ -10,6 +12,7 @@ import com.likelion.basecode.member.application.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 
 @RestController
@@ -29,7 +32,11 @@ public class MemberController {
 
     // 사용자 전체 조회
     @GetMapping("/all")
-    public ApiResTemplate<MemberListResponseDto> memberFindAll() {
+    public ApiResTemplate<MemberListResponseDto> memberFindAll(WebRequest webRequest) {
+        // If-None-Match가 현재 ETag와 같으면 목록 조회 없이 304 반환 (ETag는 응답 형식별로 다름)
+        if (webRequest.checkNotModified(RepresentationETag.of(memberService.memberListETag(), webRequest))) {
+            return null;
+        }
         MemberListResponseDto memberListResponseDto = memberService.memberFindAll();
         return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, memberListResponseDto);
     }
@@ -49,10 +56,26 @@ public class MemberController {
         return ApiResTemplate.successWithNoContent(SuccessCode.MEMBER_UPDATE_SUCCESS);
     }
 
-    // 회원 id를 통한 사용자 삭제
+    // 회원 id를 통한 사용자 삭제 (게시글/이미지 삭제는 백그라운드에서 진행)
     @DeleteMapping("/{memberId}")
+    @ResponseStatus(HttpStatus.ACCEPTED)
     public ApiResTemplate<String> memberDelete(@PathVariable("memberId") Long memberId) {
         memberService.memberDelete(memberId);
-        return ApiResTemplate.successWithNoContent(SuccessCode.MEMBER_DELETE_SUCCESS);
+        return ApiResTemplate.successWithNoContent(SuccessCode.MEMBER_DELETE_ACCEPTED);
+    }
+
+    // 사용자 삭제 진행 상황 조회
+    @GetMapping("/{memberId}/deletion")
+    public ApiResTemplate<MemberDeletionStatusResponseDto> memberDeletionStatus(@PathVariable("memberId") Long memberId) {
+        MemberDeletionStatusResponseDto memberDeletionStatusResponseDto = memberService.memberDeletionStatus(memberId);
+        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, memberDeletionStatusResponseDto);
+    }
+
+    // 실패로 멈춘 사용자 삭제 작업 재개
+    @PostMapping("/{memberId}/deletion/retry")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResTemplate<String> memberDeletionRetry(@PathVariable("memberId") Long memberId) {
+        memberService.memberDeletionRetry(memberId);
+        return ApiResTemplate.successWithNoContent(SuccessCode.MEMBER_DELETE_ACCEPTED);
     }
 }
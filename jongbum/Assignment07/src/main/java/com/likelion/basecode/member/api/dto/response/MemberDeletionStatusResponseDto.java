@@ -0,0 +1,30 @@
+package com.likelion.basecode.member.api.dto.response;
+
+import com.likelion.basecode.member.domain.DeletionStatus;
+import com.likelion.basecode.member.domain.MemberDeletionJob;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record MemberDeletionStatusResponseDto(
+        Long memberId,
+        DeletionStatus status,
+        long deletedPosts,
+        long releasedImages,
+        String lastError,
+        LocalDateTime requestedAt,
+        LocalDateTime updatedAt
+) {
+    public static MemberDeletionStatusResponseDto from(MemberDeletionJob job) {
+        return MemberDeletionStatusResponseDto.builder()
+                .memberId(job.getMemberId())
+                .status(job.getStatus())
+                .deletedPosts(job.getDeletedPosts())
+                .releasedImages(job.getReleasedImages())
+                .lastError(job.getLastError())
+                .requestedAt(job.getRequestedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.likelion.basecode.member.application;
+
+import com.likelion.basecode.image.application.ImageStorageService;
+import com.likelion.basecode.member.domain.DeletionStatus;
+import com.likelion.basecode.member.domain.MemberDeletionJob;
+import com.likelion.basecode.member.domain.repository.MemberDeletionJobRepository;
+import com.likelion.basecode.member.domain.repository.MemberRepository;
+import com.likelion.basecode.post.domain.repository.PostImageRef;
+import com.likelion.basecode.post.domain.repository.PostRepository;
+import com.likelion.basecode.posttag.domain.repository.PostTagRef;
+import com.likelion.basecode.posttag.domain.repository.PostTagRepository;
+import com.likelion.basecode.tag.application.TagCooccurrenceIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 삭제 요청된 사용자의 게시글/태그 연결/이미지를 일정 개수씩 나눠서 삭제하는 백그라운드 작업
+// 배치마다 별도 트랜잭션 -> 잠금은 배치 하나 동안만 유지되고, 진행 상황은 member_deletion_job에 커밋됨
+// 중간에 서버가 내려가도 남은 게시글은 그대로 DB에 있으므로 다음 실행에서 이어서 처리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberDeletionWorker {
+
+    private static final List<DeletionStatus> ACTIVE_STATUSES = List.of(DeletionStatus.PENDING, DeletionStatus.RUNNING);
+
+    private final MemberDeletionJobRepository memberDeletionJobRepository;
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
+    private final ImageStorageService imageStorageService;
+    private final TagCooccurrenceIndex tagCooccurrenceIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${member.deletion.enabled:true}")
+    private boolean enabled;
+
+    // 배치 하나에서 삭제할 게시글 수 (게시글당 이미지 해제 2번 포함)
+    @Value("${member.deletion.batch-size:100}")
+    private int batchSize;
+
+    // 한 번 실행할 때 처리할 최대 배치 수 -> 다음 실행까지 다른 작업도 순서가 돌아옴
+    @Value("${member.deletion.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    // 연속으로 이 횟수만큼 실패하면 FAILED로 멈춤
+    @Value("${member.deletion.max-failures:5}")
+    private int maxFailures;
+
+    @Scheduled(fixedDelayString = "${member.deletion.poll-interval-ms:2000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> memberIds = memberDeletionJobRepository
+                .findMemberIdsByStatusIn(ACTIVE_STATUSES, PageRequest.of(0, maxBatchesPerRun));
+
+        int remainingBatches = maxBatchesPerRun;
+        for (Long memberId : memberIds) {
+            while (remainingBatches > 0) {
+                remainingBatches--;
+                if (runBatch(memberId) != BatchResult.PROGRESSED) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private BatchResult runBatch(Long memberId) {
+        try {
+            return transactionTemplate.execute(status -> deleteNextBatch(memberId));
+        } catch (RuntimeException e) {
+            log.warn("사용자 삭제 배치 실패: memberId = {}", memberId, e);
+            transactionTemplate.executeWithoutResult(status -> memberDeletionJobRepository.findById(memberId)
+                    .ifPresent(job -> job.recordFailure(e.toString(), maxFailures, LocalDateTime.now())));
+            return BatchResult.FAILED;
+        }
+    }
+
+    private BatchResult deleteNextBatch(Long memberId) {
+        // 다른 인스턴스가 같은 작업을 처리 중이면 건너뜀
+        Optional<MemberDeletionJob> claimed = memberDeletionJobRepository.findByIdForUpdateSkipLocked(memberId);
+        if (claimed.isEmpty() || !ACTIVE_STATUSES.contains(claimed.get().getStatus())) {
+            return BatchResult.SKIPPED;
+        }
+        MemberDeletionJob job = claimed.get();
+
+        List<PostImageRef> posts = postRepository.findImageRefsByMemberId(memberId, PageRequest.of(0, batchSize));
+        if (posts.isEmpty()) {
+            memberRepository.deleteRowById(memberId);
+            job.complete(LocalDateTime.now());
+            log.info("사용자 삭제 완료: memberId = {}, 게시글 {}개, 이미지 {}개",
+                    memberId, job.getDeletedPosts(), job.getReleasedImages());
+            return BatchResult.COMPLETED;
+        }
+
+        List<Long> postIds = posts.stream().map(PostImageRef::postId).toList();
+        // 지우는 게시글의 태그 조합을 동시 출현 집계에서 뺌 (배치 트랜잭션 커밋 후)
+        Map<Long, List<Long>> tagIdsByPost = new HashMap<>(postIds.size());
+        for (PostTagRef ref : postTagRepository.findTagRefsByPostIds(postIds)) {
+            tagIdsByPost.computeIfAbsent(ref.postId(), key -> new ArrayList<>()).add(ref.tagId());
+        }
+        tagCooccurrenceIndex.recordPostTags(tagIdsByPost, Map.of());
+        postTagRepository.deleteAllByPostIds(postIds);
+        int deletedPosts = postRepository.deleteAllByPostIds(postIds);
+
+        // 게시글 행을 지운 뒤 참조 해제 -> 같은 이미지를 쓰는 다른 사용자의 게시글이 있으면 객체는 유지됨
+        int releasedImages = 0;
+        for (PostImageRef post : posts) {
+            releasedImages += release(post.imageUrl()) + release(post.thumbnailUrl());
+        }
+
+        job.recordBatch(deletedPosts, releasedImages, LocalDateTime.now());
+        return BatchResult.PROGRESSED;
+    }
+
+    private int release(String imageUrl) {
+        if (imageUrl == null || imageUrl.isEmpty()) {
+            return 0;
+        }
+        imageStorageService.release(imageUrl);
+        return 1;
+    }
+
+    private enum BatchResult {
+        PROGRESSED, COMPLETED, SKIPPED, FAILED
+    }
+}
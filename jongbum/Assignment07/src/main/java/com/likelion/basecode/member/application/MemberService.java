@@ -2,22 +2,28 @@ package com.likelion.basecode.member.application;
 
 import com.likelion.basecode.common.error.ErrorCode;
 import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.member.api.dto.response.MemberDeletionStatusResponseDto;
 import com.likelion.basecode.member.api.dto.response.MemberInfoResponseDto;
 import com.likelion.basecode.member.api.dto.response.MemberListResponseDto;
 import com.likelion.basecode.member.api.dto.request.MemberSaveRequestDto;
 import com.likelion.basecode.member.api.dto.request.MemberUpdateRequestDto;
+import com.likelion.basecode.member.domain.DeletionStatus;
 import com.likelion.basecode.member.domain.Member;
+import com.likelion.basecode.member.domain.MemberDeletionJob;
+import com.likelion.basecode.member.domain.repository.MemberDeletionJobRepository;
 import com.likelion.basecode.member.domain.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.List;
+
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MemberService {
     private final MemberRepository memberRepository;
+    private final MemberDeletionJobRepository memberDeletionJobRepository;
 
     // 사용자 정보 저장
     @Transactional
@@ -32,11 +38,12 @@ public class MemberService {
 
     // 사용자 모두 조회
     public MemberListResponseDto memberFindAll() {
-        List<Member> members = memberRepository.findAll();
-        List<MemberInfoResponseDto> memberInfoResponseDtoList = members.stream()
-                .map(MemberInfoResponseDto::from)
-                .toList();
-        return MemberListResponseDto.from(memberInfoResponseDtoList);
+        return MemberListResponseDto.from(memberRepository.findAllInfo());
+    }
+
+    // 사용자 전체 조회 응답의 ETag (집계 쿼리 한 번, DTO 생성 없음)
+    public String memberListETag() {
+        return memberRepository.findVersionStamp().toETag("member-all");
     }
 
     // 단일 사용자 조회
@@ -63,7 +70,8 @@ public class MemberService {
         member.update(memberUpdateRequestDto);
     }
 
-    // 사용자 정보 삭제
+    // 사용자 삭제 요청 - 삭제 표시와 작업 등록만 하고 바로 반환
+    // 게시글/태그 연결/이미지는 MemberDeletionWorker가 배치 단위로 삭제
     @Transactional
     public void memberDelete(Long memberId) {
         Member member = memberRepository.findById(memberId)
@@ -72,6 +80,32 @@ public class MemberService {
                                 ErrorCode.MEMBER_NOT_FOUND_EXCEPTION.getMessage() + memberId)
                 );
 
-        memberRepository.delete(member);
+        LocalDateTime now = LocalDateTime.now();
+        member.markDeleted(now);
+        memberDeletionJobRepository.save(MemberDeletionJob.request(memberId, now));
+    }
+
+    // 사용자 삭제 작업 진행 상황
+    public MemberDeletionStatusResponseDto memberDeletionStatus(Long memberId) {
+        return MemberDeletionStatusResponseDto.from(findDeletionJob(memberId));
+    }
+
+    // 실패로 멈춘 삭제 작업 재개 (이미 삭제된 게시글은 다시 처리하지 않음)
+    @Transactional
+    public void memberDeletionRetry(Long memberId) {
+        MemberDeletionJob job = findDeletionJob(memberId);
+        if (job.getStatus() != DeletionStatus.FAILED) {
+            throw new BusinessException(ErrorCode.MEMBER_DELETION_NOT_RETRYABLE,
+                    ErrorCode.MEMBER_DELETION_NOT_RETRYABLE.getMessage() + job.getStatus());
+        }
+        job.retry(LocalDateTime.now());
+    }
+
+    private MemberDeletionJob findDeletionJob(Long memberId) {
+        return memberDeletionJobRepository.findById(memberId)
+                .orElseThrow(
+                        () -> new BusinessException(ErrorCode.MEMBER_DELETION_NOT_FOUND,
+                                ErrorCode.MEMBER_DELETION_NOT_FOUND.getMessage() + memberId)
+                );
     }
 }
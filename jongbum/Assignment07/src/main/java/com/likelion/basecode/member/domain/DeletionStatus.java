@@ -0,0 +1,8 @@
+package com.likelion.basecode.member.domain;
+
+public enum DeletionStatus {
+    PENDING,    // 요청됨, 아직 처리 전
+    RUNNING,    // 배치 처리 중 (재시작되면 남은 게시글부터 이어서 처리)
+    COMPLETED,  // 게시글/태그 연결/이미지/사용자 행 모두 삭제됨
+    FAILED      // 연속 실패 횟수 초과 -> 원인 확인 후 retry 필요
+}
@@ -7,12 +7,17 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 삭제 요청된 사용자는 실제 행이 지워지기 전(MemberDeletionWorker 처리 중)에도 조회되지 않음
+@SQLRestriction("deleted_at IS NULL")
 public class Member {
 
     @Id
@@ -28,6 +33,14 @@ public class Member {
     @Column(length = 20)
     private Part part;
 
+    // 수정될 때마다 증가 -> 조회 API의 ETag 계산에 사용
+    @Version
+    private Long version;
+
+    // 삭제 요청 시각 (게시글/태그/이미지는 백그라운드 작업이 나눠서 삭제)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Post> posts = new ArrayList<>();
 
@@ -42,4 +55,8 @@ public class Member {
         this.name = memberUpdateRequestDto.name();
         this.age = memberUpdateRequestDto.age();
     }
+
+    public void markDeleted(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
 }
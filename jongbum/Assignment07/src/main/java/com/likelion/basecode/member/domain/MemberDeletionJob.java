@@ -0,0 +1,85 @@
+package com.likelion.basecode.member.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 사용자 삭제 작업의 진행 상황
+// 진행 정보가 DB에 있으므로 서버가 재시작되어도 남은 게시글부터 이어서 삭제
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_deletion_job")
+public class MemberDeletionJob {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DeletionStatus status;
+
+    @Column(name = "deleted_posts", nullable = false)
+    private long deletedPosts;
+
+    @Column(name = "released_images", nullable = false)
+    private long releasedImages;
+
+    @Column(name = "failure_count", nullable = false)
+    private int failureCount;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static MemberDeletionJob request(Long memberId, LocalDateTime now) {
+        MemberDeletionJob job = new MemberDeletionJob();
+        job.memberId = memberId;
+        job.status = DeletionStatus.PENDING;
+        job.requestedAt = now;
+        job.updatedAt = now;
+        return job;
+    }
+
+    // 배치 하나가 커밋될 때마다 호출 -> 실패 횟수는 연속 실패 기준이라 초기화
+    public void recordBatch(int deletedPosts, int releasedImages, LocalDateTime now) {
+        this.status = DeletionStatus.RUNNING;
+        this.deletedPosts += deletedPosts;
+        this.releasedImages += releasedImages;
+        this.failureCount = 0;
+        this.lastError = null;
+        this.updatedAt = now;
+    }
+
+    public void complete(LocalDateTime now) {
+        this.status = DeletionStatus.COMPLETED;
+        this.updatedAt = now;
+    }
+
+    public void recordFailure(String error, int maxFailures, LocalDateTime now) {
+        this.failureCount++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        if (this.failureCount >= maxFailures) {
+            this.status = DeletionStatus.FAILED;
+        }
+        this.updatedAt = now;
+    }
+
+    // 실패로 멈춘 작업을 다시 대기열에 넣음 (진행 정보는 유지)
+    public void retry(LocalDateTime now) {
+        this.status = DeletionStatus.PENDING;
+        this.failureCount = 0;
+        this.updatedAt = now;
+    }
+}
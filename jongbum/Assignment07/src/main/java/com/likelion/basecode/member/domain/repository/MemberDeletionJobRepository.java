@@ -0,0 +1,29 @@
+package com.likelion.basecode.member.domain.repository;
+
+import com.likelion.basecode.member.domain.DeletionStatus;
+import com.likelion.basecode.member.domain.MemberDeletionJob;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MemberDeletionJobRepository extends JpaRepository<MemberDeletionJob, Long> {
+
+    // 처리할 작업 목록 (요청 순)
+    @Query("SELECT j.memberId FROM MemberDeletionJob j WHERE j.status IN :statuses ORDER BY j.requestedAt")
+    List<Long> findMemberIdsByStatusIn(@Param("statuses") Collection<DeletionStatus> statuses, Pageable pageable);
+
+    // 배치 하나 동안 작업 행 잠금, 다른 인스턴스가 이미 잡고 있으면 기다리지 않고 건너뜀 (SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM MemberDeletionJob j WHERE j.memberId = :memberId")
+    Optional<MemberDeletionJob> findByIdForUpdateSkipLocked(@Param("memberId") Long memberId);
+}
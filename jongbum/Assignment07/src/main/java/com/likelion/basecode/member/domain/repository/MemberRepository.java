@@ -1,7 +1,30 @@
 package com.likelion.basecode.member.domain.repository;
 
+import com.likelion.basecode.common.etag.VersionStamp;
+import com.likelion.basecode.member.api.dto.response.MemberInfoResponseDto;
 import com.likelion.basecode.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
+
+    // 전체 사용자 목록의 ETag 계산용 집계 (엔티티 로딩 없음)
+    @Query("SELECT new com.likelion.basecode.common.etag.VersionStamp(" +
+            "COUNT(m), COALESCE(MAX(m.memberId), 0L), COALESCE(SUM(m.version), 0L)) " +
+            "FROM Member m")
+    VersionStamp findVersionStamp();
+
+    // 전체 사용자 목록 (응답 DTO로 바로 조회 -> 엔티티 스냅샷/영속성 컨텍스트 없음)
+    @Query("SELECT new com.likelion.basecode.member.api.dto.response.MemberInfoResponseDto(m.name, m.age, m.part) " +
+            "FROM Member m ORDER BY m.memberId")
+    List<MemberInfoResponseDto> findAllInfo();
+
+    // 게시글을 모두 지운 뒤 사용자 행 삭제 (Member의 deleted_at 조건이 붙지 않도록 네이티브 쿼리)
+    @Modifying
+    @Query(value = "DELETE FROM member WHERE member_id = :memberId", nativeQuery = true)
+    int deleteRowById(@Param("memberId") Long memberId);
 }
@@ -1,13 +1,20 @@
 package com.likelion.basecode.movie.api;
 
+import com.likelion.basecode.movie.api.dto.response.MovieBackfillResponseDto;
 import com.likelion.basecode.movie.api.dto.response.MovieListResponseDto;
+import com.likelion.basecode.movie.application.BoxOfficeSnapshot;
 import com.likelion.basecode.movie.application.MovieService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/movies") // 기본 URL 경로 설정
@@ -18,9 +25,38 @@ public class MovieController {
 
     // 일별 박스오피스 전체 조회
     @GetMapping("/daily-boxoffice")
-    public ResponseEntity<MovieListResponseDto> getDailyBoxOffice() {
-        MovieListResponseDto response = movieService.fetchAllDailyBoxOfficeMoviesWithGenres();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getDailyBoxOffice(WebRequest webRequest,
+                                                    @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        // 스냅샷을 먼저 정한 뒤 그 날짜의 ETag로 비교 (메모리에 있으면 외부 호출 없이 304, checkNotModified가 ETag 헤더도 설정)
+        // KOBIS를 쓸 수 없어 이전 날짜로 대체된 응답은 실제 날짜의 ETag를 받으므로 기준일 ETag로 캐시되지 않음
+        String targetDate = movieService.boxOfficeTargetDate();
+        BoxOfficeSnapshot snapshot = movieService.getDailyBoxOfficeSnapshot(targetDate);
+        // 중간 결과(집계 전 빈 목록, 장르 누락)는 날짜 ETag 없이 응답 -> 클라이언트가 재검증으로 같은 본문을 하루 종일 쓰지 않음
+        if (snapshot.complete() && webRequest.checkNotModified(movieService.boxOfficeETag(snapshot.targetDate()))) {
+            return null;
+        }
+
+        // 미리 직렬화/압축해 둔 바이트를 그대로 응답
+        return snapshot.encoded().toResponseEntity(acceptEncoding);
+    }
+
+    // 지난 날짜의 박스오피스 조회 (yyyyMMdd, 카탈로그에 저장된 날짜는 외부 호출 없음)
+    @GetMapping("/daily-boxoffice/{targetDate}")
+    public ResponseEntity<MovieListResponseDto> getBoxOfficeByDate(@PathVariable String targetDate) {
+        return ResponseEntity.ok(movieService.getBoxOfficeByDate(targetDate));
+    }
+
+    // 기간(yyyyMMdd ~ yyyyMMdd) 박스오피스 백필 시작
+    @PostMapping("/catalog/backfill")
+    public ResponseEntity<MovieBackfillResponseDto> startBackfill(@RequestParam String from, @RequestParam String to) {
+        return ResponseEntity.accepted().body(movieService.startBackfill(from, to));
+    }
+
+    // 마지막 백필 진행 상황 (실행한 적이 없으면 204)
+    @GetMapping("/catalog/backfill")
+    public ResponseEntity<MovieBackfillResponseDto> backfillStatus() {
+        MovieBackfillResponseDto status = movieService.backfillStatus();
+        return status == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(status);
     }
 
     // 게시글 ID 기반 영화 추천
@@ -0,0 +1,17 @@
+package com.likelion.basecode.movie.api.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 박스오피스 백필 진행 상황
+public record MovieBackfillResponseDto(
+        String from,
+        String to,
+        String state,           // RUNNING, COMPLETED
+        int totalDays,          // 범위 안의 날짜 수
+        int skippedDays,        // 이미 저장되어 있어 건너뛴 날짜 수
+        int completedDays,
+        List<String> failedDates,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {}
@@ -0,0 +1,15 @@
+package com.likelion.basecode.movie.application;
+
+import com.likelion.basecode.common.template.EncodedResponse;
+import com.likelion.basecode.movie.api.dto.response.MovieListResponseDto;
+
+// 특정 날짜의 박스오피스 결과 (장르 보강 완료된 목록 + 미리 인코딩된 응답 바이트 + 추천용 색인)
+// complete가 false면 KOBIS 집계 전(빈 목록)이거나 장르를 못 받은 영화가 있는 중간 결과 -> 날짜 ETag를 붙이지 않음
+public record BoxOfficeSnapshot(
+        String targetDate,
+        MovieListResponseDto movies,
+        EncodedResponse encoded,
+        MovieIndex index,
+        boolean complete
+) {
+}
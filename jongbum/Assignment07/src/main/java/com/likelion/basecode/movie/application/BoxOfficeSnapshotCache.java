@@ -0,0 +1,98 @@
+package com.likelion.basecode.movie.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.common.template.EncodedResponse;
+import com.likelion.basecode.movie.api.dto.response.MovieListResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// 박스오피스는 하루에 한 번만 바뀌므로 최신 날짜의 스냅샷 하나만 보관
+// 같은 날짜의 로드가 실패하면 failure-cache-ms 동안 기억해 두고, 그 사이 요청은 잠금/외부 호출 없이 바로 실패 -> 호출한 쪽이 대체 응답
+// 중간 결과(빈 목록이거나 장르를 못 받은 영화 포함)도 failure-cache-ms 동안만 쓰고 그 뒤 다시 로드
+@Component
+public class BoxOfficeSnapshotCache {
+
+    // 컨트롤러 응답과 같은 설정으로 직렬화하기 위해 스프링이 관리하는 ObjectMapper 사용
+    private final ObjectMapper objectMapper;
+    private final long failureCacheNanos;
+
+    private final AtomicReference<Entry> current = new AtomicReference<>();
+    private volatile Failure lastFailure;
+
+    public BoxOfficeSnapshotCache(ObjectMapper objectMapper,
+                                  @Value("${movie-api.failure-cache-ms:30000}") long failureCacheMillis) {
+        this.objectMapper = objectMapper;
+        this.failureCacheNanos = TimeUnit.MILLISECONDS.toNanos(failureCacheMillis);
+    }
+
+    // 같은 날짜의 스냅샷이 있으면 그대로 반환, 없으면(또는 중간 결과가 만료됐으면) 한 스레드만 loader를 실행해 새로 만듦
+    public BoxOfficeSnapshot get(String targetDate, Supplier<MovieCatalogService.FetchResult> loader) {
+        Entry entry = current.get();
+        if (entry != null && entry.usableFor(targetDate)) {
+            return entry.snapshot();
+        }
+        checkRecentFailure(targetDate);
+
+        synchronized (this) {
+            entry = current.get();
+            if (entry != null && entry.usableFor(targetDate)) {
+                return entry.snapshot();
+            }
+            // 잠금을 기다리는 동안 앞선 스레드가 실패했으면 다시 호출하지 않음
+            checkRecentFailure(targetDate);
+
+            MovieCatalogService.FetchResult result;
+            try {
+                result = loader.get();
+            } catch (RuntimeException e) {
+                lastFailure = new Failure(targetDate, System.nanoTime() + failureCacheNanos);
+                throw e;
+            }
+            BoxOfficeSnapshot fresh = create(targetDate, result.boxOffice(), result.complete());
+            lastFailure = null;
+            current.set(new Entry(fresh, System.nanoTime() + failureCacheNanos));
+            return fresh;
+        }
+    }
+
+    // 현재 보관 중인 스냅샷 (날짜, 만료와 무관)
+    public Optional<BoxOfficeSnapshot> current() {
+        return Optional.ofNullable(current.get()).map(Entry::snapshot);
+    }
+
+    private void checkRecentFailure(String targetDate) {
+        Failure failure = lastFailure;
+        if (failure != null && failure.targetDate().equals(targetDate) && System.nanoTime() - failure.untilNanos() < 0) {
+            throw new BusinessException(ErrorCode.MOVIE_API_UNAVAILABLE, ErrorCode.MOVIE_API_UNAVAILABLE.getMessage() + targetDate);
+        }
+    }
+
+    private BoxOfficeSnapshot create(String targetDate, MovieListResponseDto movies, boolean complete) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(movies);
+            return new BoxOfficeSnapshot(targetDate, movies, EncodedResponse.of(json), MovieIndex.build(movies.movies()), complete);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "박스오피스 응답 직렬화에 실패했습니다.");
+        }
+    }
+
+    // 완성된 스냅샷은 날짜가 바뀔 때까지, 중간 결과는 expiresAtNanos까지
+    private record Entry(BoxOfficeSnapshot snapshot, long expiresAtNanos) {
+
+        private boolean usableFor(String targetDate) {
+            return snapshot.targetDate().equals(targetDate)
+                    && (snapshot.complete() || System.nanoTime() - expiresAtNanos < 0);
+        }
+    }
+
+    private record Failure(String targetDate, long untilNanos) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.likelion.basecode.movie.application;
+
+import com.likelion.basecode.common.client.KobisRateLimiter;
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.movie.api.dto.response.MovieBackfillResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+// 지난 날짜의 박스오피스를 한꺼번에 카탈로그에 채우는 작업
+// 날짜별로 병렬 실행하되 KOBIS 호출은 requests-per-second 간격으로만 나감 (일일 호출 한도 보호)
+@Slf4j
+@Component
+public class MovieCatalogBackfill {
+
+    private static final DateTimeFormatter TARGET_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final MovieCatalogService movieCatalogService;
+    private final ThreadPoolTaskExecutor movieBackfillExecutor;
+    private final KobisRateLimiter kobisRateLimiter;
+    private final long callIntervalNanos;
+    private final int maxDays;
+    private final int quotaReserve;
+
+    private final AtomicReference<Progress> current = new AtomicReference<>();
+    private final Object pacingLock = new Object();
+    private long nextCallNanos;
+
+    public MovieCatalogBackfill(MovieCatalogService movieCatalogService,
+                                @Qualifier("movieBackfillExecutor") ThreadPoolTaskExecutor movieBackfillExecutor,
+                                KobisRateLimiter kobisRateLimiter,
+                                @Value("${movie.catalog.backfill.requests-per-second:5}") double requestsPerSecond,
+                                @Value("${movie.catalog.backfill.max-days:366}") int maxDays,
+                                @Value("${movie.catalog.backfill.quota-reserve:500}") int quotaReserve) {
+        this.movieCatalogService = movieCatalogService;
+        this.movieBackfillExecutor = movieBackfillExecutor;
+        this.kobisRateLimiter = kobisRateLimiter;
+        this.callIntervalNanos = (long) (1_000_000_000L / requestsPerSecond);
+        this.maxDays = maxDays;
+        this.quotaReserve = quotaReserve;
+    }
+
+    // 범위 [from, to]에서 아직 저장되지 않은 날짜만 백그라운드로 채움 (한 번에 하나의 백필만 실행)
+    public MovieBackfillResponseDto start(LocalDate from, LocalDate to) {
+        LocalDate latest = LocalDate.now().minusDays(1);
+        if (from.isAfter(to) || to.isAfter(latest) || from.plusDays(maxDays).isBefore(to.plusDays(1))) {
+            throw new BusinessException(ErrorCode.MOVIE_BACKFILL_RANGE_INVALID,
+                    ErrorCode.MOVIE_BACKFILL_RANGE_INVALID.getMessage() + from + " ~ " + to);
+        }
+
+        List<String> dates = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            dates.add(date.format(TARGET_DATE_FORMAT));
+        }
+        Set<String> stored = new HashSet<>(movieCatalogService.findStoredDates(dates));
+        List<String> pending = dates.stream().filter(date -> !stored.contains(date)).toList();
+
+        Progress progress = new Progress(from.format(TARGET_DATE_FORMAT), to.format(TARGET_DATE_FORMAT),
+                dates.size(), stored.size());
+        Progress running = current.get();
+        if ((running != null && running.finishedAt.get() == null) || !current.compareAndSet(running, progress)) {
+            throw new BusinessException(ErrorCode.MOVIE_BACKFILL_RUNNING, ErrorCode.MOVIE_BACKFILL_RUNNING.getMessage());
+        }
+
+        MovieCatalogService.FetchContext context = MovieCatalogService.FetchContext.shared(this::awaitCallSlot);
+        List<CompletableFuture<Void>> tasks = pending.stream()
+                .map(targetDate -> CompletableFuture.runAsync(() -> fill(targetDate, context, progress), movieBackfillExecutor))
+                .toList();
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, e) -> {
+                    progress.finishedAt.set(LocalDateTime.now());
+                    log.info("박스오피스 백필 완료: {} ~ {}, 저장 {}일, 실패 {}일",
+                            progress.from, progress.to, progress.completedDays.get(), progress.failedDates.size());
+                });
+
+        log.info("박스오피스 백필 시작: {} ~ {}, 대상 {}일 (이미 저장 {}일)", progress.from, progress.to, pending.size(), stored.size());
+        return progress.toResponse();
+    }
+
+    public MovieBackfillResponseDto status() {
+        Progress progress = current.get();
+        return progress == null ? null : progress.toResponse();
+    }
+
+    private void fill(String targetDate, MovieCatalogService.FetchContext context, Progress progress) {
+        try {
+            if (movieCatalogService.fetchAndStore(targetDate, context).complete()) {
+                progress.completedDays.incrementAndGet();
+            } else {
+                // 장르를 못 받았거나 아직 집계 전인 날짜 -> 다음 백필에서 다시
+                progress.failedDates.add(targetDate);
+            }
+        } catch (RuntimeException e) {
+            log.warn("박스오피스 백필 실패: targetDate = {}", targetDate, e);
+            progress.failedDates.add(targetDate);
+        }
+    }
+
+    // 호출 시각을 callIntervalNanos 간격으로 배정하고 자기 차례까지 대기
+    // 일일 한도가 quota-reserve 이하로 남으면 사용자 요청 몫으로 남겨두고 해당 날짜는 실패 처리
+    private void awaitCallSlot() {
+        if (!kobisRateLimiter.hasQuotaAbove(quotaReserve)) {
+            throw new BusinessException(ErrorCode.MOVIE_API_QUOTA_EXHAUSTED,
+                    ErrorCode.MOVIE_API_QUOTA_EXHAUSTED.getMessage() + "reserve " + quotaReserve);
+        }
+        long waitNanos;
+        synchronized (pacingLock) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextCallNanos);
+            nextCallNanos = slot + callIntervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+    }
+
+    private static final class Progress {
+        private final String from;
+        private final String to;
+        private final int totalDays;
+        private final int skippedDays;
+        private final AtomicInteger completedDays = new AtomicInteger();
+        private final ConcurrentLinkedQueue<String> failedDates = new ConcurrentLinkedQueue<>();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicReference<LocalDateTime> finishedAt = new AtomicReference<>();
+
+        private Progress(String from, String to, int totalDays, int skippedDays) {
+            this.from = from;
+            this.to = to;
+            this.totalDays = totalDays;
+            this.skippedDays = skippedDays;
+        }
+
+        private MovieBackfillResponseDto toResponse() {
+            LocalDateTime finished = finishedAt.get();
+            return new MovieBackfillResponseDto(from, to, finished == null ? "RUNNING" : "COMPLETED",
+                    totalDays, skippedDays, completedDays.get(), List.copyOf(failedDates), startedAt, finished);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.likelion.basecode.movie.application;
+
+import com.likelion.basecode.common.client.MovieSearchClient;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.movie.api.dto.response.MovieListResponseDto;
+import com.likelion.basecode.movie.api.dto.response.MovieResponseDto;
+import com.likelion.basecode.movie.domain.BoxOfficeDay;
+import com.likelion.basecode.movie.domain.Movie;
+import com.likelion.basecode.movie.domain.repository.BoxOfficeDayRepository;
+import com.likelion.basecode.movie.domain.repository.BoxOfficeRankingRepository;
+import com.likelion.basecode.movie.domain.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 영화 카탈로그 (movie, box_office_day, box_office_ranking)
+// 저장된 날짜는 DB에서만 읽고, 없는 날짜만 KOBIS에서 받아 저장
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieCatalogService {
+
+    private final MovieSearchClient movieSearchClient;
+    private final MovieRepository movieRepository;
+    private final BoxOfficeDayRepository boxOfficeDayRepository;
+    private final BoxOfficeRankingRepository boxOfficeRankingRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 날짜별 박스오피스 (저장되어 있으면 DB, 없으면 KOBIS에서 받아 저장)
+    public MovieListResponseDto getBoxOffice(String targetDate) {
+        return loadBoxOffice(targetDate).boxOffice();
+    }
+
+    // getBoxOffice와 같고 완성 여부도 함께 반환 (저장된 날짜는 항상 complete)
+    public FetchResult loadBoxOffice(String targetDate) {
+        return findBoxOffice(targetDate)
+                .map(boxOffice -> new FetchResult(boxOffice, true))
+                .orElseGet(() -> fetchAndStore(targetDate, FetchContext.direct()));
+    }
+
+    // 저장된 날짜의 박스오피스만 조회 (외부 호출 없음)
+    public Optional<MovieListResponseDto> findBoxOffice(String targetDate) {
+        if (!boxOfficeDayRepository.existsById(targetDate)) {
+            return Optional.empty();
+        }
+        return Optional.of(new MovieListResponseDto(boxOfficeRankingRepository.findMoviesByTargetDate(targetDate)));
+    }
+
+    // targetDate 이하에서 가장 최근에 저장된 날짜 (KOBIS를 쓸 수 없을 때 대체용)
+    public Optional<String> findLatestStoredDate(String targetDate) {
+        return boxOfficeDayRepository.findTopByTargetDateLessThanEqualOrderByTargetDateDesc(targetDate)
+                .map(BoxOfficeDay::getTargetDate);
+    }
+
+    public List<String> findStoredDates(List<String> targetDates) {
+        return boxOfficeDayRepository.findStoredDates(targetDates);
+    }
+
+    // KOBIS 호출은 트랜잭션 밖에서 하고, 저장만 짧은 트랜잭션 하나로 처리
+    // 장르는 카탈로그에 없는 영화만 상세 API로 조회
+    // 목록이 비어 있거나(아직 집계 전) 장르를 못 받은 영화가 있으면 영화 정보만 저장하고 날짜는 저장 완료로 표시하지 않음
+    // -> 다음 조회에서 KOBIS를 다시 부르고, 이미 받은 장르는 카탈로그에서 재사용
+    public FetchResult fetchAndStore(String targetDate, FetchContext context) {
+        context.beforeCall().run();
+        List<MovieResponseDto> dailyMovies = movieSearchClient.fetchDailyBoxOffice(targetDate);
+
+        List<String> movieCds = dailyMovies.stream()
+                .map(MovieResponseDto::movieCd)
+                .filter(movieCd -> movieCd != null && !movieCd.isEmpty())
+                .toList();
+        Map<String, String> knownGenres = movieRepository.findAllById(movieCds).stream()
+                .filter(movie -> movie.getGenreNm() != null)
+                .collect(Collectors.toMap(Movie::getMovieCd, Movie::getGenreNm));
+
+        List<MovieResponseDto> movies = new ArrayList<>(dailyMovies.size());
+        for (MovieResponseDto movie : dailyMovies) {
+            if (movie.movieCd() == null || movie.movieCd().isEmpty()) {
+                log.warn("movieCd가 없는 박스오피스 항목은 저장하지 않습니다: {} ({})", movie.movieNm(), targetDate);
+                continue;
+            }
+            String genre = knownGenres.containsKey(movie.movieCd())
+                    ? knownGenres.get(movie.movieCd())
+                    : fetchGenre(movie.movieCd(), context);
+            movies.add(new MovieResponseDto(movie.movieCd(), movie.movieNm(), movie.openDt(), movie.repNationNm(), genre));
+        }
+
+        boolean complete = !movies.isEmpty() && movies.stream().allMatch(movie -> movie.GenreNm() != null);
+        store(targetDate, movies, complete);
+        if (!complete) {
+            log.info("박스오피스 {}일은 저장 완료로 표시하지 않습니다 (영화 {}개, 장르 없는 영화 포함 또는 빈 목록)",
+                    targetDate, movies.size());
+        }
+
+        // 응답은 기존과 같이 장르를 못 받은 영화도 빈 문자열로 포함
+        return new FetchResult(new MovieListResponseDto(movies.stream()
+                .map(movie -> movie.GenreNm() != null ? movie
+                        : new MovieResponseDto(movie.movieCd(), movie.movieNm(), movie.openDt(), movie.repNationNm(), ""))
+                .toList()), complete);
+    }
+
+    // complete가 아니면 영화 정보(받은 장르 포함)만 저장
+    private void store(String targetDate, List<MovieResponseDto> movies, boolean complete) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (MovieResponseDto movie : movies) {
+                movieRepository.upsert(movie.movieCd(), movie.movieNm(), movie.openDt(), movie.repNationNm(),
+                        movie.GenreNm(), now);
+            }
+            if (!complete) {
+                return;
+            }
+            boxOfficeDayRepository.upsert(targetDate, movies.size(), now);
+            boxOfficeRankingRepository.deleteByTargetDate(targetDate);
+            for (int i = 0; i < movies.size(); i++) {
+                boxOfficeRankingRepository.insert(targetDate, i + 1, movies.get(i).movieCd());
+            }
+        });
+    }
+
+    // 같은 영화의 상세 조회는 동시에 하나만 (백필에서 인접한 날짜들이 같은 영화를 공유)
+    // 실패하면 null -> 그날은 저장 완료로 표시하지 않고 다음에 다시 조회
+    private String fetchGenre(String movieCd, FetchContext context) {
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = context.genres().putIfAbsent(movieCd, mine);
+        if (existing != null) {
+            return existing.join();
+        }
+
+        try {
+            context.beforeCall().run();
+            String genre = movieSearchClient.fetchMovieDetail(movieCd).genre();
+            mine.complete(genre);
+            return genre;
+        } catch (BusinessException e) {
+            log.warn("영화 상세 조회 실패: movieCd = {} - {}", movieCd, e.getMessage());
+            mine.complete(null);
+            return null;
+        } catch (RuntimeException e) {
+            mine.complete(null);
+            throw e;
+        }
+    }
+
+    // complete: 날짜를 저장 완료로 표시했는지 (이후 조회는 DB에서만, false면 오래 캐시하지 말 것)
+    public record FetchResult(MovieListResponseDto boxOffice, boolean complete) {
+    }
+
+    // 외부 호출 전에 실행할 대기(백필의 호출 속도 제한)와 실행 중 공유하는 장르 조회 결과
+    public record FetchContext(Runnable beforeCall, Map<String, CompletableFuture<String>> genres) {
+
+        public static FetchContext direct() {
+            return new FetchContext(() -> { }, new ConcurrentHashMap<>());
+        }
+
+        public static FetchContext shared(Runnable beforeCall) {
+            return new FetchContext(beforeCall, new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.likelion.basecode.movie.application;
+
+import com.likelion.basecode.movie.api.dto.response.MovieResponseDto;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// 박스오피스 스냅샷을 만들 때 함께 만드는 추천용 역색인 (토큰 -> 영화, 가중치)
+// - 영화명: 공백을 뺀 이름의 모든 부분 문자열 (기존 "영화명에 태그 포함" 조건을 조회 한 번으로 처리)
+// - 장르: 장르명 그대로
+// 조회 시 태그마다 색인을 한 번씩 찾아 점수를 더하고, 점수 순(같으면 박스오피스 순위 순)으로 상위 k개 반환
+public final class MovieIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int EXACT_NAME_BONUS = 2;
+    private static final int GENRE_WEIGHT = 2;
+    // 부분 문자열 수가 이름 길이의 제곱에 비례하므로 색인할 이름 길이 제한
+    private static final int MAX_INDEXED_NAME_LENGTH = 40;
+
+    private final List<MovieResponseDto> movies;
+    // 토큰 -> [영화 위치, 가중치, 영화 위치, 가중치, ...]
+    private final Map<String, int[]> postings;
+
+    private MovieIndex(List<MovieResponseDto> movies, Map<String, int[]> postings) {
+        this.movies = movies;
+        this.postings = postings;
+    }
+
+    public static MovieIndex build(List<MovieResponseDto> movies) {
+        Map<String, Map<Integer, Integer>> weights = new HashMap<>();
+        for (int position = 0; position < movies.size(); position++) {
+            MovieResponseDto movie = movies.get(position);
+
+            String name = normalize(movie.movieNm());
+            if (name.length() > MAX_INDEXED_NAME_LENGTH) {
+                name = name.substring(0, MAX_INDEXED_NAME_LENGTH);
+            }
+            Set<String> substrings = new HashSet<>();
+            for (int start = 0; start < name.length(); start++) {
+                for (int end = start + 1; end <= name.length(); end++) {
+                    substrings.add(name.substring(start, end));
+                }
+            }
+            for (String substring : substrings) {
+                add(weights, substring, position, substring.length() == name.length() ? NAME_WEIGHT + EXACT_NAME_BONUS : NAME_WEIGHT);
+            }
+
+            if (movie.GenreNm() != null) {
+                for (String genre : movie.GenreNm().split(",")) {
+                    String token = normalize(genre);
+                    if (!token.isEmpty()) {
+                        add(weights, token, position, GENRE_WEIGHT);
+                    }
+                }
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(weights.size() * 2);
+        weights.forEach((token, byMovie) -> {
+            int[] entries = new int[byMovie.size() * 2];
+            int i = 0;
+            for (Map.Entry<Integer, Integer> entry : byMovie.entrySet()) {
+                entries[i++] = entry.getKey();
+                entries[i++] = entry.getValue();
+            }
+            postings.put(token, entries);
+        });
+        return new MovieIndex(List.copyOf(movies), postings);
+    }
+
+    // 태그와 관련도가 높은 영화 상위 k개 (일치하는 영화가 없으면 빈 목록)
+    public List<MovieResponseDto> topK(Collection<String> tags, int k) {
+        int[] scores = new int[movies.size()];
+        Set<String> seen = new HashSet<>();
+        for (String tag : tags) {
+            String token = normalize(tag);
+            if (token.isEmpty() || !seen.add(token)) {
+                continue;
+            }
+            int[] entries = postings.get(token);
+            if (entries == null) {
+                continue;
+            }
+            for (int i = 0; i < entries.length; i += 2) {
+                scores[entries[i]] += entries[i + 1];
+            }
+        }
+
+        List<Integer> matched = new ArrayList<>();
+        for (int position = 0; position < scores.length; position++) {
+            if (scores[position] > 0) {
+                matched.add(position);
+            }
+        }
+        matched.sort(Comparator.<Integer>comparingInt(position -> -scores[position])
+                .thenComparingInt(position -> position));
+
+        return matched.stream()
+                .limit(k)
+                .map(movies::get)
+                .toList();
+    }
+
+    private static void add(Map<String, Map<Integer, Integer>> weights, String token, int position, int weight) {
+        weights.computeIfAbsent(token, key -> new HashMap<>()).merge(position, weight, Math::max);
+    }
+
+    // 한글 자모 조합 형태를 맞추고(NFC) 대소문자/공백/# 차이는 무시
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isWhitespace(c) && c != '#') {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
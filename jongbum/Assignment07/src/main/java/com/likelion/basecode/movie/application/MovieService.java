@@ -1,108 +1,146 @@
 package com.likelion.basecode.movie.application;
 
-import com.likelion.basecode.common.client.MovieSearchClient;
-import com.likelion.basecode.common.client.TagRecommendationClient;
 import com.likelion.basecode.common.error.ErrorCode;
 import com.likelion.basecode.common.exception.BusinessException;
-import com.likelion.basecode.movie.api.dto.response.MovieInfoResponseDto;
+import com.likelion.basecode.movie.api.dto.response.MovieBackfillResponseDto;
 import com.likelion.basecode.movie.api.dto.response.MovieListResponseDto;
 import com.likelion.basecode.movie.api.dto.response.MovieResponseDto;
 import com.likelion.basecode.post.domain.Post;
 import com.likelion.basecode.post.domain.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MovieService {
 
     private final PostRepository postRepository;
-    private final TagRecommendationClient tagClient;
-    private final MovieSearchClient movieSearchClient;
+    private final BoxOfficeSnapshotCache boxOfficeSnapshotCache;
+    private final MovieCatalogService movieCatalogService;
+    private final MovieCatalogBackfill movieCatalogBackfill;
+
+    // 추천 결과 개수
+    @Value("${movie.recommend.size:3}")
+    private int recommendSize;
+
+    // 조회/백필할 수 있는 가장 이른 날짜 (그 이전은 KOBIS에 데이터가 없어 매번 빈 결과로 호출 한도만 씀)
+    @Value("${movie.catalog.min-target-date:20040101}")
+    private String minTargetDate;
+
+    // 박스오피스 조회 기준일 (어제, yyyyMMdd)
+    public String boxOfficeTargetDate() {
+        return LocalDate.now().minusDays(1).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+    }
+
+    // 기준일의 박스오피스 응답 ETag (집계가 끝난 날짜의 순위는 바뀌지 않으므로 날짜만으로 결정, 완성된 스냅샷에만 사용)
+    public String boxOfficeETag(String targetDate) {
+        return "\"boxoffice-" + targetDate + "\"";
+    }
+
+    // 기준일의 박스오피스 스냅샷 조회 (없을 때만 외부 API 호출 + 직렬화/압축)
+    // KOBIS 호출이 제한/실패하면 가지고 있는 가장 최근 날짜의 스냅샷으로 대체 (스냅샷의 targetDate로 구분)
+    public BoxOfficeSnapshot getDailyBoxOfficeSnapshot(String targetDate) {
+        try {
+            return boxOfficeSnapshotCache.get(targetDate, () -> movieCatalogService.loadBoxOffice(targetDate));
+        } catch (BusinessException | RestClientException e) {
+            BoxOfficeSnapshot fallback = fallbackSnapshot(targetDate).orElseThrow(() -> e);
+            log.warn("박스오피스 {} 조회 실패, {} 데이터로 대체: {}", targetDate, fallback.targetDate(), e.getMessage());
+            return fallback;
+        }
+    }
+
+    // 메모리의 이전 스냅샷 -> 없으면(재시작 직후) 카탈로그에 저장된 가장 최근 날짜
+    private Optional<BoxOfficeSnapshot> fallbackSnapshot(String targetDate) {
+        Optional<BoxOfficeSnapshot> current = boxOfficeSnapshotCache.current();
+        if (current.isPresent()) {
+            return current;
+        }
+        return movieCatalogService.findLatestStoredDate(targetDate)
+                .map(storedDate -> boxOfficeSnapshotCache.get(storedDate,
+                        () -> new MovieCatalogService.FetchResult(movieCatalogService.findBoxOffice(storedDate).orElseThrow(), true)));
+    }
 
     // 일별 박스오피스 전체 영화 목록 조회 (장르 정보 포함)
     public MovieListResponseDto fetchAllDailyBoxOfficeMoviesWithGenres() {
-        String targetDate = LocalDate.now().minusDays(1).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        // 일별 박스오피스 기본 목록 조회 (movieCd 포함)
-        List<MovieResponseDto> moviesWithoutGenres = movieSearchClient.fetchDailyBoxOffice(targetDate);
-
-        // 각 영화에 대해 상세 정보 API 호출하여 장르 정보 보강
-        List<MovieResponseDto> moviesWithGenres = moviesWithoutGenres.stream()
-                .map(movie -> {
-                    // movieCd가 없으면 장르를 가져올 수 없기 때문에
-                    // 이런 경우 발생하면 에러 처리 또는 스킵
-                    if (movie.movieCd() == null || movie.movieCd().isEmpty()) {
-                        System.err.println("MovieCd not found for movie: " + movie.movieNm());
-                        return movie; // movieCd가 없으면 장르 없이 기존 DTO 반환
-                    }
-                    try {
-                        MovieInfoResponseDto movieDetail = movieSearchClient.fetchMovieDetail(movie.movieCd());
-                        // 새로운 MovieResponseDto 생성
-                        return new MovieResponseDto(
-                                movie.movieCd(),
-                                movie.movieNm(),
-                                movie.openDt(),
-                                movie.repNationNm(),
-                                movieDetail.genre() // MovieInfoResponseDto에서 가져온 장르로 채움
-                        );
-                    } catch (BusinessException e) {
-                        System.err.println("Failed to fetch movie detail for movieCd: " + movie.movieCd() + " - " + e.getMessage());
-                        return movie; // 상세 정보 조회 실패 시, 장르 없이 기존 DTO 반환
-                    }
-                })
-                .collect(Collectors.toList());
-
-        return new MovieListResponseDto(moviesWithGenres);
+        return getDailyBoxOfficeSnapshot(boxOfficeTargetDate()).movies();
     }
 
-    // 기존 함수: 특정 게시글의 추천 태그를 기반으로 영화 추천 (이 함수도 변경된 DTO 사용)
+    // 지난 날짜의 박스오피스 조회 (기준일이면 스냅샷, 그 외에는 카탈로그)
+    public MovieListResponseDto getBoxOfficeByDate(String targetDate) {
+        LocalDate date = parseTargetDate(targetDate);
+        if (date.isAfter(LocalDate.now().minusDays(1))) {
+            throw new BusinessException(ErrorCode.MOVIE_TARGET_DATE_INVALID,
+                    ErrorCode.MOVIE_TARGET_DATE_INVALID.getMessage() + targetDate);
+        }
+        if (targetDate.equals(boxOfficeTargetDate())) {
+            BoxOfficeSnapshot snapshot = getDailyBoxOfficeSnapshot(targetDate);
+            if (snapshot.targetDate().equals(targetDate)) {
+                return snapshot.movies();
+            }
+        }
+        // 날짜를 지정한 조회는 다른 날짜로 대체하지 않음 (저장되지 않은 날짜에 KOBIS가 제한되면 503)
+        return movieCatalogService.getBoxOffice(targetDate);
+    }
+
+    // 기간 내 저장되지 않은 날짜의 박스오피스를 백그라운드로 채움
+    public MovieBackfillResponseDto startBackfill(String from, String to) {
+        return movieCatalogBackfill.start(parseTargetDate(from), parseTargetDate(to));
+    }
+
+    public MovieBackfillResponseDto backfillStatus() {
+        return movieCatalogBackfill.status();
+    }
+
+    // 게시글에 저장된 태그로 영화 추천 (태그 추천 API 재호출 없음)
+    // 게시글+태그 조회 한 번 + 스냅샷 색인 조회 -> 관련도 상위 recommendSize개
     public MovieListResponseDto recommendMoviesByPostId(Long postId) {
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findByIdWithTags(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND_EXCEPTION,
-                        ErrorCode.POST_NOT_FOUND_EXCEPTION.getMessage()));
+                        ErrorCode.POST_NOT_FOUND_EXCEPTION.getMessage() + postId));
 
-        List<String> tags = tagClient.getRecommendedTags(post.getContents());
+        List<String> tags = post.getPostTags().stream()
+                .map(postTag -> postTag.getTag().getName())
+                .toList();
 
         if (tags.isEmpty()) {
             throw new BusinessException(ErrorCode.TAG_RECOMMENDATION_EMPTY,
                     ErrorCode.TAG_RECOMMENDATION_EMPTY.getMessage());
         }
 
-        // 여기서도 장르를 가져오려면 위 fetchAllDailyBoxOfficeMoviesWithGenres()를 호출해야 함
-        // 또는 이 메서드 내에서 직접 장르 보강 로직을 수행해야 함
-        List<MovieResponseDto> allMovies = fetchAllDailyBoxOfficeMoviesWithGenres().movies(); // 변경된 함수 호출
-        List<MovieResponseDto> filteredMovies = filterMoviesByMovieName(allMovies, tags);
+        List<MovieResponseDto> recommended = getDailyBoxOfficeSnapshot(boxOfficeTargetDate())
+                .index()
+                .topK(tags, recommendSize);
 
-        if (filteredMovies.isEmpty()) {
+        if (recommended.isEmpty()) {
             throw new BusinessException(ErrorCode.MOVIE_API_NO_RESULT, ErrorCode.MOVIE_API_NO_RESULT.getMessage());
         }
 
-        return new MovieListResponseDto(filteredMovies);
+        return new MovieListResponseDto(recommended);
     }
 
-    // 영화 목록에서 영화명(movieNm)에 태그가 포함된 영화를 필터링
-    private List<MovieResponseDto> filterMoviesByMovieName(List<MovieResponseDto> movies, List<String> tags) {
-        return movies.stream()
-                // 각 영화(MovieResponseDto)에 대해 필터링 조건 적용
-                .filter(movie ->
-                        // 추천된 태그 중 하나라도 movieNm에 포함되어 있는지 확인
-                        tags.stream().anyMatch(tag -> {
-                            // movieNm이 null일 수 있으므로 Optional로 처리하여 빈 문자열로 대체
-                            String movieName = Optional.ofNullable(movie.movieNm()).orElse("");
-                            // movieNm에 현재 태그가 포함되어 있는 경우 true
-                            return movieName.contains(tag);
-                        })
-                )
-                // 최대 3개의 영화만 선택
-                .limit(3)
-                // 결과를 리스트로 변환
-                .toList();
+    // yyyyMMdd 형식이고 min-target-date 이후인 날짜만 허용
+    private LocalDate parseTargetDate(String targetDate) {
+        LocalDate date;
+        try {
+            date = LocalDate.parse(targetDate, DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new BusinessException(ErrorCode.MOVIE_TARGET_DATE_INVALID,
+                    ErrorCode.MOVIE_TARGET_DATE_INVALID.getMessage() + targetDate);
+        }
+        if (date.isBefore(LocalDate.parse(minTargetDate, DateTimeFormatter.BASIC_ISO_DATE))) {
+            throw new BusinessException(ErrorCode.MOVIE_TARGET_DATE_INVALID,
+                    ErrorCode.MOVIE_TARGET_DATE_INVALID.getMessage() + targetDate);
+        }
+        return date;
     }
 }
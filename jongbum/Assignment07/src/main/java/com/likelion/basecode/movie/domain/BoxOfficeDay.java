@@ -0,0 +1,26 @@
+package com.likelion.basecode.movie.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 박스오피스 순위를 저장한 날짜 (yyyyMMdd)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "box_office_day")
+public class BoxOfficeDay {
+
+    @Id
+    @Column(name = "target_date", length = 8)
+    private String targetDate;
+
+    @Column(name = "movie_count", nullable = false)
+    private int movieCount;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+}
@@ -0,0 +1,31 @@
+package com.likelion.basecode.movie.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// 날짜별 박스오피스 순위 한 줄 (영화 정보는 movie 테이블과 movieCd로 조인)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "box_office_ranking")
+@IdClass(BoxOfficeRanking.RankingId.class)
+public class BoxOfficeRanking {
+
+    @Id
+    @Column(name = "target_date", length = 8)
+    private String targetDate;
+
+    @Id
+    @Column(name = "rank_no")
+    private int rankNo;
+
+    @Column(name = "movie_cd", nullable = false, length = 20)
+    private String movieCd;
+
+    public record RankingId(String targetDate, int rankNo) implements Serializable {
+    }
+}
@@ -0,0 +1,36 @@
+package com.likelion.basecode.movie.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// KOBIS 영화 정보 (movieCd 기준, 장르는 영화 상세 API에서 받아 채움)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "movie")
+public class Movie {
+
+    @Id
+    @Column(name = "movie_cd", length = 20)
+    private String movieCd;
+
+    @Column(name = "movie_nm", nullable = false)
+    private String movieNm;
+
+    @Column(name = "open_dt", length = 10)
+    private String openDt;
+
+    @Column(name = "rep_nation_nm", length = 100)
+    private String repNationNm;
+
+    // 상세 조회에 실패했으면 null -> 다음에 해당 영화가 다시 나오면 재조회
+    @Column(name = "genre_nm")
+    private String genreNm;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
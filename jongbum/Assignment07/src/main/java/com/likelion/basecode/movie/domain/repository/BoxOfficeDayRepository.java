@@ -0,0 +1,30 @@
+package com.likelion.basecode.movie.domain.repository;
+
+import com.likelion.basecode.movie.domain.BoxOfficeDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BoxOfficeDayRepository extends JpaRepository<BoxOfficeDay, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO box_office_day (target_date, movie_count, fetched_at) " +
+            "VALUES (:targetDate, :movieCount, :fetchedAt) " +
+            "ON DUPLICATE KEY UPDATE movie_count = VALUES(movie_count), fetched_at = VALUES(fetched_at)",
+            nativeQuery = true)
+    void upsert(@Param("targetDate") String targetDate,
+                @Param("movieCount") int movieCount,
+                @Param("fetchedAt") LocalDateTime fetchedAt);
+
+    Optional<BoxOfficeDay> findTopByTargetDateLessThanEqualOrderByTargetDateDesc(String targetDate);
+
+    // 백필 범위 중 이미 저장된 날짜
+    @Query("SELECT d.targetDate FROM BoxOfficeDay d WHERE d.targetDate IN :targetDates")
+    List<String> findStoredDates(@Param("targetDates") Collection<String> targetDates);
+}
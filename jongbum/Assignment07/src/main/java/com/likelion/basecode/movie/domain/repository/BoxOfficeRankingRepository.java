@@ -0,0 +1,30 @@
+package com.likelion.basecode.movie.domain.repository;
+
+import com.likelion.basecode.movie.api.dto.response.MovieResponseDto;
+import com.likelion.basecode.movie.domain.BoxOfficeRanking;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface BoxOfficeRankingRepository extends JpaRepository<BoxOfficeRanking, BoxOfficeRanking.RankingId> {
+
+    // 날짜별 순위를 응답 DTO로 바로 조회 (PK 범위 검색 + movie PK 조인)
+    @Query("SELECT new com.likelion.basecode.movie.api.dto.response.MovieResponseDto(" +
+            "m.movieCd, m.movieNm, m.openDt, m.repNationNm, COALESCE(m.genreNm, '')) " +
+            "FROM BoxOfficeRanking r JOIN Movie m ON m.movieCd = r.movieCd " +
+            "WHERE r.targetDate = :targetDate " +
+            "ORDER BY r.rankNo")
+    List<MovieResponseDto> findMoviesByTargetDate(@Param("targetDate") String targetDate);
+
+    @Modifying
+    @Query(value = "DELETE FROM box_office_ranking WHERE target_date = :targetDate", nativeQuery = true)
+    void deleteByTargetDate(@Param("targetDate") String targetDate);
+
+    @Modifying
+    @Query(value = "INSERT INTO box_office_ranking (target_date, rank_no, movie_cd) VALUES (:targetDate, :rankNo, :movieCd)",
+            nativeQuery = true)
+    void insert(@Param("targetDate") String targetDate, @Param("rankNo") int rankNo, @Param("movieCd") String movieCd);
+}
@@ -0,0 +1,26 @@
+package com.likelion.basecode.movie.domain.repository;
+
+import com.likelion.basecode.movie.domain.Movie;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface MovieRepository extends JpaRepository<Movie, String> {
+
+    // 영화 정보 저장/갱신 한 문장 처리 (새 장르가 없으면 기존 장르 유지)
+    @Modifying
+    @Query(value = "INSERT INTO movie (movie_cd, movie_nm, open_dt, rep_nation_nm, genre_nm, updated_at) " +
+            "VALUES (:movieCd, :movieNm, :openDt, :repNationNm, :genreNm, :updatedAt) " +
+            "ON DUPLICATE KEY UPDATE movie_nm = VALUES(movie_nm), open_dt = VALUES(open_dt), " +
+            "rep_nation_nm = VALUES(rep_nation_nm), genre_nm = COALESCE(VALUES(genre_nm), genre_nm), " +
+            "updated_at = VALUES(updated_at)", nativeQuery = true)
+    void upsert(@Param("movieCd") String movieCd,
+                @Param("movieNm") String movieNm,
+                @Param("openDt") String openDt,
+                @Param("repNationNm") String repNationNm,
+                @Param("genreNm") String genreNm,
+                @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -1,37 +1,93 @@
 package com.likelion.basecode.post.api;
 
+import com.likelion.basecode.common.error.ErrorCode;
 import com.likelion.basecode.common.error.SuccessCode;
+import com.likelion.basecode.common.etag.RepresentationETag;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.common.idempotency.IdempotencyService;
 import com.likelion.basecode.common.template.ApiResTemplate;
+import com.likelion.basecode.post.api.dto.request.ImageUploadUrlRequestDto;
+import com.likelion.basecode.common.storage.MultipartStreamReader;
+import com.likelion.basecode.post.api.dto.response.ImageUploadResponseDto;
+import com.likelion.basecode.post.api.dto.response.ImageUploadUrlResponseDto;
 import com.likelion.basecode.post.api.dto.response.PostInfoResponseDto;
 import com.likelion.basecode.post.api.dto.response.PostListResponseDto;
 import com.likelion.basecode.post.api.dto.request.PostSaveRequestDto;
 import com.likelion.basecode.post.api.dto.request.PostUpdateRequestDto;
 import com.likelion.basecode.post.application.PostService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/post")
 public class PostController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String POST_SAVE_SCOPE = "post-save";
+
     private final PostService postService;
+    private final IdempotencyService idempotencyService;
+    private final MultipartStreamReader multipartStreamReader;
 
     // 게시물 저장
+    // Idempotency-Key 헤더가 있으면 재시도 요청은 이미지 업로드/태그 추천/저장을 반복하지 않고 처음 만든 게시글로 응답
     @PostMapping("/save")
     public ApiResTemplate<PostInfoResponseDto> postSave(@RequestPart("post") @Valid PostSaveRequestDto postSaveRequestDto,
-                                                        @RequestPart(value = "image", required = false)MultipartFile imagefile) {
-        PostInfoResponseDto postListResponseDto = postService.postSave(postSaveRequestDto, imagefile);
+                                                        @RequestPart(value = "image", required = false)MultipartFile imagefile,
+                                                        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        PostInfoResponseDto postListResponseDto;
+        if (idempotencyKey == null) {
+            postListResponseDto = postService.postSave(postSaveRequestDto, imagefile, null);
+        } else {
+            String requestHash = IdempotencyService.requestHash(postSaveRequestDto.memberId(), postSaveRequestDto.title(),
+                    postSaveRequestDto.contents(), postSaveRequestDto.imageKey(),
+                    imagefile == null ? null : imagefile.getOriginalFilename(),
+                    imagefile == null ? null : imageContentHash(imagefile));
+            postListResponseDto = idempotencyService.execute(POST_SAVE_SCOPE, idempotencyKey, requestHash,
+                    claim -> postService.postSave(postSaveRequestDto, imagefile, claim),
+                    postService::postFind);
+        }
         return ApiResTemplate.successResponse(SuccessCode.POST_SAVE_SUCCESS, postListResponseDto);
     }
 
+    // 이미지 직접 업로드용 presigned URL 발급
+    // 클라이언트는 uploadUrl로 이미지를 PUT 한 뒤, 게시물 저장/수정 시 image 파트 대신 imageKey를 전달
+    @PostMapping("/image/upload-url")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResTemplate<ImageUploadUrlResponseDto> issueImageUploadUrl(@RequestBody @Valid ImageUploadUrlRequestDto imageUploadUrlRequestDto) {
+        ImageUploadUrlResponseDto imageUploadUrlResponseDto = postService.issueImageUploadUrl(imageUploadUrlRequestDto);
+        return ApiResTemplate.successResponse(SuccessCode.IMAGE_UPLOAD_URL_SUCCESS, imageUploadUrlResponseDto);
+    }
+
+    // 이미지 스트리밍 업로드 (multipart의 image 파트를 디스크/메모리에 모으지 않고 저장소로 바로 전송)
+    // 응답의 imageKey를 게시물 저장/수정 시 전달
+    @PostMapping("/image/stream")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResTemplate<ImageUploadResponseDto> uploadImageStream(HttpServletRequest request) {
+        ImageUploadResponseDto imageUploadResponseDto = multipartStreamReader.readFilePart(request, "image",
+                postService::uploadImageStream);
+        return ApiResTemplate.successResponse(SuccessCode.IMAGE_UPLOAD_SUCCESS, imageUploadResponseDto);
+    }
+
     // 사용자 id를 기준으로 해당 사용자가 작성한 게시글 목록 조회
     @GetMapping("/{memberId}")
-    public ApiResTemplate<PostListResponseDto> myPostFindAll(@PathVariable("memberId") Long memberId) {
+    public ApiResTemplate<PostListResponseDto> myPostFindAll(@PathVariable("memberId") Long memberId,
+                                                             WebRequest webRequest) {
+        // If-None-Match가 현재 ETag와 같으면 게시글/태그 조회 없이 304 반환 (ETag는 응답 형식별로 다름)
+        String eTag = postService.postListETag(memberId);
+        if (eTag != null && webRequest.checkNotModified(RepresentationETag.of(eTag, webRequest))) {
+            return null;
+        }
         PostListResponseDto postListResponseDto = postService.postFindMember(memberId);
         return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, postListResponseDto);
     }
@@ -59,4 +115,13 @@ public class PostController {
         PostInfoResponseDto postInfoResponseDto = postService.removePostImage(postId, postUpdateRequestDto, imageFile);
         return ApiResTemplate.successResponse(SuccessCode.POST_UPDATE_SUCCESS, postInfoResponseDto);
     }
+
+    // 같은 키로 이름/크기만 같은 다른 이미지를 보내면 422가 되도록 이미지 내용까지 요약
+    private static String imageContentHash(MultipartFile imageFile) {
+        try (InputStream in = imageFile.getInputStream()) {
+            return IdempotencyService.contentHash(in);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.IMAGE_INVALID, ErrorCode.IMAGE_INVALID.getMessage());
+        }
+    }
 }
@@ -0,0 +1,9 @@
+package com.likelion.basecode.post.api.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record ImageUploadUrlRequestDto(
+        @NotBlank(message = "업로드할 이미지의 Content-Type을 입력해야 합니다.")
+        String contentType
+) {
+}
@@ -13,6 +13,8 @@ public record  PostSaveRequestDto(
         String title,
         @NotBlank(message = "내용을 필수로 입력해야 합니다.")
         @Size(min = 3, max = 100)
-        String contents
+        String contents,
+        // presigned URL로 직접 업로드한 이미지의 키 (image 파트 대신 사용, 선택)
+        String imageKey
 ) {
 }
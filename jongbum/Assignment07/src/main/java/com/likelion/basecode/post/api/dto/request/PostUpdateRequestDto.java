@@ -3,6 +3,8 @@ package com.likelion.basecode.post.api.dto.request;
 public record PostUpdateRequestDto(
         String title,
         String contents,
-        boolean removeExistingImage
+        boolean removeExistingImage,
+        // presigned URL로 직접 업로드한 새 이미지의 키 (image 파트 대신 사용, 선택)
+        String imageKey
 ) {
 }
@@ -0,0 +1,6 @@
+package com.likelion.basecode.post.api.dto.response;
+
+public record ImageUploadResponseDto(
+        String imageKey     // 게시글 저장/수정 시 전달할 객체 키
+) {
+}
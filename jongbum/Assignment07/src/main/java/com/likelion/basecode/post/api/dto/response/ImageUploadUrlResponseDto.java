@@ -0,0 +1,23 @@
+package com.likelion.basecode.post.api.dto.response;
+
+import com.likelion.basecode.common.storage.PresignedUpload;
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Builder
+public record ImageUploadUrlResponseDto(
+        String imageKey,    // 게시글 저장/수정 시 전달할 객체 키
+        String uploadUrl,   // 이 URL로 이미지를 직접 PUT
+        String contentType, // PUT 요청의 Content-Type은 이 값과 같아야 함
+        Instant expiresAt
+) {
+    public static ImageUploadUrlResponseDto from(PresignedUpload presignedUpload) {
+        return ImageUploadUrlResponseDto.builder()
+                .imageKey(presignedUpload.key())
+                .uploadUrl(presignedUpload.uploadUrl())
+                .contentType(presignedUpload.contentType())
+                .expiresAt(presignedUpload.expiresAt())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.likelion.basecode.post.api.dto.response;
 
 import com.likelion.basecode.post.domain.Post;
+import com.likelion.basecode.post.domain.repository.PostSummary;
 import lombok.Builder;
 import java.util.List;
 
@@ -10,7 +11,8 @@ public record PostInfoResponseDto(
         String contents,
         String writer,
         List<String> tags,
-        String imageUrl
+        String imageUrl,
+        String thumbnailUrl
 ) {
     public static PostInfoResponseDto from(Post post) {
         return PostInfoResponseDto.builder()
@@ -23,6 +25,18 @@ public record PostInfoResponseDto(
                                 .toList()
                 )
                 .imageUrl(post.getImageUrl())
+                .thumbnailUrl(post.getThumbnailUrl())
+                .build();
+    }
+
+    public static PostInfoResponseDto from(PostSummary summary, List<String> tags) {
+        return PostInfoResponseDto.builder()
+                .title(summary.title())
+                .contents(summary.contents())
+                .writer(summary.writer())
+                .tags(tags)
+                .imageUrl(summary.imageUrl())
+                .thumbnailUrl(summary.thumbnailUrl())
                 .build();
     }
 }
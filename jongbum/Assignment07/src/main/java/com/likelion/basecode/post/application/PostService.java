@@ -1,9 +1,17 @@
 package com.likelion.basecode.post.application;
 
 import com.likelion.basecode.common.client.TagRecommendationClient;
+import com.likelion.basecode.common.datasource.PrimaryPin;
 import com.likelion.basecode.common.error.ErrorCode;
 import com.likelion.basecode.common.exception.BusinessException;
-import com.likelion.basecode.common.s3.S3Uploader;
+import com.likelion.basecode.common.idempotency.IdempotencyClaim;
+import com.likelion.basecode.common.idempotency.IdempotencyService;
+import com.likelion.basecode.common.storage.ImageUploadResult;
+import com.likelion.basecode.common.storage.StoredObject;
+import com.likelion.basecode.image.application.ImageStorageService;
+import com.likelion.basecode.post.api.dto.request.ImageUploadUrlRequestDto;
+import com.likelion.basecode.post.api.dto.response.ImageUploadResponseDto;
+import com.likelion.basecode.post.api.dto.response.ImageUploadUrlResponseDto;
 import com.likelion.basecode.member.domain.Member;
 import com.likelion.basecode.member.domain.repository.MemberRepository;
 import com.likelion.basecode.post.api.dto.response.PostInfoResponseDto;
@@ -12,17 +20,27 @@ import com.likelion.basecode.post.api.dto.request.PostSaveRequestDto;
 import com.likelion.basecode.post.api.dto.request.PostUpdateRequestDto;
 import com.likelion.basecode.post.domain.Post;
 import com.likelion.basecode.post.domain.repository.PostRepository;
+import com.likelion.basecode.post.domain.repository.PostSummary;
 import com.likelion.basecode.posttag.domain.PostTag;
+import com.likelion.basecode.posttag.domain.repository.PostTagName;
 import com.likelion.basecode.posttag.domain.repository.PostTagRepository;
+import com.likelion.basecode.tag.application.TagAutocompleteIndex;
+import com.likelion.basecode.tag.application.TagCooccurrenceIndex;
+import com.likelion.basecode.tag.application.TagNameCache;
 import com.likelion.basecode.tag.domain.Tag;
 import com.likelion.basecode.tag.domain.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 
@@ -32,29 +50,41 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final String POST_IMAGE_DIR = "post-images";
+    // IN 절 하나에 넣는 게시글 id 수
+    private static final int TAG_QUERY_CHUNK_SIZE = 1000;
+
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
     private final TagRepository tagRepository;
+    private final TagNameCache tagNameCache;
+    private final TagAutocompleteIndex tagAutocompleteIndex;
+    private final TagCooccurrenceIndex tagCooccurrenceIndex;
     private final PostTagRepository postTagRepository;
     private final TagRecommendationClient tagClient;
-    private final S3Uploader s3Uploader;
+    private final ImageStorageService imageStorageService;
+    private final IdempotencyService idempotencyService;
 
     // 게시물 저장
+    // Idempotency-Key 요청이면 같은 트랜잭션에서 키에 게시글 id를 기록 (idempotencyClaim이 null이면 일반 저장)
     @Transactional
-    public PostInfoResponseDto postSave(PostSaveRequestDto postSaveRequestDto, MultipartFile imageFile) {
+    public PostInfoResponseDto postSave(PostSaveRequestDto postSaveRequestDto, MultipartFile imageFile,
+                                        IdempotencyClaim idempotencyClaim) {
         Member member = memberRepository.findById(postSaveRequestDto.memberId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND_EXCEPTION,
                         ErrorCode.MEMBER_NOT_FOUND_EXCEPTION.getMessage() + postSaveRequestDto.memberId()));
 
-        String imageUrl = null;
-        if(imageFile != null && !imageFile.isEmpty()) {
-            imageUrl = s3Uploader.upload(imageFile, "post-images");
+        // 이미지 파일(서버에서 변환 후 업로드) 또는 직접 업로드된 이미지 키
+        ImageUploadResult image = resolveNewImage(imageFile, postSaveRequestDto.imageKey());
+        if (image == null) {
+            image = new ImageUploadResult(null, null);
         }
 
         Post post = Post.builder()
                 .title(postSaveRequestDto.title())
                 .contents(postSaveRequestDto.contents())
-                .imageUrl(imageUrl)
+                .imageUrl(image.imageUrl())
+                .thumbnailUrl(image.thumbnailUrl())
                 .member(member)
                 .build();
 
@@ -62,7 +92,10 @@ public class PostService {
 
         // AI 기반 추천 태그 추출 및 등록
         List<String> tagNames = tagClient.getRecommendedTags(post.getContents());
-        registerTagsToPost(post, tagNames);
+        // 자동완성 순위용 사용 횟수는 새 게시글에서만 증가 (수정은 기존 연결을 지우고 다시 붙이므로 제외)
+        List<Long> tagIds = registerTagsToPost(post, tagNames);
+        tagAutocompleteIndex.recordUsage(tagIds);
+        tagCooccurrenceIndex.recordPostTags(post.getPostId(), List.of(), tagIds);
 
         // Fetch Join으로 태그 포함된 post 다시 조회
         // postSave() 이후 바로 반환하면, post.getPostTags()는 LAZY 로딩이기 때문에
@@ -70,26 +103,73 @@ public class PostService {
         Post postWithTags = postRepository.findByIdWithTags(post.getPostId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND_EXCEPTION,
                         ErrorCode.POST_NOT_FOUND_EXCEPTION.getMessage() + post.getPostId()));
-        
-        return PostInfoResponseDto.from(postWithTags);
+
+        PostInfoResponseDto response = PostInfoResponseDto.from(postWithTags);
+
+        // 키 행 UPDATE는 커밋까지 행을 잠그므로 마지막에 (태그 추천 API를 기다리는 동안 같은 키의 확인이 막히지 않도록)
+        if (idempotencyClaim != null) {
+            idempotencyService.complete(idempotencyClaim, post.getPostId());
+        }
+        return response;
     }
 
+    // 게시물 단건 조회 (Idempotency-Key 재요청 시 처음 저장된 게시글로 응답)
+    // 방금 저장된 게시글일 수 있으므로 읽기 전용 트랜잭션이지만 primary로 고정 (커넥션은 첫 조회 때 얻으므로 여기서 고정해도 적용됨)
+    public PostInfoResponseDto postFind(long postId) {
+        boolean alreadyPinned = PrimaryPin.isPinned();
+        PrimaryPin.pin();
+        try {
+            Post post = postRepository.findByIdWithTags(postId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND_EXCEPTION,
+                            ErrorCode.POST_NOT_FOUND_EXCEPTION.getMessage() + postId));
+            return PostInfoResponseDto.from(post);
+        } finally {
+            // 요청 단위 고정(ReadYourWritesFilter)은 그대로 두고 여기서 건 고정만 해제
+            if (!alreadyPinned) {
+                PrimaryPin.clear();
+            }
+        }
+    }
 
 
     // 특정 작성자가 작성한 게시글 목록을 조회
+    // 게시글 프로젝션 1번 + 태그 이름 IN 조회(TAG_QUERY_CHUNK_SIZE개씩)로 끝남 -> 엔티티/지연 로딩 없음
     public PostListResponseDto postFindMember(Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND_EXCEPTION,
-                        ErrorCode.MEMBER_NOT_FOUND_EXCEPTION.getMessage() + memberId));
+        if (!memberRepository.existsById(memberId)) {
+            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND_EXCEPTION,
+                    ErrorCode.MEMBER_NOT_FOUND_EXCEPTION.getMessage() + memberId);
+        }
 
-        List<Post> posts = postRepository.findByMember(member);
-        List<PostInfoResponseDto> postInfoResponseDtos = posts.stream()
-                .map(PostInfoResponseDto::from)
+        List<PostSummary> summaries = postRepository.findSummariesByMemberId(memberId);
+        Map<Long, List<String>> tagNames = findTagNames(summaries.stream().map(PostSummary::postId).toList());
+
+        List<PostInfoResponseDto> postInfoResponseDtos = summaries.stream()
+                .map(summary -> PostInfoResponseDto.from(summary,
+                        tagNames.getOrDefault(summary.postId(), List.of())))
                 .toList();
 
         return PostListResponseDto.from(postInfoResponseDtos);
     }
 
+    // 작성자별 게시글 목록 응답의 ETag (사용자가 없으면 null -> 일반 조회에서 404 처리)
+    public String postListETag(Long memberId) {
+        return postRepository.findVersionStampByMemberId(memberId)
+                .map(stamp -> stamp.toETag("post-" + memberId))
+                .orElse(null);
+    }
+
+    // 이미지 직접 업로드용 presigned PUT URL 발급 (이미지 바이트는 앱 서버를 거치지 않음)
+    public ImageUploadUrlResponseDto issueImageUploadUrl(ImageUploadUrlRequestDto imageUploadUrlRequestDto) {
+        return ImageUploadUrlResponseDto.from(
+                imageStorageService.issueUploadUrl(POST_IMAGE_DIR, imageUploadUrlRequestDto.contentType()));
+    }
+
+    // 이미지 스트리밍 업로드 (요청 본문을 버퍼링하지 않고 저장소로 바로 전송)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImageUploadResponseDto uploadImageStream(InputStream inputStream, String contentType) {
+        return new ImageUploadResponseDto(imageStorageService.storeStream(POST_IMAGE_DIR, inputStream, contentType));
+    }
+
     // 게시물 수정
     @Transactional
     public PostInfoResponseDto postUpdate(Long postId,
@@ -100,28 +180,21 @@ public class PostService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND_EXCEPTION,
                         ErrorCode.POST_NOT_FOUND_EXCEPTION.getMessage() + postId));
 
-        // 기존 이미지 URL을 미리 저장합니다. (새 이미지 업로드 후 삭제하기 위함)
-        String oldImageUrl = post.getImageUrl();
-
-        String newImageUrl = null;
-
-        // 새 이미지 파일이 제공된 경우
-        if(imageFile != null && !imageFile.isEmpty()) {
-            // 새 이미지 S3에 업로드
-            newImageUrl = s3Uploader.upload(imageFile, "post-images");
-
-            // 이전 이미지가 존재하고, 새 이미지가 성공적으로 업로드된 경우에만 이전 이미지 삭제
-            if (oldImageUrl != null && !oldImageUrl.isEmpty()) {
-                s3Uploader.deleteFile(oldImageUrl); // <-- 이전 이미지 삭제 함수 호출!
-            }
+        // 새 이미지 파일 또는 직접 업로드된 이미지 키가 제공된 경우
+        ImageUploadResult newImage = resolveNewImage(imageFile, postUpdateRequestDto.imageKey());
+        if (newImage != null) {
+            // 새 이미지가 성공적으로 업로드된 경우에만 이전 이미지(모든 변형본) 삭제
+            deleteImages(post);
             // 게시물 엔티티의 이미지 URL을 새 이미지 URL로 업데이트
-            post.updateImage(newImageUrl);
+            post.updateImage(newImage.imageUrl(), newImage.thumbnailUrl());
         }
 
         // 게시물 내용 (제목, 본문) 업데이트
         post.update(postUpdateRequestDto);
 
         // 태그 관련 로직
+        // 동시 출현 집계에서 뺄 기존 태그 (컬렉션은 이미 로딩되어 있어 추가 조회 없음)
+        List<Long> oldTagIds = tagIdsOf(post);
         // 기존 PostTag 연관 관계 삭제 (DB에서 직접 삭제)
         postTagRepository.deleteAllByPost(post);
         // 영속성 컨텍스트에 있는 Post 엔티티의 postTags 컬렉션도 비웁니다.
@@ -130,7 +203,7 @@ public class PostService {
 
         // AI 기반 추천 태그 추출 및 재등록
         List<String> tagNames = tagClient.getRecommendedTags(post.getContents());
-        registerTagsToPost(post, tagNames);
+        tagCooccurrenceIndex.recordPostTags(post.getPostId(), oldTagIds, registerTagsToPost(post, tagNames));
 
         return PostInfoResponseDto.from(post);
     }
@@ -143,10 +216,10 @@ public class PostService {
                         ErrorCode.POST_NOT_FOUND_EXCEPTION.getMessage() + postId));
 
         // 게시물 삭제 전에 S3 이미지도 삭제
-        if (post.getImageUrl() != null && !post.getImageUrl().isEmpty()) {
-            s3Uploader.deleteFile(post.getImageUrl());
-        }
+        deleteImages(post);
 
+        // cascade 삭제가 어차피 postTags를 로딩하므로 그 목록으로 동시 출현 집계에서 뺌
+        tagCooccurrenceIndex.recordPostTags(post.getPostId(), tagIdsOf(post), List.of());
         postRepository.delete(post);
     }
 
@@ -160,23 +233,21 @@ public class PostService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND_EXCEPTION,
                         ErrorCode.POST_NOT_FOUND_EXCEPTION.getMessage() + postId));
 
-        // 기존 이미지 URL을 미리 저장합니다. (새 이미지 업로드 후 삭제하기 위함)
-        String oldImageUrl = post.getImageUrl();
-
-        s3Uploader.deleteFile(oldImageUrl);
-        post.updateImage(null); // DB에서도 이미지 URL을 null로 설정
+        deleteImages(post);
+        post.updateImage(null, null); // DB에서도 이미지 URL을 null로 설정
 
         // 게시물 내용 (제목, 본문) 업데이트
         post.update(postUpdateRequestDto);
 
         // 태그 관련 로직
+        List<Long> oldTagIds = tagIdsOf(post);
         // 기존 PostTag 연관 관계 삭제 (DB에서 직접 삭제)
         postTagRepository.deleteAllByPost(post);
         post.getPostTags().clear(); // 양방향 매핑에서 컬렉션도 비워줘야 합니다.
 
         // AI 기반 추천 태그 추출 및 재등록
         List<String> tagNames = tagClient.getRecommendedTags(post.getContents());
-        registerTagsToPost(post, tagNames);
+        tagCooccurrenceIndex.recordPostTags(post.getPostId(), oldTagIds, registerTagsToPost(post, tagNames));
 
         // 'post' 객체는 이미 findByIdWithTags로 로드되어 트랜잭션 내에서 관리되고 있으며,
         // 모든 변경사항이 반영되어 태그 컬렉션도 업데이트된 상태입니다.
@@ -184,17 +255,101 @@ public class PostService {
         return PostInfoResponseDto.from(post);
     }
 
-    // 게시물 추천 태그 목록 등록 및 PostTag 연관 엔티티 저장
-    private void registerTagsToPost(Post post, List<String> tagNames) {
+    // 새 이미지 결정 (없으면 null)
+    // multipart 파일이 있으면 변환 후 업로드, 이미지 키가 있으면 HEAD 요청으로 업로드 여부만 확인
+    private ImageUploadResult resolveNewImage(MultipartFile imageFile, String imageKey) {
+        if (imageFile != null && !imageFile.isEmpty()) {
+            return imageStorageService.store(imageFile, POST_IMAGE_DIR);
+        }
+        if (imageKey == null || imageKey.isBlank()) {
+            return null;
+        }
+
+        StoredObject uploaded = imageStorageService.verifyUploaded(POST_IMAGE_DIR, imageKey);
+        // 업로드 키는 게시글 하나에만 연결 (같은 키를 여러 번 제출하는 것 방지)
+        if (postRepository.existsByImageUrl(uploaded.url())) {
+            throw new BusinessException(ErrorCode.IMAGE_KEY_INVALID, ErrorCode.IMAGE_KEY_INVALID.getMessage() + imageKey);
+        }
+        imageStorageService.register(uploaded);
+        // 직접 업로드된 이미지는 서버에서 변환하지 않으므로 썸네일이 없음
+        return new ImageUploadResult(uploaded.url(), null);
+    }
+
+    // 게시글 id별 태그 이름 (게시글 안의 태그 순서 유지)
+    private Map<Long, List<String>> findTagNames(List<Long> postIds) {
+        Map<Long, List<String>> tagNames = new HashMap<>();
+        for (int from = 0; from < postIds.size(); from += TAG_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = postIds.subList(from, Math.min(postIds.size(), from + TAG_QUERY_CHUNK_SIZE));
+            for (PostTagName postTagName : postTagRepository.findTagNamesByPostIds(chunk)) {
+                tagNames.computeIfAbsent(postTagName.postId(), id -> new ArrayList<>()).add(postTagName.tagName());
+            }
+        }
+        return tagNames;
+    }
+
+    // 게시물의 이미지 변형본(본문, 썸네일) 참조 해제 - 다른 게시글이 참조하지 않을 때만 S3에서 삭제됨
+    private void deleteImages(Post post) {
+        imageStorageService.release(post.getImageUrl());
+        imageStorageService.release(post.getThumbnailUrl());
+    }
+
+    // 게시글에 붙은 태그 id (Tag 프록시는 초기화하지 않음)
+    private static List<Long> tagIdsOf(Post post) {
+        return post.getPostTags().stream()
+                .map(postTag -> postTag.getTag().getId())
+                .toList();
+    }
+
+    // 게시물 추천 태그 목록 등록 및 PostTag 연관 엔티티 저장, 연결한 태그 id 반환
+    private List<Long> registerTagsToPost(Post post, List<String> tagNames) {
+        // 노드 캐시의 id는 다른 노드에서 삭제/병합된 태그일 수 있음 (폴링으로 반영되기 전)
+        // -> 그대로 참조하면 fk_post_tag_tag 위반이므로 쓰기 트랜잭션 안에서 PK IN 조회 한 번으로 확인
+        Map<String, Long> cachedIds = new HashMap<>();
+        for (String tagName : tagNames) {
+            tagNameCache.findIdByName(tagName).ifPresent(tagId -> cachedIds.put(tagName, tagId));
+        }
+        Map<Long, Tag> confirmed = new HashMap<>();
+        if (!cachedIds.isEmpty()) {
+            tagRepository.findAllById(cachedIds.values()).forEach(tag -> confirmed.put(tag.getId(), tag));
+        }
+
+        List<Long> tagIds = new ArrayList<>(tagNames.size());
         for (String tagName : tagNames) {
-            // 기존 태그가 있다면 사용, 없으면 새로 생성
-            Tag tag = tagRepository.findByName(tagName)
-                    .orElseGet(() -> tagRepository.save(new Tag(tagName)));
+            Tag tag = resolveTag(tagName, cachedIds.get(tagName), confirmed);
 
             // PostTag 생성 및 연관 관계 추가
             PostTag postTag = new PostTag(post, tag);
             post.getPostTags().add(postTag);    // 양방향 매핑 유지
             postTagRepository.save(postTag);
+            tagIds.add(tag.getId());
+        }
+        return tagIds;
+    }
+
+    // 확인된 기존 태그를 사용, 캐시 id가 없어졌거나 이름이 바뀌었으면 캐시에서 지우고 이름으로 다시 조회, 그래도 없으면 새로 생성
+    private Tag resolveTag(String tagName, Long cachedId, Map<Long, Tag> confirmed) {
+        Tag tag = cachedId == null ? null : confirmed.get(cachedId);
+        if (tag != null && tag.getName().equals(tagName)) {
+            return tag;
+        }
+        if (cachedId != null) {
+            tagNameCache.evict(cachedId, tagName);
+            tag = tagRepository.findByName(tagName).orElse(null);
+        } else {
+            // 같은 요청에서 앞서 만든 태그 (아직 캐시에 없음)
+            tag = confirmed.values().stream().filter(found -> found.getName().equals(tagName)).findFirst().orElse(null);
+        }
+        if (tag == null) {
+            // 다른 요청이 같은 이름을 동시에 만들 수 있으므로 INSERT IGNORE 후 이름으로 다시 조회
+            boolean created = tagRepository.insertIfAbsent(tagName) == 1;
+            tag = tagRepository.findByNameForShare(tagName)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.TAG_NOT_FOUND_EXCEPTION,
+                            ErrorCode.TAG_NOT_FOUND_EXCEPTION.getMessage() + tagName));
+            if (created) {
+                tagAutocompleteIndex.add(tag.getId(), tagName);
+            }
         }
+        confirmed.put(tag.getId(), tag);
+        return tag;
     }
 }
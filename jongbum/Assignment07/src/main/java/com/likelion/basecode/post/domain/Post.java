@@ -35,15 +35,23 @@ public class Post {
     @Column(name = "image_url")
     private String imageUrl;
 
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    // 수정될 때마다 증가 -> 조회 API의 ETag 계산에 사용
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostTag> postTags = new ArrayList<>();
 
     @Builder
-    private Post(String title, String contents, Member member, String imageUrl) {
+    private Post(String title, String contents, Member member, String imageUrl, String thumbnailUrl) {
         this.title = title;
         this.contents = contents;
         this.member = member;
         this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
     }
 
     public void update(PostUpdateRequestDto postUpdateRequestDto) {
@@ -51,7 +59,8 @@ public class Post {
         this.contents = postUpdateRequestDto.contents();
     }
 
-    public void updateImage(String imageUrl) {
+    public void updateImage(String imageUrl, String thumbnailUrl) {
         this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
     }
 }
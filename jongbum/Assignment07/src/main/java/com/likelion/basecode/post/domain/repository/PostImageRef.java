@@ -0,0 +1,9 @@
+package com.likelion.basecode.post.domain.repository;
+
+// 일괄 삭제 대상 게시글과 해제할 이미지 URL
+public record PostImageRef(
+        Long postId,
+        String imageUrl,
+        String thumbnailUrl
+) {
+}
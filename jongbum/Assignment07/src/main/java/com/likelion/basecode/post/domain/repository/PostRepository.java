@@ -1,11 +1,15 @@
 package com.likelion.basecode.post.domain.repository;
 
+import com.likelion.basecode.common.etag.VersionStamp;
 import com.likelion.basecode.member.domain.Member;
 import com.likelion.basecode.post.domain.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,10 +17,44 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     List<Post> findByMember(Member member);
 
+    // 작성자별 게시글 목록 (DTO 프로젝션, 태그는 PostTagRepository.findTagNamesByPostIds로 따로 조회)
+    @Query("SELECT new com.likelion.basecode.post.domain.repository.PostSummary(" +
+            "p.postId, p.title, p.contents, m.name, p.imageUrl, p.thumbnailUrl) " +
+            "FROM Post p JOIN p.member m " +
+            "WHERE m.memberId = :memberId " +
+            "ORDER BY p.postId")
+    List<PostSummary> findSummariesByMemberId(@Param("memberId") Long memberId);
+
+    boolean existsByImageUrl(String imageUrl);
+
     @Query("SELECT p FROM Post p " +
             "JOIN FETCH p.member " +
             "LEFT JOIN FETCH p.postTags pt " +
             "LEFT JOIN FETCH pt.tag " +
             "WHERE p.postId = :postId")
     Optional<Post> findByIdWithTags(@Param("postId") Long postId);
+
+    // 작성자별 게시글 목록의 ETag 계산용 집계 (작성자 이름 변경도 반영하기 위해 member의 version 포함)
+    // 사용자가 없으면 빈 Optional -> 일반 조회 경로에서 404 처리
+    @Query("SELECT new com.likelion.basecode.common.etag.VersionStamp(" +
+            "COUNT(p), COALESCE(MAX(p.postId), 0L), COALESCE(SUM(p.version), 0L) + m.version) " +
+            "FROM Member m LEFT JOIN m.posts p " +
+            "WHERE m.memberId = :memberId " +
+            "GROUP BY m.memberId, m.version")
+    Optional<VersionStamp> findVersionStampByMemberId(@Param("memberId") Long memberId);
+
+    // 사용자 삭제 작업용 - 작성자의 게시글을 id 순으로 일정 개수씩 (member_id FK 인덱스 사용, 엔티티 로딩 없음)
+    @Query("SELECT new com.likelion.basecode.post.domain.repository.PostImageRef(p.postId, p.imageUrl, p.thumbnailUrl) " +
+            "FROM Post p WHERE p.member.memberId = :memberId ORDER BY p.postId")
+    List<PostImageRef> findImageRefsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 한 문장으로 일괄 삭제 (post_tag는 먼저 지워야 함)
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.postId IN :postIds")
+    int deleteAllByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // 태그 일괄 변경 후 게시글 version 증가 -> 게시글 목록 ETag가 바뀐 태그를 반영
+    @Modifying
+    @Query(value = "UPDATE post SET version = version + 1 WHERE post_id IN (:postIds)", nativeQuery = true)
+    int incrementVersions(@Param("postIds") Collection<Long> postIds);
 }
@@ -0,0 +1,12 @@
+package com.likelion.basecode.post.domain.repository;
+
+// 게시글 목록 조회용 프로젝션 (엔티티가 아니므로 영속성 컨텍스트에 올라가지 않음)
+public record PostSummary(
+        Long postId,
+        String title,
+        String contents,
+        String writer,
+        String imageUrl,
+        String thumbnailUrl
+) {
+}
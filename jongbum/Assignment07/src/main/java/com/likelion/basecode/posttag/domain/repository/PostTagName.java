@@ -0,0 +1,8 @@
+package com.likelion.basecode.posttag.domain.repository;
+
+// 게시글별 태그 이름 프로젝션
+public record PostTagName(
+        Long postId,
+        String tagName
+) {
+}
@@ -0,0 +1,8 @@
+package com.likelion.basecode.posttag.domain.repository;
+
+// 게시글 id와 태그 id 쌍 프로젝션 (태그 동시 출현 집계용)
+public record PostTagRef(
+        Long postId,
+        Long tagId
+) {
+}
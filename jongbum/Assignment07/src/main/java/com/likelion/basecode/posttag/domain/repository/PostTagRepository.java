@@ -2,13 +2,71 @@ package com.likelion.basecode.posttag.domain.repository;
 
 import com.likelion.basecode.post.domain.Post;
 import com.likelion.basecode.posttag.domain.PostTag;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface PostTagRepository extends JpaRepository<PostTag, Long> {
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM PostTag pt WHERE pt.post = :post")
     void deleteAllByPost(@Param("post") Post post);
+
+    // 여러 게시글의 태그 이름을 한 번에 조회 (게시글마다 컬렉션을 초기화하는 N+1 대신)
+    @Query("SELECT new com.likelion.basecode.posttag.domain.repository.PostTagName(pt.post.postId, t.name) " +
+            "FROM PostTag pt JOIN pt.tag t " +
+            "WHERE pt.post.postId IN :postIds " +
+            "ORDER BY pt.id")
+    List<PostTagName> findTagNamesByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // 여러 게시글의 태그 id를 한 번에 조회
+    @Query("SELECT new com.likelion.basecode.posttag.domain.repository.PostTagRef(pt.post.postId, pt.tag.id) " +
+            "FROM PostTag pt " +
+            "WHERE pt.post.postId IN :postIds")
+    List<PostTagRef> findTagRefsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // 전체 태그 연결을 게시글 id 순으로 일정 개수씩 (post_id FK 인덱스 사용, 키셋 페이지)
+    @Query("SELECT new com.likelion.basecode.posttag.domain.repository.PostTagRef(pt.post.postId, pt.tag.id) " +
+            "FROM PostTag pt " +
+            "WHERE pt.post.postId > :afterPostId " +
+            "ORDER BY pt.post.postId, pt.id")
+    List<PostTagRef> findTagRefsAfterPostId(@Param("afterPostId") long afterPostId, Pageable pageable);
+
+    // 여러 게시글의 태그 연결을 한 문장으로 삭제
+    @Modifying
+    @Query("DELETE FROM PostTag pt WHERE pt.post.postId IN :postIds")
+    int deleteAllByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // 태그 삭제/병합용 - 해당 태그가 붙은 게시글 id를 일정 개수씩 (tag_id FK 인덱스 사용)
+    @Query(value = "SELECT DISTINCT post_id FROM post_tag WHERE tag_id IN (:tagIds) ORDER BY post_id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findPostIdsByTagIds(@Param("tagIds") Collection<Long> tagIds, @Param("limit") int limit);
+
+    // 태그 이름 변경용 - 연결 행이 그대로 남으므로 afterPostId 이후부터 키셋으로 일정 개수씩
+    @Query(value = "SELECT DISTINCT post_id FROM post_tag WHERE tag_id = :tagId AND post_id > :afterPostId " +
+            "ORDER BY post_id LIMIT :limit", nativeQuery = true)
+    List<Long> findPostIdsByTagIdAfter(@Param("tagId") Long tagId, @Param("afterPostId") long afterPostId,
+                                       @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_tag WHERE tag_id IN (:tagIds) AND post_id IN (:postIds)", nativeQuery = true)
+    int deleteByTagIdsAndPostIds(@Param("tagIds") Collection<Long> tagIds, @Param("postIds") Collection<Long> postIds);
+
+    // 병합 대상 태그가 이미 붙어 있는 게시글
+    @Query(value = "SELECT post_id FROM post_tag WHERE tag_id = :tagId AND post_id IN (:postIds)", nativeQuery = true)
+    List<Long> findPostIdsHavingTag(@Param("tagId") Long tagId, @Param("postIds") Collection<Long> postIds);
+
+    // 게시글마다 source 태그 연결 중 가장 먼저 등록된 행 (이 행만 대상 태그로 바꾸고 나머지는 중복이라 삭제)
+    @Query(value = "SELECT MIN(post_tag_id) FROM post_tag WHERE tag_id IN (:tagIds) AND post_id IN (:postIds) " +
+            "GROUP BY post_id", nativeQuery = true)
+    List<Long> findFirstIdsPerPost(@Param("tagIds") Collection<Long> tagIds, @Param("postIds") Collection<Long> postIds);
+
+    // 행을 새로 만들지 않고 tag_id만 바꿔서 게시글 안의 태그 순서(post_tag_id 순) 유지
+    @Modifying
+    @Query(value = "UPDATE post_tag SET tag_id = :tagId WHERE post_tag_id IN (:postTagIds)", nativeQuery = true)
+    int repointToTag(@Param("postTagIds") Collection<Long> postTagIds, @Param("tagId") Long tagId);
 }
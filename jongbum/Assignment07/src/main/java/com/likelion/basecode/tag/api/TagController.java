@@ -0,0 +1,83 @@
+package com.likelion.basecode.tag.api;
+
+import com.likelion.basecode.common.error.SuccessCode;
+import com.likelion.basecode.common.template.ApiResTemplate;
+import com.likelion.basecode.tag.api.dto.request.TagMergeRequestDto;
+import com.likelion.basecode.tag.api.dto.request.TagSaveRequestDto;
+import com.likelion.basecode.tag.api.dto.request.TagUpdateRequestDto;
+import com.likelion.basecode.tag.api.dto.response.RelatedTagListResponseDto;
+import com.likelion.basecode.tag.api.dto.response.TagInfoResponseDto;
+import com.likelion.basecode.tag.api.dto.response.TagListResponseDto;
+import com.likelion.basecode.tag.api.dto.response.TagSuggestionListResponseDto;
+import com.likelion.basecode.tag.application.TagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/tag")
+public class TagController {
+
+    private final TagService tagService;
+
+    // 태그 저장
+    @PostMapping("/save")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResTemplate<TagInfoResponseDto> tagSave(@RequestBody TagSaveRequestDto tagSaveRequestDto) {
+        TagInfoResponseDto tagInfoResponseDto = tagService.createTag(tagSaveRequestDto);
+        return ApiResTemplate.successResponse(SuccessCode.TAG_SAVE_SUCCESS, tagInfoResponseDto);
+    }
+
+    // 태그 전체 조회
+    @GetMapping("/all")
+    public ApiResTemplate<TagListResponseDto> tagFindAll() {
+        TagListResponseDto tagListResponseDto = tagService.getAllTags();
+        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, tagListResponseDto);
+    }
+
+    // 태그 자동완성 - 입력 중인 접두사로 사용 횟수가 많은 태그부터 (한글은 "하", "한ㄱ", 초성 "ㅎㄱ"도 가능)
+    @GetMapping("/autocomplete")
+    public ApiResTemplate<TagSuggestionListResponseDto> tagAutocomplete(@RequestParam("q") String prefix,
+                                                                        @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        TagSuggestionListResponseDto tagSuggestionListResponseDto = tagService.autocomplete(prefix, limit);
+        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, tagSuggestionListResponseDto);
+    }
+
+    // 태그 id로 단건 조회
+    @GetMapping("/{tagId}")
+    public ApiResTemplate<TagInfoResponseDto> tagFindOne(@PathVariable("tagId") Long tagId) {
+        TagInfoResponseDto tagInfoResponseDto = tagService.getTagById(tagId);
+        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, tagInfoResponseDto);
+    }
+
+    // 관련 태그 - 이 태그와 함께 붙은 게시글이 많은 태그부터
+    @GetMapping("/{tagId}/related")
+    public ApiResTemplate<RelatedTagListResponseDto> tagRelated(@PathVariable("tagId") Long tagId,
+                                                                @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        RelatedTagListResponseDto relatedTagListResponseDto = tagService.relatedTags(tagId, limit);
+        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, relatedTagListResponseDto);
+    }
+
+    // 태그 이름 수정
+    @PatchMapping("/{tagId}")
+    public ApiResTemplate<String> tagUpdate(@PathVariable("tagId") Long tagId,
+                                            @RequestBody TagUpdateRequestDto tagUpdateRequestDto) {
+        tagService.tagUpdate(tagId, tagUpdateRequestDto);
+        return ApiResTemplate.successWithNoContent(SuccessCode.TAG_UPDATE_SUCCESS);
+    }
+
+    // 태그 삭제 (게시글과의 연결도 함께 삭제)
+    @DeleteMapping("/{tagId}")
+    public ApiResTemplate<String> tagDelete(@PathVariable("tagId") Long tagId) {
+        tagService.tagDelete(tagId);
+        return ApiResTemplate.successWithNoContent(SuccessCode.TAG_DELETE_SUCCESS);
+    }
+
+    // 여러 태그를 하나로 병합 (source 태그는 삭제)
+    @PostMapping("/merge")
+    public ApiResTemplate<String> tagMerge(@RequestBody TagMergeRequestDto tagMergeRequestDto) {
+        tagService.tagMerge(tagMergeRequestDto);
+        return ApiResTemplate.successWithNoContent(SuccessCode.TAG_MERGE_SUCCESS);
+    }
+}
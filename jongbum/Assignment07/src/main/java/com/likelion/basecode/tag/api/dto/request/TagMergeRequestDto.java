@@ -0,0 +1,10 @@
+package com.likelion.basecode.tag.api.dto.request;
+
+import java.util.List;
+
+// sourceTagIds 태그들을 targetTagId 태그로 합침 (source 태그는 삭제됨)
+public record TagMergeRequestDto (
+        Long targetTagId,
+        List<Long> sourceTagIds
+){
+}
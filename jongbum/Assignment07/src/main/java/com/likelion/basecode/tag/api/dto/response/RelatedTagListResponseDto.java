@@ -0,0 +1,13 @@
+package com.likelion.basecode.tag.api.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record RelatedTagListResponseDto(
+        Long id,
+        String name,
+        List<RelatedTagResponseDto> tags
+) {
+}
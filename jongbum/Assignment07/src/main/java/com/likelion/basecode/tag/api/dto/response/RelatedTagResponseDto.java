@@ -0,0 +1,21 @@
+package com.likelion.basecode.tag.api.dto.response;
+
+import com.likelion.basecode.tag.application.RelatedTag;
+import lombok.Builder;
+
+@Builder
+public record RelatedTagResponseDto(
+        Long id,
+        String name,
+        long count,
+        double jaccard
+) {
+    public static RelatedTagResponseDto from(RelatedTag relatedTag, String name) {
+        return RelatedTagResponseDto.builder()
+                .id(relatedTag.tagId())
+                .name(name)
+                .count(relatedTag.count())
+                .jaccard(relatedTag.jaccard())
+                .build();
+    }
+}
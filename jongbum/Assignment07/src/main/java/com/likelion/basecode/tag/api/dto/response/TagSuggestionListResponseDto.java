@@ -0,0 +1,17 @@
+package com.likelion.basecode.tag.api.dto.response;
+
+import com.likelion.basecode.tag.application.TagSuggestion;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record TagSuggestionListResponseDto(
+        List<TagSuggestionResponseDto> tags
+) {
+    public static TagSuggestionListResponseDto from(List<TagSuggestion> tagSuggestions) {
+        return TagSuggestionListResponseDto.builder()
+                .tags(tagSuggestions.stream().map(TagSuggestionResponseDto::from).toList())
+                .build();
+    }
+}
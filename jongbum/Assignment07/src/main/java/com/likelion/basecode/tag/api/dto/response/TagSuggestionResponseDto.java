@@ -0,0 +1,19 @@
+package com.likelion.basecode.tag.api.dto.response;
+
+import com.likelion.basecode.tag.application.TagSuggestion;
+import lombok.Builder;
+
+@Builder
+public record TagSuggestionResponseDto(
+        Long id,
+        String name,
+        long usageCount
+) {
+    public static TagSuggestionResponseDto from(TagSuggestion tagSuggestion) {
+        return TagSuggestionResponseDto.builder()
+                .id(tagSuggestion.tagId())
+                .name(tagSuggestion.name())
+                .usageCount(tagSuggestion.usageCount())
+                .build();
+    }
+}
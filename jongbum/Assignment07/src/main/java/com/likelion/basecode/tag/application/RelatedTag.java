@@ -0,0 +1,9 @@
+package com.likelion.basecode.tag.application;
+
+// 관련 태그 - 기준 태그와 함께 붙은 게시글 수(count)와 자카드 유사도(함께 붙은 수 / 둘 중 하나라도 붙은 수)
+public record RelatedTag(
+        Long tagId,
+        long count,
+        double jaccard
+) {
+}
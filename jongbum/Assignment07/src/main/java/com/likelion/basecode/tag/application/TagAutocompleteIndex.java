@@ -0,0 +1,398 @@
+package com.likelion.basecode.tag.application;
+
+import com.likelion.basecode.common.transaction.TransactionHooks;
+import com.likelion.basecode.tag.domain.repository.TagRepository;
+import com.likelion.basecode.tag.domain.repository.TagUsage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 태그 자동완성 인덱스 (메모리, 조회 시 DB 접근 없음)
+// - 기본 스냅샷: 검색 키(TagSearchKeys) 순으로 정렬한 배열 + 사용 횟수 최댓값 세그먼트 트리
+//   접두사 범위는 이진 탐색으로 찾고, 범위 안에서 사용 횟수가 큰 순으로 limit개만 꺼냄 (범위 전체를 훑지 않음)
+// - 생성/이름 변경/삭제: 작은 overlay 맵에 기록하고 조회 시 함께 봄, compact-interval-ms마다(또는 max-overlay-size 초과 시) 스냅샷에 합침
+// - 사용 횟수: 게시글 저장 시 메모리에서 바로 증가, refresh-interval-ms마다 DB에서 다시 적재해서 게시글 삭제/다른 노드의 변경까지 맞춤
+// 다른 노드의 이름 변경/삭제는 TagNameCache가 tag_change_log를 읽으면서 apply로 전달
+@Slf4j
+@Component
+public class TagAutocompleteIndex {
+
+    private static final Comparator<TagSuggestion> RANKING = Comparator
+            .comparingLong(TagSuggestion::usageCount).reversed()
+            .thenComparing(TagSuggestion::name);
+
+    private final TagRepository tagRepository;
+    private final boolean enabled;
+    private final int maxOverlaySize;
+
+    private volatile State state = new State(Snapshot.build(List.of()), Map.of());
+    // overlay 변경 순번 (this 잠금 아래에서만 변경) - 다시 적재하는 도중에 생긴 변경을 남기기 위함
+    private long changeSeq;
+
+    public TagAutocompleteIndex(TagRepository tagRepository,
+                                @Value("${tag.autocomplete.enabled:true}") boolean enabled,
+                                @Value("${tag.autocomplete.max-overlay-size:1024}") int maxOverlaySize) {
+        this.tagRepository = tagRepository;
+        this.enabled = enabled;
+        this.maxOverlaySize = maxOverlaySize;
+    }
+
+    // prefix로 시작하는 태그를 사용 횟수 순으로 최대 limit개
+    // 자음만 입력하면 초성 검색, 그 외에는 자모 단위 접두사 검색 ("하", "한", "한ㄱ" 모두 "한국"과 일치)
+    public List<TagSuggestion> suggest(String prefix, int limit) {
+        String normalized = TagSearchKeys.normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        boolean initialsOnly = TagSearchKeys.isInitialsOnly(normalized);
+        String query = initialsOnly ? normalized : TagSearchKeys.key(normalized);
+
+        State current = state;
+        List<TagSuggestion> suggestions = new ArrayList<>(limit);
+        current.base().collect(initialsOnly ? current.base().byInitials : current.base().byKey,
+                query, limit, current.overlay(), suggestions);
+        for (OverlayEntry entry : current.overlay().values()) {
+            if (entry.name() != null && (initialsOnly ? entry.initials() : entry.key()).startsWith(query)) {
+                suggestions.add(new TagSuggestion(entry.tagId(), entry.name(), entry.usage().get()));
+            }
+        }
+
+        suggestions.sort(RANKING);
+        return suggestions.size() > limit ? List.copyOf(suggestions.subList(0, limit)) : suggestions;
+    }
+
+    // 새 태그 (트랜잭션 안이면 커밋 후 반영)
+    public void add(Long tagId, String name) {
+        TransactionHooks.afterCommit(() -> apply(tagId, name));
+    }
+
+    // 게시글에 태그가 붙을 때 사용 횟수 증가 (트랜잭션 안이면 커밋 후 반영)
+    public void recordUsage(Collection<Long> tagIds) {
+        TransactionHooks.afterCommit(() -> increment(tagIds));
+    }
+
+    // 이름 변경(newName) 또는 삭제(newName == null), 이미 반영된 변경이면 무시
+    public synchronized void apply(Long tagId, String newName) {
+        State current = state;
+        OverlayEntry overlaid = current.overlay().get(tagId);
+        Integer baseIndex = current.base().indexById.get(tagId);
+        if (overlaid == null && baseIndex == null && newName == null) {
+            return;
+        }
+        String currentName = overlaid != null ? overlaid.name()
+                : baseIndex != null ? current.base().names[baseIndex] : null;
+        if ((newName != null && newName.equals(currentName)) || (newName == null && overlaid != null && overlaid.name() == null)) {
+            return;
+        }
+
+        long usage = overlaid != null ? overlaid.usage().get()
+                : baseIndex != null ? current.base().usage.get(baseIndex) : 0;
+        Map<Long, OverlayEntry> overlay = new HashMap<>(current.overlay());
+        if (newName == null && baseIndex == null) {
+            overlay.remove(tagId);
+        } else {
+            overlay.put(tagId, OverlayEntry.of(tagId, newName, usage, ++changeSeq));
+        }
+        state = new State(current.base(), Collections.unmodifiableMap(overlay));
+
+        if (overlay.size() > maxOverlaySize) {
+            compact();
+        }
+    }
+
+    // overlay를 스냅샷에 합침
+    @Scheduled(fixedDelayString = "${tag.autocomplete.compact-interval-ms:5000}")
+    public synchronized void compact() {
+        State current = state;
+        if (current.overlay().isEmpty()) {
+            return;
+        }
+        Snapshot base = current.base();
+        List<TagUsage> usages = new ArrayList<>(base.ids.length + current.overlay().size());
+        for (int i = 0; i < base.ids.length; i++) {
+            if (!current.overlay().containsKey(base.ids[i])) {
+                usages.add(new TagUsage(base.ids[i], base.names[i], base.usage.get(i)));
+            }
+        }
+        for (OverlayEntry entry : current.overlay().values()) {
+            if (entry.name() != null) {
+                usages.add(new TagUsage(entry.tagId(), entry.name(), entry.usage().get()));
+            }
+        }
+        state = new State(Snapshot.build(usages), Map.of());
+    }
+
+    // DB에서 태그와 사용 횟수를 다시 적재 (기동 시, 이후 refresh-interval-ms마다)
+    // 적재하는 동안 생긴 overlay 변경은 새 스냅샷 위에 그대로 남김
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tag.autocomplete.refresh-interval-ms:600000}",
+            initialDelayString = "${tag.autocomplete.refresh-interval-ms:600000}")
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        long startSeq;
+        synchronized (this) {
+            startSeq = changeSeq;
+        }
+
+        long started = System.nanoTime();
+        Snapshot fresh;
+        try {
+            fresh = Snapshot.build(tagRepository.findAllUsage());
+        } catch (RuntimeException e) {
+            log.warn("태그 자동완성 인덱스 적재 실패 (기존 인덱스 유지)", e);
+            return;
+        }
+
+        synchronized (this) {
+            Map<Long, OverlayEntry> overlay = new HashMap<>();
+            state.overlay().forEach((tagId, entry) -> {
+                if (entry.seq() > startSeq) {
+                    overlay.put(tagId, entry);
+                }
+            });
+            state = new State(fresh, overlay.isEmpty() ? Map.of() : Collections.unmodifiableMap(overlay));
+        }
+        log.info("태그 자동완성 인덱스 적재: 태그 {}개, {}ms", fresh.ids.length, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private synchronized void increment(Collection<Long> tagIds) {
+        State current = state;
+        for (Long tagId : tagIds) {
+            OverlayEntry overlaid = current.overlay().get(tagId);
+            if (overlaid != null) {
+                overlaid.usage().incrementAndGet();
+                continue;
+            }
+            Integer baseIndex = current.base().indexById.get(tagId);
+            if (baseIndex != null) {
+                current.base().increment(baseIndex);
+            }
+        }
+    }
+
+    private record State(Snapshot base, Map<Long, OverlayEntry> overlay) {
+    }
+
+    // 스냅샷 이후 생성/변경/삭제된 태그 (name == null 이면 삭제)
+    private record OverlayEntry(Long tagId, String name, String key, String initials, AtomicLong usage, long seq) {
+
+        static OverlayEntry of(Long tagId, String name, long usage, long seq) {
+            if (name == null) {
+                return new OverlayEntry(tagId, null, null, null, new AtomicLong(), seq);
+            }
+            String normalized = TagSearchKeys.normalize(name);
+            return new OverlayEntry(tagId, name, TagSearchKeys.key(normalized), TagSearchKeys.initials(normalized),
+                    new AtomicLong(usage), seq);
+        }
+    }
+
+    // 태그 배열 + 키별 정렬 테이블 두 개 (자모 키, 초성 키)
+    private static final class Snapshot {
+
+        private final long[] ids;
+        private final String[] names;
+        private final AtomicLongArray usage;
+        private final Map<Long, Integer> indexById;
+        private final PrefixTable byKey;
+        private final PrefixTable byInitials;
+
+        private Snapshot(long[] ids, String[] names, AtomicLongArray usage, String[] keys, String[] initials) {
+            this.ids = ids;
+            this.names = names;
+            this.usage = usage;
+            this.indexById = new HashMap<>(ids.length * 2);
+            for (int i = 0; i < ids.length; i++) {
+                indexById.put(ids[i], i);
+            }
+            this.byKey = new PrefixTable(keys, usage);
+            this.byInitials = new PrefixTable(initials, usage);
+        }
+
+        static Snapshot build(List<TagUsage> usages) {
+            int size = usages.size();
+            long[] ids = new long[size];
+            String[] names = new String[size];
+            AtomicLongArray usage = new AtomicLongArray(size);
+            String[] keys = new String[size];
+            String[] initials = new String[size];
+            for (int i = 0; i < size; i++) {
+                TagUsage tagUsage = usages.get(i);
+                String normalized = TagSearchKeys.normalize(tagUsage.name());
+                ids[i] = tagUsage.tagId();
+                names[i] = tagUsage.name();
+                usage.set(i, tagUsage.usageCount());
+                keys[i] = TagSearchKeys.key(normalized);
+                initials[i] = TagSearchKeys.initials(normalized);
+            }
+            return new Snapshot(ids, names, usage, keys, initials);
+        }
+
+        void increment(int index) {
+            usage.incrementAndGet(index);
+            byKey.refresh(index);
+            byInitials.refresh(index);
+        }
+
+        // 접두사 범위에서 사용 횟수가 큰 순으로 꺼내되 overlay에 있는(변경/삭제된) 태그는 건너뜀
+        void collect(PrefixTable table, String prefix, int limit,
+                     Map<Long, OverlayEntry> overlay, List<TagSuggestion> suggestions) {
+            int from = table.lowerBound(prefix);
+            int to = table.prefixEnd(from, prefix);
+            if (from >= to) {
+                return;
+            }
+
+            PriorityQueue<Range> ranges = new PriorityQueue<>();
+            table.push(ranges, from, to);
+            int collected = 0;
+            while (collected < limit && !ranges.isEmpty()) {
+                Range range = ranges.poll();
+                int entry = table.entryOf[range.best()];
+                if (!overlay.containsKey(ids[entry])) {
+                    suggestions.add(new TagSuggestion(ids[entry], names[entry], usage.get(entry)));
+                    collected++;
+                }
+                table.push(ranges, range.from(), range.best());
+                table.push(ranges, range.best() + 1, range.to());
+            }
+        }
+    }
+
+    // 키 순으로 정렬한 위치 -> 태그 인덱스, 그리고 구간 최대 사용 횟수 위치를 구하는 세그먼트 트리
+    // 트리는 사용 횟수 증가 시 해당 위치의 조상만 갱신 (읽는 쪽은 잠금 없이 조회)
+    private static final class PrefixTable {
+
+        private final String[] keys;
+        private final int[] entryOf;
+        private final int[] positionOf;
+        private final AtomicLongArray usage;
+        private final AtomicIntegerArray tree;
+        private final int size;
+
+        PrefixTable(String[] entryKeys, AtomicLongArray usage) {
+            this.size = entryKeys.length;
+            this.usage = usage;
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing((Integer i) -> entryKeys[i]));
+
+            this.keys = new String[size];
+            this.entryOf = new int[size];
+            this.positionOf = new int[size];
+            for (int position = 0; position < size; position++) {
+                keys[position] = entryKeys[order[position]];
+                entryOf[position] = order[position];
+                positionOf[order[position]] = position;
+            }
+
+            this.tree = new AtomicIntegerArray(Math.max(2, size * 2));
+            for (int position = 0; position < size; position++) {
+                tree.set(size + position, position);
+            }
+            for (int node = size - 1; node >= 1; node--) {
+                tree.set(node, better(tree.get(node * 2), tree.get(node * 2 + 1)));
+            }
+        }
+
+        // prefix 이상인 첫 위치
+        int lowerBound(String prefix) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // from부터 prefix로 시작하는 구간의 끝 (정렬되어 있으므로 연속 구간)
+        int prefixEnd(int from, String prefix) {
+            int low = from;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].startsWith(prefix)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        void push(PriorityQueue<Range> ranges, int from, int to) {
+            if (from < to) {
+                int best = argmax(from, to);
+                ranges.add(new Range(from, to, best, usage.get(entryOf[best])));
+            }
+        }
+
+        void refresh(int entry) {
+            for (int node = (positionOf[entry] + size) >> 1; node >= 1; node >>= 1) {
+                tree.set(node, better(tree.get(node * 2), tree.get(node * 2 + 1)));
+            }
+        }
+
+        // [from, to)에서 사용 횟수가 가장 큰 위치 (같으면 키 순으로 앞선 위치)
+        private int argmax(int from, int to) {
+            int best = -1;
+            for (int left = from + size, right = to + size; left < right; left >>= 1, right >>= 1) {
+                if ((left & 1) == 1) {
+                    best = better(best, tree.get(left++));
+                }
+                if ((right & 1) == 1) {
+                    best = better(best, tree.get(--right));
+                }
+            }
+            return best;
+        }
+
+        private int better(int a, int b) {
+            if (a < 0) {
+                return b;
+            }
+            if (b < 0) {
+                return a;
+            }
+            long usageA = usage.get(entryOf[a]);
+            long usageB = usage.get(entryOf[b]);
+            if (usageA != usageB) {
+                return usageA > usageB ? a : b;
+            }
+            return Math.min(a, b);
+        }
+    }
+
+    private record Range(int from, int to, int best, long usage) implements Comparable<Range> {
+
+        @Override
+        public int compareTo(Range other) {
+            int byUsage = Long.compare(other.usage, usage);
+            return byUsage != 0 ? byUsage : Integer.compare(best, other.best);
+        }
+    }
+}
@@ -0,0 +1,623 @@
+package com.likelion.basecode.tag.application;
+
+import com.likelion.basecode.common.collection.LongIntHashMap;
+import com.likelion.basecode.common.collection.LongObjectHashMap;
+import com.likelion.basecode.common.transaction.TransactionHooks;
+import com.likelion.basecode.posttag.domain.repository.PostTagRef;
+import com.likelion.basecode.posttag.domain.repository.PostTagRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 태그 동시 출현 인덱스 (관련 태그, 조회 시 DB 접근 없음)
+// - 태그 쌍 (a, b) -> 두 태그가 함께 붙은 게시글 수, a의 이웃 맵과 b의 이웃 맵 양쪽에 기록 (박싱 없는 long 키 맵)
+// - 게시글의 태그가 바뀌는 트랜잭션(게시글 저장/수정/삭제, 태그 삭제/병합, 사용자 삭제)이 커밋되면 그 게시글의 쌍만 증감
+// - checkpoint-interval-ms마다 변경이 있으면 checkpoint-path에 기록(임시 파일에 쓴 뒤 교체), 기동 시 먼저 읽음
+// - rebuild-interval-ms마다 post_tag를 게시글 id 순으로 한 번 훑어서 다시 집계 (self-join 없이 게시글별 태그 목록에서 쌍을 만듦)
+//   체크포인트가 없거나 그보다 오래됐으면 기동 직후 바로 집계
+//   재집계 도중 커밋된 변경은 모아 뒀다가, 그 게시글을 읽은 페이지 조회보다 뒤에 반영된 것만 새 집계에 다시 적용
+//   (커밋과 반영 사이의 아주 짧은 틈에 조회된 페이지의 게시글은 두 번 셀 수 있음 -> 다음 재집계에서 맞춰짐)
+// 다른 노드의 변경은 다음 재집계에서 맞춰짐
+@Slf4j
+@Component
+public class TagCooccurrenceIndex {
+
+    private static final int CHECKPOINT_MAGIC = 0x54434F43;
+    private static final int CHECKPOINT_VERSION = 1;
+
+    private final PostTagRepository postTagRepository;
+    private final boolean enabled;
+    private final Path checkpointPath;
+    private final long rebuildIntervalMs;
+    private final int rebuildBatchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 아래 세 값은 lock 아래에서만 접근
+    private Counts counts = new Counts(0);
+    // 변경 번호 (반영할 때마다 증가, 재집계 중 변경을 페이지 조회 시점과 비교할 때도 사용)
+    private long changes;
+    // 재집계 중에 반영된 변경 (재집계 중이 아니면 null)
+    private List<PendingChange> pendingChanges;
+    // checkpoint()에서만 접근 (synchronized)
+    private long checkpointedChanges = -1;
+    // 마지막으로 DB에서 다시 집계한 시각 (체크포인트에도 기록, 0이면 아직 없음)
+    private volatile long rebuiltAtMillis;
+
+    public TagCooccurrenceIndex(PostTagRepository postTagRepository,
+                                @Value("${tag.related.enabled:true}") boolean enabled,
+                                @Value("${tag.related.checkpoint-path:${java.io.tmpdir}/basecode-tag-cooccurrence.bin}") Path checkpointPath,
+                                @Value("${tag.related.rebuild-interval-ms:3600000}") long rebuildIntervalMs,
+                                @Value("${tag.related.rebuild-batch-size:5000}") int rebuildBatchSize,
+                                MeterRegistry meterRegistry) {
+        this.postTagRepository = postTagRepository;
+        this.enabled = enabled;
+        this.checkpointPath = checkpointPath;
+        this.rebuildIntervalMs = rebuildIntervalMs;
+        this.rebuildBatchSize = rebuildBatchSize;
+
+        Gauge.builder("tag.related.pairs", this, TagCooccurrenceIndex::pairCount)
+                .description("함께 붙은 적이 있는 태그 쌍 수")
+                .register(meterRegistry);
+    }
+
+    // tagId와 함께 붙은 게시글이 많은 태그 순으로 최대 limit개 (같으면 id 순)
+    public List<RelatedTag> related(Long tagId, int limit) {
+        if (!enabled || tagId == null || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return counts.topK(tagId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 게시글 하나의 태그가 oldTagIds -> newTagIds로 바뀜 (새 게시글은 빈 목록에서, 삭제는 빈 목록으로)
+    // 트랜잭션 안이면 커밋 후 반영
+    public void recordPostTags(Long postId, Collection<Long> oldTagIds, Collection<Long> newTagIds) {
+        if (!enabled) {
+            return;
+        }
+        List<PostChange> postChanges = List.of(new PostChange(postId, distinct(oldTagIds), distinct(newTagIds)));
+        TransactionHooks.afterCommit(() -> update(postChanges));
+    }
+
+    // 여러 게시글의 태그 변경 (게시글 id -> 태그 id 목록, 한쪽에만 있는 게시글은 다른 쪽을 빈 목록으로 봄)
+    public void recordPostTags(Map<Long, ? extends Collection<Long>> oldTagIdsByPost,
+                               Map<Long, ? extends Collection<Long>> newTagIdsByPost) {
+        if (!enabled || (oldTagIdsByPost.isEmpty() && newTagIdsByPost.isEmpty())) {
+            return;
+        }
+        Set<Long> postIds = new HashSet<>(oldTagIdsByPost.keySet());
+        postIds.addAll(newTagIdsByPost.keySet());
+        List<PostChange> postChanges = postIds.stream()
+                .map(postId -> new PostChange(postId,
+                        distinct(oldTagIdsByPost.get(postId)), distinct(newTagIdsByPost.get(postId))))
+                .toList();
+        TransactionHooks.afterCommit(() -> update(postChanges));
+    }
+
+    // 기동 시 체크포인트가 있으면 먼저 읽음 (DB 집계는 스케줄러에서)
+    @PostConstruct
+    public void restore() {
+        if (!enabled || !Files.isRegularFile(checkpointPath)) {
+            return;
+        }
+        long started = System.nanoTime();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpointPath)))) {
+            if (in.readInt() != CHECKPOINT_MAGIC || in.readInt() != CHECKPOINT_VERSION) {
+                log.warn("태그 동시 출현 체크포인트 형식이 달라 무시합니다: {}", checkpointPath);
+                return;
+            }
+            long rebuiltAt = in.readLong();
+            int tagCount = in.readInt();
+            Counts restored = new Counts(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                restored.postsByTag.put(in.readLong(), in.readInt());
+            }
+            int pairCount = in.readInt();
+            for (int i = 0; i < pairCount; i++) {
+                restored.addPair(in.readLong(), in.readLong(), in.readInt());
+            }
+
+            lock.writeLock().lock();
+            try {
+                counts = restored;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuiltAtMillis = rebuiltAt;
+            log.info("태그 동시 출현 체크포인트 적재: 태그 {}개, 쌍 {}개, {}ms",
+                    tagCount, pairCount, (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            log.warn("태그 동시 출현 체크포인트를 읽지 못했습니다. DB에서 다시 집계합니다: {}", checkpointPath, e);
+        }
+    }
+
+    // 재집계 주기가 지났으면 다시 집계 (스케줄러 시작 직후 첫 실행)
+    @Scheduled(fixedDelayString = "${tag.related.rebuild-check-interval-ms:60000}")
+    public void rebuildIfStale() {
+        if (enabled && System.currentTimeMillis() - rebuiltAtMillis >= rebuildIntervalMs) {
+            rebuild();
+        }
+    }
+
+    // post_tag 전체를 게시글 id 순으로 rebuild-batch-size행씩 읽어서 새로 집계한 뒤 교체
+    // 읽는 동안 커밋된 변경은 기존 집계에 반영하면서 모아 두고, 교체할 때 스캔이 못 본 것만 새 집계에 다시 적용
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                return; // 이미 재집계 중
+            }
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long started = System.nanoTime();
+        Counts fresh = new Counts(0);
+        ScanPages pages = new ScanPages();
+        long posts;
+        try {
+            posts = scan(fresh, pages);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.warn("태그 동시 출현 재집계 실패 (기존 집계 유지)", e);
+            return;
+        }
+
+        int replayed = 0;
+        lock.writeLock().lock();
+        try {
+            for (PendingChange pending : pendingChanges) {
+                for (PostChange postChange : pending.postChanges()) {
+                    // 게시글을 읽은 페이지의 조회 전에 반영된 변경은 이미 커밋되어 스캔 결과에 들어 있음
+                    if (pending.change() > pages.changesBeforeQuery(postChange.postId())) {
+                        fresh.addPost(postChange.added(), 1);
+                        fresh.addPost(postChange.removed(), -1);
+                        replayed++;
+                    }
+                }
+            }
+            pendingChanges = null;
+            counts = fresh;
+            changes++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        rebuiltAtMillis = startedAt;
+        log.info("태그 동시 출현 재집계: 게시글 {}개, 태그 {}개, 쌍 {}개, 재집계 중 변경 {}건 다시 적용, {}ms",
+                posts, fresh.postsByTag.size(), fresh.pairs, replayed, (System.nanoTime() - started) / 1_000_000);
+        checkpoint();
+    }
+
+    // 마지막 체크포인트 이후 변경이 있으면 파일로 기록
+    // 잠금 아래에서는 배열로 복사만 하고, 파일 쓰기는 잠금 밖에서 (그동안 게시글 저장이 밀리지 않도록)
+    @Scheduled(fixedDelayString = "${tag.related.checkpoint-interval-ms:300000}",
+            initialDelayString = "${tag.related.checkpoint-interval-ms:300000}")
+    public synchronized void checkpoint() {
+        if (!enabled || rebuiltAtMillis == 0) {
+            return;
+        }
+        Checkpoint checkpoint;
+        long version;
+        lock.readLock().lock();
+        try {
+            if (changes == checkpointedChanges) {
+                return;
+            }
+            version = changes;
+            checkpoint = counts.copy();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Path temp = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        try {
+            Path dir = checkpointPath.toAbsolutePath().getParent();
+            if (dir != null) {
+                Files.createDirectories(dir);
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                checkpoint.writeTo(out, rebuiltAtMillis);
+            }
+            move(temp);
+            checkpointedChanges = version;
+            log.debug("태그 동시 출현 체크포인트 기록: 쌍 {}개", checkpoint.pairCounts.length);
+        } catch (IOException e) {
+            log.warn("태그 동시 출현 체크포인트 기록 실패: {}", checkpointPath, e);
+        }
+    }
+
+    // 종료 시 마지막 변경까지 기록 -> 다음 기동에서 이어서 사용
+    @PreDestroy
+    public void close() {
+        checkpoint();
+    }
+
+    private long scan(Counts target, ScanPages pages) {
+        long afterPostId = 0;
+        long posts = 0;
+        long[] buffer = new long[16];
+        while (true) {
+            pages.add(afterPostId, currentChange());
+            List<PostTagRef> page = postTagRepository.findTagRefsAfterPostId(afterPostId, PageRequest.of(0, rebuildBatchSize));
+            boolean lastPage = page.size() < rebuildBatchSize;
+
+            // 마지막 게시글의 태그가 다음 페이지로 이어질 수 있으므로 그 게시글은 다음 페이지에서 처음부터
+            // (게시글 하나의 태그가 페이지보다 많으면 그대로 처리)
+            int end = page.size();
+            if (!lastPage) {
+                Long tailPostId = page.get(end - 1).postId();
+                while (end > 0 && page.get(end - 1).postId().equals(tailPostId)) {
+                    end--;
+                }
+                if (end == 0) {
+                    end = page.size();
+                }
+            }
+
+            int start = 0;
+            while (start < end) {
+                Long postId = page.get(start).postId();
+                int size = 0;
+                int i = start;
+                for (; i < end && page.get(i).postId().equals(postId); i++) {
+                    if (size == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, size * 2);
+                    }
+                    buffer[size++] = page.get(i).tagId();
+                }
+                target.addPost(distinct(buffer, size), 1);
+                posts++;
+                start = i;
+            }
+
+            if (lastPage) {
+                return posts;
+            }
+            afterPostId = page.get(end - 1).postId();
+        }
+    }
+
+    private void update(List<PostChange> postChanges) {
+        lock.writeLock().lock();
+        try {
+            // 새 목록을 먼저 더해야 그대로 남는 쌍이 지워졌다 다시 생기지 않음
+            for (PostChange postChange : postChanges) {
+                counts.addPost(postChange.added(), 1);
+            }
+            for (PostChange postChange : postChanges) {
+                counts.addPost(postChange.removed(), -1);
+            }
+            changes++;
+            if (pendingChanges != null) {
+                pendingChanges.add(new PendingChange(changes, postChanges));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long currentChange() {
+        lock.readLock().lock();
+        try {
+            return changes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long pairCount() {
+        lock.readLock().lock();
+        try {
+            return counts.pairs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void move(Path temp) throws IOException {
+        try {
+            Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static long[] distinct(Collection<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return new long[0];
+        }
+        long[] values = new long[tagIds.size()];
+        int size = 0;
+        for (Long tagId : tagIds) {
+            if (tagId != null) {
+                values[size++] = tagId;
+            }
+        }
+        return distinct(values, size);
+    }
+
+    // 정렬 후 중복 제거 (같은 게시글에 같은 태그가 두 번 붙어 있어도 한 번으로)
+    private static long[] distinct(long[] values, int size) {
+        long[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return unique == sorted.length ? sorted : Arrays.copyOf(sorted, unique);
+    }
+
+    // 게시글 하나의 태그 변경 (태그 id는 정렬/중복 제거된 상태)
+    private record PostChange(long postId, long[] removed, long[] added) {
+    }
+
+    // 재집계 중에 반영된 변경과 그 변경 번호
+    private record PendingChange(long change, List<PostChange> postChanges) {
+    }
+
+    // 재집계가 읽은 페이지별 (이 게시글 id 다음부터 조회, 조회 직전의 변경 번호)
+    // 페이지는 게시글 id 순이므로 게시글을 읽은 페이지는 시작 id가 그 게시글보다 작은 마지막 페이지
+    private static final class ScanPages {
+
+        private long[] afterPostIds = new long[16];
+        private long[] changesBeforeQuery = new long[16];
+        private int size;
+
+        private void add(long afterPostId, long change) {
+            if (size == afterPostIds.length) {
+                afterPostIds = Arrays.copyOf(afterPostIds, size * 2);
+                changesBeforeQuery = Arrays.copyOf(changesBeforeQuery, size * 2);
+            }
+            afterPostIds[size] = afterPostId;
+            changesBeforeQuery[size++] = change;
+        }
+
+        private long changesBeforeQuery(long postId) {
+            int low = 0;
+            int high = size - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (afterPostIds[mid] < postId) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return changesBeforeQuery[low];
+        }
+    }
+
+    // 집계 본체 (동기화하지 않음 -> 인덱스의 lock 아래에서 사용)
+    private static final class Counts {
+
+        // 태그 id -> 태그가 붙은 게시글 수
+        private final LongIntHashMap postsByTag;
+        // 태그 id -> (함께 붙은 태그 id -> 함께 붙은 게시글 수)
+        private final LongObjectHashMap<LongIntHashMap> neighbors;
+        // a < b 기준 서로 다른 쌍 수
+        private long pairs;
+
+        private Counts(int expectedTags) {
+            this.postsByTag = new LongIntHashMap(expectedTags);
+            this.neighbors = new LongObjectHashMap<>(expectedTags);
+        }
+
+        // 게시글 하나의 태그 목록(중복 없음)을 delta만큼 반영
+        private void addPost(long[] tagIds, int delta) {
+            for (int i = 0; i < tagIds.length; i++) {
+                if (postsByTag.addTo(tagIds[i], delta) <= 0) {
+                    postsByTag.remove(tagIds[i]);
+                }
+                for (int j = i + 1; j < tagIds.length; j++) {
+                    addPair(tagIds[i], tagIds[j], delta);
+                }
+            }
+        }
+
+        private void addPair(long a, long b, int delta) {
+            int after = addDirected(a, b, delta);
+            addDirected(b, a, delta);
+            int before = after - delta;
+            if (before <= 0 && after > 0) {
+                pairs++;
+            } else if (before > 0 && after <= 0) {
+                pairs--;
+            }
+        }
+
+        private int addDirected(long from, long to, int delta) {
+            LongIntHashMap adjacent = delta > 0
+                    ? neighbors.computeIfAbsent(from, key -> new LongIntHashMap())
+                    : neighbors.get(from);
+            if (adjacent == null) {
+                return delta;
+            }
+            int count = adjacent.addTo(to, delta);
+            if (count <= 0) {
+                adjacent.remove(to);
+                if (adjacent.isEmpty()) {
+                    neighbors.remove(from);
+                }
+            }
+            return count;
+        }
+
+        private List<RelatedTag> topK(long tagId, int limit) {
+            LongIntHashMap adjacent = neighbors.get(tagId);
+            if (adjacent == null) {
+                return List.of();
+            }
+            TopK top = new TopK(Math.min(limit, adjacent.size()));
+            adjacent.forEach(top::offer);
+
+            int tagPosts = postsByTag.get(tagId);
+            int size = top.sortDescending();
+            List<RelatedTag> related = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                long count = top.counts[i];
+                long union = (long) tagPosts + postsByTag.get(top.ids[i]) - count;
+                related.add(new RelatedTag(top.ids[i], count, union > 0 ? (double) count / union : 0));
+            }
+            return related;
+        }
+
+        private Checkpoint copy() {
+            long[] tagIds = new long[postsByTag.size()];
+            int[] tagPosts = new int[tagIds.length];
+            int[] cursor = new int[1];
+            postsByTag.forEach((tagId, posts) -> {
+                tagIds[cursor[0]] = tagId;
+                tagPosts[cursor[0]++] = posts;
+            });
+
+            long[] first = new long[Math.toIntExact(pairs)];
+            long[] second = new long[first.length];
+            int[] pairCounts = new int[first.length];
+            cursor[0] = 0;
+            neighbors.forEach((a, adjacent) -> adjacent.forEach((b, count) -> {
+                if (a < b) {
+                    first[cursor[0]] = a;
+                    second[cursor[0]] = b;
+                    pairCounts[cursor[0]++] = count;
+                }
+            }));
+            return new Checkpoint(tagIds, tagPosts, first, second, pairCounts);
+        }
+    }
+
+    // 함께 붙은 수 상위 k개 (최소 힙, 루트가 가장 약한 후보)
+    private static final class TopK {
+
+        private final long[] ids;
+        private final int[] counts;
+        private int size;
+
+        private TopK(int capacity) {
+            this.ids = new long[capacity];
+            this.counts = new int[capacity];
+        }
+
+        private void offer(long id, int count) {
+            if (ids.length == 0) {
+                return;
+            }
+            if (size < ids.length) {
+                ids[size] = id;
+                counts[size] = count;
+                siftUp(size++);
+            } else if (weaker(counts[0], ids[0], count, id)) {
+                ids[0] = id;
+                counts[0] = count;
+                siftDown(0, size);
+            }
+        }
+
+        // 힙 정렬 - 가장 약한 항목을 차례로 뒤로 보내서 0번이 가장 강한 순서가 됨, 항목 수 반환
+        private int sortDescending() {
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+            return size;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!weaker(counts[index], ids[index], counts[parent], ids[parent])) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index, int end) {
+            while (true) {
+                int child = index * 2 + 1;
+                if (child >= end) {
+                    return;
+                }
+                if (child + 1 < end && weaker(counts[child + 1], ids[child + 1], counts[child], ids[child])) {
+                    child++;
+                }
+                if (!weaker(counts[child], ids[child], counts[index], ids[index])) {
+                    return;
+                }
+                swap(index, child);
+                index = child;
+            }
+        }
+
+        private void swap(int i, int j) {
+            long id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+            int count = counts[i];
+            counts[i] = counts[j];
+            counts[j] = count;
+        }
+
+        // 함께 붙은 수가 적을수록, 같으면 id가 클수록 약함
+        private static boolean weaker(int count, long id, int otherCount, long otherId) {
+            return count < otherCount || (count == otherCount && id > otherId);
+        }
+    }
+
+    private record Checkpoint(long[] tagIds, int[] tagPosts, long[] first, long[] second, int[] pairCounts) {
+
+        private void writeTo(DataOutputStream out, long rebuiltAtMillis) throws IOException {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeInt(CHECKPOINT_VERSION);
+            out.writeLong(rebuiltAtMillis);
+            out.writeInt(tagIds.length);
+            for (int i = 0; i < tagIds.length; i++) {
+                out.writeLong(tagIds[i]);
+                out.writeInt(tagPosts[i]);
+            }
+            out.writeInt(pairCounts.length);
+            for (int i = 0; i < pairCounts.length; i++) {
+                out.writeLong(first[i]);
+                out.writeLong(second[i]);
+                out.writeInt(pairCounts[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.likelion.basecode.tag.application;
+
+import com.likelion.basecode.common.transaction.TransactionHooks;
+import com.likelion.basecode.tag.domain.Tag;
+import com.likelion.basecode.tag.domain.repository.TagChange;
+import com.likelion.basecode.tag.domain.repository.TagChangeLogRepository;
+import com.likelion.basecode.tag.domain.repository.TagRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 노드별 태그 이름 <-> id 캐시 (near-cache)
+// - 조회: 캐시에 있으면 DB를 거치지 않고, 없을 때만 findByName/findById 한 번 후 저장
+// - 무효화: 태그를 수정/삭제/병합하는 트랜잭션이 tag_change_log에 한 행을 남기고,
+//   모든 노드가 poll-interval-ms마다 마지막으로 반영한 change_id(high-water mark) 이후 행을 읽어서 해당 태그를 지움
+// - AUTO_INCREMENT 값은 커밋 순서와 다를 수 있으므로 settle-seconds가 지나지 않은 행은 mark를 넘기지 않고 다음 폴링에 다시 반영
+//   (replica에서 읽어 캐시에 넣은 이전 값도 이때 다시 지워지므로 settle-seconds는 replica 허용 지연보다 길게)
+// - 폴링이 max-staleness-ms 넘게 실패하면 캐시를 비우고 DB로 바로 조회
+// 다른 노드의 변경이 반영되기까지 최대 poll-interval-ms 정도 이전 값이 보일 수 있음
+@Slf4j
+@Component
+public class TagNameCache {
+
+    private final TagRepository tagRepository;
+    private final TagChangeLogRepository tagChangeLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TagAutocompleteIndex tagAutocompleteIndex;
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long settleSeconds;
+    private final long maxStalenessNanos;
+    private final int pollBatchSize;
+    private final long retentionHours;
+
+    private final ConcurrentMap<String, Long> idsByName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, String> namesById = new ConcurrentHashMap<>();
+    // 무효화를 반영할 때마다 증가 -> DB 조회 도중 무효화가 끼어들면 그 조회 결과는 캐시에 넣지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    // 아래 두 값은 폴링 스레드에서만 변경 (highWaterMark < 0 이면 아직 동기화 전)
+    private volatile long highWaterMark = -1;
+    private volatile long lastSyncedNanos;
+
+    public TagNameCache(TagRepository tagRepository,
+                        TagChangeLogRepository tagChangeLogRepository,
+                        TransactionTemplate transactionTemplate,
+                        TagAutocompleteIndex tagAutocompleteIndex,
+                        @Value("${tag.cache.enabled:true}") boolean enabled,
+                        @Value("${tag.cache.max-entries:100000}") int maxEntries,
+                        @Value("${tag.cache.settle-seconds:10}") long settleSeconds,
+                        @Value("${tag.cache.max-staleness-ms:10000}") long maxStalenessMs,
+                        @Value("${tag.cache.poll-batch-size:500}") int pollBatchSize,
+                        @Value("${tag.cache.retention-hours:24}") long retentionHours,
+                        MeterRegistry meterRegistry) {
+        this.tagRepository = tagRepository;
+        this.tagChangeLogRepository = tagChangeLogRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.tagAutocompleteIndex = tagAutocompleteIndex;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.settleSeconds = settleSeconds;
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMs);
+        this.pollBatchSize = pollBatchSize;
+        this.retentionHours = retentionHours;
+
+        Gauge.builder("tag.cache.size", namesById, ConcurrentMap::size)
+                .description("노드 태그 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("tag.cache.high-water-mark", this, cache -> cache.highWaterMark)
+                .description("마지막으로 반영한 tag_change_log.change_id")
+                .register(meterRegistry);
+        this.hits = Counter.builder("tag.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("tag.cache.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    // 이름으로 태그 id 조회 (없으면 empty, 없는 이름은 캐시하지 않음)
+    public Optional<Long> findIdByName(String name) {
+        if (!usable()) {
+            return tagRepository.findByName(name).map(Tag::getId);
+        }
+        Long cached = idsByName.get(name);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        long epoch = invalidations.get();
+        Optional<Tag> tag = tagRepository.findByName(name);
+        tag.ifPresent(found -> put(found.getId(), found.getName(), epoch));
+        return tag.map(Tag::getId);
+    }
+
+    // id로 태그 이름 조회
+    public Optional<String> findNameById(Long tagId) {
+        if (!usable()) {
+            return tagRepository.findById(tagId).map(Tag::getName);
+        }
+        String cached = namesById.get(tagId);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        long epoch = invalidations.get();
+        Optional<Tag> tag = tagRepository.findById(tagId);
+        tag.ifPresent(found -> put(found.getId(), found.getName(), epoch));
+        return tag.map(Tag::getName);
+    }
+
+    // 태그 변경 기록 - 태그를 수정/삭제하는 트랜잭션 안에서 호출
+    // 다른 노드는 폴링으로, 이 노드는 커밋 직후 바로 무효화 (자동완성 인덱스 포함)
+    public void recordChange(Long tagId, String newName) {
+        tagChangeLogRepository.append(tagId, newName);
+        TransactionHooks.afterCommit(() -> {
+            invalidate(tagId, newName);
+            tagAutocompleteIndex.apply(tagId, newName);
+        });
+    }
+
+    // 캐시에서 얻은 id가 DB에 없거나 다른 이름인 것을 쓰는 쪽에서 확인했을 때 (변경 기록이 아직 폴링되기 전) 바로 지움
+    public void evict(Long tagId, String name) {
+        invalidate(tagId, name);
+    }
+
+    // 기동 시 현재 변경 기록 위치부터 따라가기 시작 (캐시는 비어 있으므로 이전 기록은 반영할 필요 없음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            sync();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tag.cache.poll-interval-ms:1000}",
+            initialDelayString = "${tag.cache.poll-interval-ms:1000}")
+    public synchronized void sync() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (highWaterMark < 0) {
+                    highWaterMark = settledMark(tagChangeLogRepository.findMaxChangeId(), 0);
+                } else {
+                    applyChanges();
+                }
+            });
+            lastSyncedNanos = System.nanoTime();
+        } catch (RuntimeException e) {
+            log.warn("태그 캐시 변경 기록 조회 실패 (mark = {})", highWaterMark, e);
+            if (highWaterMark >= 0 && System.nanoTime() - lastSyncedNanos > maxStalenessNanos) {
+                // 무효화를 놓쳤을 수 있으므로 전부 버림 -> 복구되면 mark 이후 기록만 따라가면 됨
+                invalidateAll();
+            }
+        }
+    }
+
+    // 보관 기간이 지난 변경 기록 삭제 (여러 노드가 동시에 실행해도 무방)
+    @Scheduled(fixedDelayString = "${tag.cache.purge-interval-ms:3600000}",
+            initialDelayString = "${tag.cache.purge-interval-ms:3600000}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        Integer deleted = transactionTemplate.execute(status ->
+                tagChangeLogRepository.deleteChangedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        log.debug("태그 변경 기록 {}건 삭제", deleted);
+    }
+
+    private void applyChanges() {
+        List<TagChange> changes;
+        long from = highWaterMark;
+        do {
+            changes = tagChangeLogRepository.findChangesAfter(from, PageRequest.of(0, pollBatchSize));
+            for (TagChange change : changes) {
+                invalidate(change.tagId(), change.tagName());
+                // 자동완성 인덱스도 같은 기록으로 이름 변경/삭제 반영 (이미 반영된 변경이면 무시됨)
+                tagAutocompleteIndex.apply(change.tagId(), change.tagName());
+                from = change.changeId();
+            }
+        } while (changes.size() == pollBatchSize);
+
+        highWaterMark = Math.max(highWaterMark, settledMark(from, highWaterMark));
+    }
+
+    // upTo까지 읽었을 때 다음 폴링부터 건너뛰어도 되는 위치 (settle-seconds가 지나지 않은 기록 직전까지)
+    private long settledMark(long upTo, long after) {
+        Long firstUnsettled = tagChangeLogRepository.findFirstUnsettledChangeId(after, settleSeconds);
+        return firstUnsettled == null ? upTo : Math.min(upTo, firstUnsettled - 1);
+    }
+
+    private boolean usable() {
+        return enabled && highWaterMark >= 0 && System.nanoTime() - lastSyncedNanos <= maxStalenessNanos;
+    }
+
+    // epoch 이후 무효화가 없었을 때만 저장, 저장 직후 다시 확인해서 그 사이 무효화가 있었으면 되돌림
+    private void put(Long tagId, String name, long epoch) {
+        if (namesById.size() >= maxEntries || invalidations.get() != epoch) {
+            return;
+        }
+        namesById.put(tagId, name);
+        idsByName.put(name, tagId);
+        if (invalidations.get() != epoch) {
+            namesById.remove(tagId, name);
+            idsByName.remove(name, tagId);
+        }
+    }
+
+    // 태그 id의 캐시 항목과 새 이름으로 캐시된 다른 항목을 지움
+    private void invalidate(Long tagId, String newName) {
+        invalidations.incrementAndGet();
+        String oldName = namesById.remove(tagId);
+        if (oldName != null) {
+            idsByName.remove(oldName, tagId);
+        }
+        if (newName != null) {
+            Long other = idsByName.remove(newName);
+            if (other != null) {
+                namesById.remove(other, newName);
+            }
+        }
+    }
+
+    private void invalidateAll() {
+        invalidations.incrementAndGet();
+        namesById.clear();
+        idsByName.clear();
+    }
+}
@@ -0,0 +1,102 @@
+package com.likelion.basecode.tag.application;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+// 태그 자동완성용 검색 키
+// - key: 한글 음절을 호환 자모로 풀어 쓴 문자열 ("한국" -> "ㅎㅏㄴㄱㅜㄱ")
+//   입력 중인 글자("하", "한", "학", "한ㄱ")도 풀어 쓰면 완성된 이름의 접두사가 됨
+//   겹받침/이중모음도 낱자로 나눔 ("닭" -> "ㄷㅏㄹㄱ", "과" -> "ㄱㅗㅏ")
+// - initials: 음절마다 초성만 ("한국" -> "ㅎㄱ"), 자음만 입력한 초성 검색용
+// 한글 외 문자는 소문자로 그대로 두고, 공백과 '#'은 빼고 비교
+final class TagSearchKeys {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+            "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환 자모 영역의 겹자음/이중모음 -> 낱자 (검색어에 단독으로 들어온 경우)
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private TagSearchKeys() {
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isWhitespace(c) && c != '#') {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    // normalize된 문자열의 자모 키
+    static String key(String normalized) {
+        StringBuilder builder = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BASE;
+                builder.append(CHO.charAt(offset / (JUNG_COUNT * JONG_COUNT)))
+                        .append(JUNG[offset % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT])
+                        .append(JONG[offset % JONG_COUNT]);
+            } else {
+                int compound = COMPOUND_JAMO.indexOf(c);
+                if (compound >= 0) {
+                    builder.append(COMPOUND_SPLIT[compound]);
+                } else {
+                    builder.append(c);
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    // normalize된 문자열의 초성 키
+    static String initials(String normalized) {
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            builder.append(isSyllable(c) ? CHO.charAt((c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)) : c);
+        }
+        return builder.toString();
+    }
+
+    // 자음만으로 된 검색어인지 (초성 검색)
+    static boolean isInitialsOnly(String normalized) {
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < normalized.length(); i++) {
+            if (CHO.indexOf(normalized.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+}
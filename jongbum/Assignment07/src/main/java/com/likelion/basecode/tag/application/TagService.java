@@ -1,64 +1,318 @@
 package com.likelion.basecode.tag.application;
 
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.post.domain.repository.PostRepository;
+import com.likelion.basecode.posttag.domain.repository.PostTagRef;
+import com.likelion.basecode.posttag.domain.repository.PostTagRepository;
+import com.likelion.basecode.tag.api.dto.request.TagMergeRequestDto;
 import com.likelion.basecode.tag.api.dto.request.TagSaveRequestDto;
 import com.likelion.basecode.tag.api.dto.request.TagUpdateRequestDto;
+import com.likelion.basecode.tag.api.dto.response.RelatedTagListResponseDto;
+import com.likelion.basecode.tag.api.dto.response.RelatedTagResponseDto;
 import com.likelion.basecode.tag.api.dto.response.TagInfoResponseDto;
 import com.likelion.basecode.tag.api.dto.response.TagListResponseDto;
+import com.likelion.basecode.tag.api.dto.response.TagSuggestionListResponseDto;
 import com.likelion.basecode.tag.domain.Tag;
 import com.likelion.basecode.tag.domain.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TagService {
 
+    private static final int MAX_NAME_LENGTH = 255;
+
     private final TagRepository tagRepository;
+    private final PostTagRepository postTagRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TagNameCache tagNameCache;
+    private final TagAutocompleteIndex tagAutocompleteIndex;
+    private final TagCooccurrenceIndex tagCooccurrenceIndex;
+
+    // 태그 삭제/병합 시 한 트랜잭션에서 처리할 게시글 수
+    @Value("${tag.bulk.chunk-size:1000}")
+    private int chunkSize;
 
-    // 태그 저장
+    // 자동완성 한 번에 돌려주는 최대 개수
+    @Value("${tag.autocomplete.max-limit:20}")
+    private int maxSuggestions;
+
+    // 관련 태그 한 번에 돌려주는 최대 개수
+    @Value("${tag.related.max-limit:20}")
+    private int maxRelated;
+
+    // 태그 저장 (같은 이름의 태그가 있으면 409, 동시에 같은 이름으로 만들면 UNIQUE 인덱스 위반도 409)
     @Transactional
-    public void createTag(TagSaveRequestDto tagSaveRequestDto){
+    public TagInfoResponseDto createTag(TagSaveRequestDto tagSaveRequestDto){
+        validateNewName(tagSaveRequestDto.name(), null);
         Tag tag = Tag.builder()
                 .name(tagSaveRequestDto.name())
                 .build();
-        tagRepository.save(tag);
+        try {
+            tagRepository.save(tag);
+        } catch (DataIntegrityViolationException e) {
+            throw tagNameDuplicate(tagSaveRequestDto.name());
+        }
+        tagAutocompleteIndex.add(tag.getId(), tag.getName());
+        return TagInfoResponseDto.from(tag);
     }
 
     // 태그 전체 조회
     public TagListResponseDto getAllTags() {
-        List<Tag> tags = tagRepository.findAll();
-        return TagListResponseDto.from(
-                tags.stream()
-                        .map(TagInfoResponseDto::from)
-                        .collect(Collectors.toList())
-        );
+        return TagListResponseDto.from(tagRepository.findAllInfo());
     }
 
-    // 태그 단건 조회
+    // 태그 단건 조회 (노드 캐시에 있으면 DB 조회 없음)
     public TagInfoResponseDto getTagById(Long tagId) {
-        Tag tag = tagRepository.findById(tagId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 태그가 없습니다. id=" + tagId));
-        return TagInfoResponseDto.from(tag);
+        String name = tagNameCache.findNameById(tagId)
+                .orElseThrow(() -> tagNotFound(tagId));
+        return TagInfoResponseDto.builder()
+                .id(tagId)
+                .name(name)
+                .build();
     }
 
-    // 태그 수정
-    @Transactional
+    // 태그 수정 (다른 태그와 같은 이름으로는 바꿀 수 없음)
+    // 이름을 바꾼 뒤 태그가 붙은 게시글 version을 chunkSize개씩 증가 -> 게시글 목록 ETag가 새 이름을 반영
+    // (version을 먼저 올리면 그 사이 조회가 이전 이름으로 새 ETag를 받아 갈 수 있으므로 이름 변경 커밋 후에)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void tagUpdate(Long tagId, TagUpdateRequestDto tagUpdateRequestDto) {
-        Tag tag = tagRepository.findById(tagId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 태그가 없습니다. id=" + tagId));
-        tag.update(tagUpdateRequestDto);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Tag tag = tagRepository.findById(tagId)
+                        .orElseThrow(() -> tagNotFound(tagId));
+                validateNewName(tagUpdateRequestDto.name(), tagId);
+                tag.update(tagUpdateRequestDto);
+                tagNameCache.recordChange(tagId, tag.getName());
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 검사와 커밋 사이에 다른 요청이 같은 이름을 쓴 경우 (커밋 시 UNIQUE 인덱스 위반)
+            throw tagNameDuplicate(tagUpdateRequestDto.name());
+        }
+
+        long affectedPosts = 0;
+        long afterPostId = 0;
+        List<Long> postIds;
+        do {
+            long from = afterPostId;
+            postIds = transactionTemplate.execute(status -> touchChunk(tagId, from));
+            if (postIds == null || postIds.isEmpty()) {
+                break;
+            }
+            affectedPosts += postIds.size();
+            afterPostId = postIds.get(postIds.size() - 1);
+        } while (postIds.size() == chunkSize);
+        log.info("태그 이름 변경 완료: tagId = {}, 게시글 {}개 version 증가", tagId, affectedPosts);
     }
 
-    // 태그 삭제
-    @Transactional
+    // 태그 삭제 - post_tag를 게시글 chunkSize개씩 나눠서 삭제한 뒤 태그 행 삭제
+    // postTags 컬렉션을 로딩하지 않고, 덩어리마다 별도 트랜잭션이라 잠금을 오래 잡지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void tagDelete(Long tagId) {
-        Tag tag = tagRepository.findById(tagId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 태그가 없습니다. id=" + tagId));
-        tag.getPostTags().clear();
-        tagRepository.delete(tag);
+        if (!tagRepository.existsById(tagId)) {
+            throw tagNotFound(tagId);
+        }
+
+        List<Long> tagIds = List.of(tagId);
+        long affectedPosts = 0;
+        int processed;
+        while ((processed = inTransaction(() -> detachChunk(tagIds))) == chunkSize) {
+            affectedPosts += processed;
+        }
+        affectedPosts += processed;
+
+        // 마지막 덩어리 이후에 새로 붙은 연결까지 같은 트랜잭션에서 정리하고 태그 삭제
+        affectedPosts += inTransaction(() -> {
+            int remaining = drain(() -> detachChunk(tagIds));
+            tagRepository.deleteAllByIds(tagIds);
+            tagNameCache.recordChange(tagId, null);
+            return remaining;
+        });
+        log.info("태그 삭제 완료: tagId = {}, 게시글 {}개에서 제거", tagId, affectedPosts);
+    }
+
+    // 태그 병합 - source 태그의 post_tag 행을 target 태그로 옮기고 source 태그 삭제
+    // 게시글에 이미 target 태그가 있거나 source 태그가 여러 개 붙어 있으면 한 행만 남김
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void tagMerge(TagMergeRequestDto tagMergeRequestDto) {
+        Long targetTagId = tagMergeRequestDto.targetTagId();
+        Set<Long> sourceTagIds = new LinkedHashSet<>(tagMergeRequestDto.sourceTagIds() == null
+                ? List.of() : tagMergeRequestDto.sourceTagIds());
+        if (targetTagId == null || sourceTagIds.isEmpty() || sourceTagIds.contains(targetTagId)) {
+            throw new BusinessException(ErrorCode.TAG_MERGE_INVALID,
+                    ErrorCode.TAG_MERGE_INVALID.getMessage() + "target = " + targetTagId + ", sources = " + sourceTagIds);
+        }
+
+        List<Long> missing = new ArrayList<>(sourceTagIds);
+        missing.add(targetTagId);
+        missing.removeAll(tagRepository.findAllById(missing).stream().map(Tag::getId).toList());
+        if (!missing.isEmpty()) {
+            throw new BusinessException(ErrorCode.TAG_NOT_FOUND_EXCEPTION,
+                    ErrorCode.TAG_NOT_FOUND_EXCEPTION.getMessage() + missing);
+        }
+
+        long affectedPosts = 0;
+        int processed;
+        while ((processed = inTransaction(() -> mergeChunk(sourceTagIds, targetTagId))) == chunkSize) {
+            affectedPosts += processed;
+        }
+        affectedPosts += processed;
+
+        affectedPosts += inTransaction(() -> {
+            int remaining = drain(() -> mergeChunk(sourceTagIds, targetTagId));
+            tagRepository.deleteAllByIds(sourceTagIds);
+            sourceTagIds.forEach(sourceTagId -> tagNameCache.recordChange(sourceTagId, null));
+            return remaining;
+        });
+        log.info("태그 병합 완료: {} -> {}, 게시글 {}개", sourceTagIds, targetTagId, affectedPosts);
+    }
+
+    // 태그 자동완성 - 메모리 인덱스에서 사용 횟수 순으로 (DB 조회 없음)
+    public TagSuggestionListResponseDto autocomplete(String prefix, int limit) {
+        return TagSuggestionListResponseDto.from(
+                tagAutocompleteIndex.suggest(prefix, Math.min(Math.max(limit, 1), maxSuggestions)));
+    }
+
+    // 관련 태그 - 함께 붙은 게시글이 많은 순 (집계는 메모리, 이름은 노드 캐시에서)
+    // 집계에 남아 있지만 이미 삭제된 태그(다른 노드에서 삭제 후 재집계 전)는 빼고 돌려줌
+    public RelatedTagListResponseDto relatedTags(Long tagId, int limit) {
+        String name = tagNameCache.findNameById(tagId)
+                .orElseThrow(() -> tagNotFound(tagId));
+        List<RelatedTagResponseDto> related = new ArrayList<>();
+        for (RelatedTag relatedTag : tagCooccurrenceIndex.related(tagId, Math.min(Math.max(limit, 1), maxRelated))) {
+            tagNameCache.findNameById(relatedTag.tagId())
+                    .ifPresent(relatedName -> related.add(RelatedTagResponseDto.from(relatedTag, relatedName)));
+        }
+        return RelatedTagListResponseDto.builder()
+                .id(tagId)
+                .name(name)
+                .tags(related)
+                .build();
+    }
+
+    // 이름 검사 - 비어 있지 않고, excludeTagId 외의 태그와 겹치지 않아야 함
+    private void validateNewName(String name, Long excludeTagId) {
+        if (name == null || name.isBlank() || name.length() > MAX_NAME_LENGTH) {
+            throw new BusinessException(ErrorCode.TAG_NAME_INVALID, ErrorCode.TAG_NAME_INVALID.getMessage() + name);
+        }
+        tagNameCache.findIdByName(name)
+                .filter(existingId -> !existingId.equals(excludeTagId))
+                .ifPresent(existingId -> {
+                    throw tagNameDuplicate(name);
+                });
+    }
+
+    private static BusinessException tagNameDuplicate(String name) {
+        return new BusinessException(ErrorCode.TAG_NAME_DUPLICATE, ErrorCode.TAG_NAME_DUPLICATE.getMessage() + name);
+    }
+
+    private static BusinessException tagNotFound(Long tagId) {
+        return new BusinessException(ErrorCode.TAG_NOT_FOUND_EXCEPTION, ErrorCode.TAG_NOT_FOUND_EXCEPTION.getMessage() + tagId);
+    }
+
+    // 태그가 붙은 게시글 중 afterPostId 다음 한 덩어리의 version 증가, 처리한 게시글 id 반환
+    private List<Long> touchChunk(Long tagId, long afterPostId) {
+        List<Long> postIds = postTagRepository.findPostIdsByTagIdAfter(tagId, afterPostId, chunkSize);
+        if (!postIds.isEmpty()) {
+            postRepository.incrementVersions(postIds);
+        }
+        return postIds;
+    }
+
+    // 태그가 붙은 게시글 한 덩어리에서 연결 삭제, 처리한 게시글 수 반환
+    private int detachChunk(Collection<Long> tagIds) {
+        List<Long> postIds = postTagRepository.findPostIdsByTagIds(tagIds, chunkSize);
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<Long>> before = tagIdsByPost(postIds);
+        postTagRepository.deleteByTagIdsAndPostIds(tagIds, postIds);
+        postRepository.incrementVersions(postIds);
+
+        // 동시 출현 집계: 게시글마다 삭제한 태그만 빠진 목록으로 (다시 조회하지 않음)
+        Map<Long, List<Long>> after = new HashMap<>(before.size());
+        before.forEach((postId, tagIdsOfPost) -> after.put(postId,
+                tagIdsOfPost.stream().filter(tagId -> !tagIds.contains(tagId)).toList()));
+        tagCooccurrenceIndex.recordPostTags(before, after);
+        return postIds.size();
+    }
+
+    // source 태그가 붙은 게시글 한 덩어리를 target 태그로 옮김, 처리한 게시글 수 반환
+    private int mergeChunk(Collection<Long> sourceTagIds, Long targetTagId) {
+        List<Long> postIds = postTagRepository.findPostIdsByTagIds(sourceTagIds, chunkSize);
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<Long>> before = tagIdsByPost(postIds);
+
+        // 1. 이미 target 태그가 있는 게시글 -> source 연결은 중복이므로 삭제만
+        List<Long> alreadyTagged = postTagRepository.findPostIdsHavingTag(targetTagId, postIds);
+        if (!alreadyTagged.isEmpty()) {
+            postTagRepository.deleteByTagIdsAndPostIds(sourceTagIds, alreadyTagged);
+        }
+
+        // 2. 나머지 게시글은 가장 먼저 붙은 source 연결 하나를 target으로 바꾸고, 남은 source 연결 삭제
+        List<Long> firstIds = postTagRepository.findFirstIdsPerPost(sourceTagIds, postIds);
+        if (!firstIds.isEmpty()) {
+            postTagRepository.repointToTag(firstIds, targetTagId);
+            postTagRepository.deleteByTagIdsAndPostIds(sourceTagIds, postIds);
+        }
+
+        postRepository.incrementVersions(postIds);
+
+        // 동시 출현 집계: 게시글마다 source 태그를 target 태그로 바꾼 목록 (중복은 집계에서 한 번으로)
+        Map<Long, List<Long>> after = new HashMap<>(before.size());
+        before.forEach((postId, tagIdsOfPost) -> after.put(postId, tagIdsOfPost.stream()
+                .map(tagId -> sourceTagIds.contains(tagId) ? targetTagId : tagId)
+                .toList()));
+        tagCooccurrenceIndex.recordPostTags(before, after);
+        return postIds.size();
+    }
+
+    // 게시글 id -> 태그 id 목록
+    private Map<Long, List<Long>> tagIdsByPost(Collection<Long> postIds) {
+        Map<Long, List<Long>> tagIds = new HashMap<>(postIds.size());
+        for (PostTagRef ref : postTagRepository.findTagRefsByPostIds(postIds)) {
+            tagIds.computeIfAbsent(ref.postId(), key -> new ArrayList<>()).add(ref.tagId());
+        }
+        return tagIds;
+    }
+
+    private int drain(ChunkOperation operation) {
+        int total = 0;
+        int processed;
+        while ((processed = operation.run()) > 0) {
+            total += processed;
+        }
+        return total;
+    }
+
+    private int inTransaction(ChunkOperation operation) {
+        Integer processed = transactionTemplate.execute(status -> operation.run());
+        return processed == null ? 0 : processed;
+    }
+
+    @FunctionalInterface
+    private interface ChunkOperation {
+        int run();
     }
 }
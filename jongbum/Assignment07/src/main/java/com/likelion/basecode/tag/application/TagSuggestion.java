@@ -0,0 +1,9 @@
+package com.likelion.basecode.tag.application;
+
+// 자동완성 결과 한 건
+public record TagSuggestion(
+        Long tagId,
+        String name,
+        long usageCount
+) {
+}
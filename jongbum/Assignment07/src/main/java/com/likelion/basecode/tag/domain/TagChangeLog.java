@@ -0,0 +1,32 @@
+package com.likelion.basecode.tag.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 태그 이름/삭제 변경 기록 - 각 노드의 태그 캐시가 change_id 순으로 읽어서 무효화
+// 행은 TagChangeLogRepository.append로만 추가 (changed_at은 DB 시각)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "tag_change_log")
+public class TagChangeLog {
+
+    @Id
+    @Column(name = "change_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tag_id", nullable = false)
+    private Long tagId;
+
+    // 수정 후 이름 (삭제면 null)
+    @Column(name = "tag_name")
+    private String tagName;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,9 @@
+package com.likelion.basecode.tag.domain.repository;
+
+// 태그 캐시 무효화용 변경 기록 한 건
+public record TagChange(
+        Long changeId,
+        Long tagId,
+        String tagName
+) {
+}
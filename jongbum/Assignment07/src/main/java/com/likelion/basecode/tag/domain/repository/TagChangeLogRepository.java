@@ -0,0 +1,39 @@
+package com.likelion.basecode.tag.domain.repository;
+
+import com.likelion.basecode.tag.domain.TagChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TagChangeLogRepository extends JpaRepository<TagChangeLog, Long> {
+
+    // 변경 기록 추가 - 태그를 바꾸는 트랜잭션 안에서 호출해야 변경과 함께 커밋/롤백됨
+    // 시각은 DB 기준이라 노드 간 시계 차이와 무관
+    @Modifying
+    @Query(value = "INSERT INTO tag_change_log (tag_id, tag_name, changed_at) VALUES (:tagId, :tagName, LOCALTIMESTAMP(6))",
+            nativeQuery = true)
+    int append(@Param("tagId") Long tagId, @Param("tagName") String tagName);
+
+    // afterChangeId 이후의 변경 기록 (change_id 순)
+    @Query("SELECT new com.likelion.basecode.tag.domain.repository.TagChange(c.id, c.tagId, c.tagName) " +
+            "FROM TagChangeLog c WHERE c.id > :afterChangeId ORDER BY c.id")
+    List<TagChange> findChangesAfter(@Param("afterChangeId") long afterChangeId, Pageable pageable);
+
+    @Query(value = "SELECT COALESCE(MAX(change_id), 0) FROM tag_change_log", nativeQuery = true)
+    long findMaxChangeId();
+
+    // afterChangeId 이후 기록 중 아직 settle-seconds가 지나지 않은 가장 작은 change_id (없으면 null)
+    // AUTO_INCREMENT 값은 커밋 순서와 다를 수 있어서, 이 id부터는 다음 폴링에서 다시 읽음
+    @Query(value = "SELECT MIN(change_id) FROM tag_change_log WHERE change_id > :afterChangeId " +
+            "AND changed_at >= TIMESTAMPADD(SECOND, -:settleSeconds, LOCALTIMESTAMP(6))", nativeQuery = true)
+    Long findFirstUnsettledChangeId(@Param("afterChangeId") long afterChangeId, @Param("settleSeconds") long settleSeconds);
+
+    @Modifying
+    @Query("DELETE FROM TagChangeLog c WHERE c.changedAt < :before")
+    int deleteChangedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,10 +1,44 @@
 package com.likelion.basecode.tag.domain.repository;
 
+import com.likelion.basecode.tag.api.dto.response.TagInfoResponseDto;
 import com.likelion.basecode.tag.domain.Tag;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
 
     Optional<Tag> findByName(String name);
+
+    // 이름이 없을 때만 추가, 추가되면 1 (같은 새 이름으로 동시에 저장해도 uk_tag_name 위반 없이 하나만 추가됨)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tag (name) VALUES (:name)", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+
+    // 잠금 읽기 -> 스냅샷이 아닌 최신 커밋 기준이므로 다른 트랜잭션이 방금 추가한 태그도 보임
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT t FROM Tag t WHERE t.name = :name")
+    Optional<Tag> findByNameForShare(@Param("name") String name);
+
+    // 전체 태그 목록 (응답 DTO로 바로 조회, postTags 컬렉션은 건드리지 않음)
+    @Query("SELECT new com.likelion.basecode.tag.api.dto.response.TagInfoResponseDto(t.id, t.name) " +
+            "FROM Tag t ORDER BY t.id")
+    List<TagInfoResponseDto> findAllInfo();
+
+    // 태그별 사용 횟수 (자동완성 인덱스 적재용, postTags 컬렉션은 로딩하지 않음)
+    @Query("SELECT new com.likelion.basecode.tag.domain.repository.TagUsage(t.id, t.name, COUNT(pt.id)) " +
+            "FROM Tag t LEFT JOIN t.postTags pt GROUP BY t.id, t.name")
+    List<TagUsage> findAllUsage();
+
+    // 태그 행만 삭제 (post_tag는 먼저 지워져 있어야 함, postTags 컬렉션은 로딩하지 않음)
+    @Modifying
+    @Query("DELETE FROM Tag t WHERE t.id IN :tagIds")
+    int deleteAllByIds(@Param("tagIds") Collection<Long> tagIds);
 }
@@ -0,0 +1,9 @@
+package com.likelion.basecode.tag.domain.repository;
+
+// 태그와 붙어 있는 게시글 수 (자동완성 순위용)
+public record TagUsage(
+        Long tagId,
+        String name,
+        long usageCount
+) {
+}
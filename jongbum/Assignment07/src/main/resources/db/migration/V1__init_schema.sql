@@ -0,0 +1,54 @@
+-- 기존 ddl-auto: create 로 만들어지던 스키마를 그대로 옮긴 초기 버전
+-- 이후 스키마 변경은 V2__..., V3__... 처럼 새 파일로 추가 (이미 적용된 파일은 수정하지 않음)
+
+CREATE TABLE member
+(
+    member_id BIGINT       NOT NULL AUTO_INCREMENT,
+    name      VARCHAR(255),
+    age       INT          NOT NULL,
+    part      VARCHAR(20),
+    version   BIGINT,
+    PRIMARY KEY (member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE post
+(
+    post_id       BIGINT       NOT NULL AUTO_INCREMENT,
+    title         VARCHAR(255) NOT NULL,
+    contents      VARCHAR(255) NOT NULL,
+    member_id     BIGINT       NOT NULL,
+    image_url     VARCHAR(255),
+    thumbnail_url VARCHAR(255),
+    version       BIGINT,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_post_member FOREIGN KEY (member_id) REFERENCES member (member_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_post_image_url ON post (image_url);
+
+CREATE TABLE tag
+(
+    tag_id BIGINT       NOT NULL AUTO_INCREMENT,
+    name   VARCHAR(255) NOT NULL,
+    PRIMARY KEY (tag_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_tag_name ON tag (name);
+
+CREATE TABLE post_tag
+(
+    post_tag_id BIGINT NOT NULL AUTO_INCREMENT,
+    post_id     BIGINT NOT NULL,
+    tag_id      BIGINT NOT NULL,
+    PRIMARY KEY (post_tag_id),
+    CONSTRAINT fk_post_tag_post FOREIGN KEY (post_id) REFERENCES post (post_id),
+    CONSTRAINT fk_post_tag_tag FOREIGN KEY (tag_id) REFERENCES tag (tag_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE image_object
+(
+    object_key VARCHAR(255) NOT NULL,
+    ref_count  INT          NOT NULL,
+    byte_size  BIGINT       NOT NULL,
+    PRIMARY KEY (object_key)
+) ENGINE = InnoDB;
@@ -0,0 +1,21 @@
+-- 사용자 삭제를 백그라운드 작업으로 분리
+-- member.deleted_at: 삭제 요청 시각 (값이 있으면 조회 대상에서 제외)
+-- member_deletion_job: 사용자별 삭제 진행 상황 (재시작 후에도 이어서 처리)
+
+ALTER TABLE member
+    ADD COLUMN deleted_at DATETIME(6) NULL;
+
+CREATE TABLE member_deletion_job
+(
+    member_id       BIGINT      NOT NULL,
+    status          VARCHAR(20) NOT NULL,
+    deleted_posts   BIGINT      NOT NULL DEFAULT 0,
+    released_images BIGINT      NOT NULL DEFAULT 0,
+    failure_count   INT         NOT NULL DEFAULT 0,
+    last_error      VARCHAR(500),
+    requested_at    DATETIME(6) NOT NULL,
+    updated_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (member_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_member_deletion_job_status ON member_deletion_job (status, requested_at);
@@ -0,0 +1,33 @@
+-- 영화 카탈로그: KOBIS에서 받은 영화 정보와 날짜별 박스오피스 순위를 저장
+-- 한 번 받은 날짜/영화는 재시작 후에도 외부 API 호출 없이 DB에서 조회
+
+CREATE TABLE movie
+(
+    movie_cd      VARCHAR(20)  NOT NULL,
+    movie_nm      VARCHAR(255) NOT NULL,
+    open_dt       VARCHAR(10),
+    rep_nation_nm VARCHAR(100),
+    genre_nm      VARCHAR(255),
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (movie_cd)
+) ENGINE = InnoDB;
+
+-- 순위를 저장한 날짜 (순위가 0건인 날도 구분하기 위해 따로 보관)
+CREATE TABLE box_office_day
+(
+    target_date CHAR(8)     NOT NULL,
+    movie_count INT         NOT NULL,
+    fetched_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (target_date)
+) ENGINE = InnoDB;
+
+CREATE TABLE box_office_ranking
+(
+    target_date CHAR(8)     NOT NULL,
+    rank_no     INT         NOT NULL,
+    movie_cd    VARCHAR(20) NOT NULL,
+    PRIMARY KEY (target_date, rank_no),
+    CONSTRAINT fk_box_office_ranking_day FOREIGN KEY (target_date) REFERENCES box_office_day (target_date)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_box_office_ranking_movie ON box_office_ranking (movie_cd);
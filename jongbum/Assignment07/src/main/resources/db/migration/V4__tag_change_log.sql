@@ -0,0 +1,14 @@
+-- 태그 변경 기록: 노드마다 가진 태그 이름 <-> id 캐시를 무효화하기 위한 로그
+-- 태그 수정/삭제/병합 트랜잭션 안에서 한 행씩 쌓이고, 각 노드가 change_id 기준으로 이어서 읽음
+-- 보관 기간이 지난 행은 주기적으로 삭제
+
+CREATE TABLE tag_change_log
+(
+    change_id  BIGINT       NOT NULL AUTO_INCREMENT,
+    tag_id     BIGINT       NOT NULL,
+    tag_name   VARCHAR(255),
+    changed_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (change_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_tag_change_log_changed_at ON tag_change_log (changed_at);
@@ -0,0 +1,18 @@
+-- Idempotency-Key 처리 결과 (POST /post/save 재시도 시 같은 게시글을 다시 만들지 않도록)
+-- key_hash: SHA-256(범위 + ':' + 키), request_hash: 요청 내용 SHA-256 (같은 키로 다른 요청이 오면 거절)
+-- 응답 본문 대신 만들어진 리소스 id만 보관하고, 재요청 시 그 리소스를 다시 조회해서 응답
+-- expires_at이 지난 행은 주기적으로 삭제
+
+CREATE TABLE idempotency_record
+(
+    key_hash     CHAR(64)    NOT NULL,
+    request_hash CHAR(64)    NOT NULL,
+    status       VARCHAR(20) NOT NULL,
+    owner_token  BIGINT      NOT NULL,
+    resource_id  BIGINT,
+    locked_until DATETIME(6) NOT NULL,
+    expires_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (key_hash)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_idempotency_record_expires_at ON idempotency_record (expires_at);
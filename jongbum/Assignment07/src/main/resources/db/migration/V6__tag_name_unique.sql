@@ -0,0 +1,39 @@
+-- 태그 이름 중복 방지: 동시에 같은 이름으로 생성/수정하면 애플리케이션의 중복 검사만으로는 막을 수 없음
+-- (중복 행이 생기면 findByName이 IncorrectResultSizeDataAccessException으로 실패)
+-- 이미 중복된 이름은 가장 작은 tag_id로 합친 뒤 UNIQUE 인덱스로 교체
+
+-- 1) 중복 태그에 붙은 게시글을 같은 이름의 가장 작은 tag_id로 옮김
+UPDATE post_tag
+SET tag_id = (SELECT MIN(k.tag_id)
+              FROM tag t
+                       JOIN tag k ON k.name = t.name
+              WHERE t.tag_id = post_tag.tag_id)
+WHERE tag_id IN (SELECT t.tag_id
+                 FROM tag t
+                          JOIN tag k ON k.name = t.name AND k.tag_id < t.tag_id);
+
+-- 게시글에 중복 태그가 둘 다 붙어 있었으면 같은 연결이 두 번 생기므로 하나만 남김
+DELETE
+FROM post_tag
+WHERE post_tag_id IN (SELECT dup.post_tag_id
+                      FROM (SELECT DISTINCT p.post_tag_id
+                            FROM post_tag p
+                                     JOIN post_tag k ON k.post_id = p.post_id AND k.tag_id = p.tag_id
+                                AND k.post_tag_id < p.post_tag_id) dup);
+
+-- 2) 노드 캐시/자동완성 인덱스가 지울 수 있도록 삭제할 태그를 변경 기록에 남김 (tag_name NULL = 삭제)
+INSERT INTO tag_change_log (tag_id, tag_name, changed_at)
+SELECT DISTINCT t.tag_id, NULL, LOCALTIMESTAMP(6)
+FROM tag t
+         JOIN tag k ON k.name = t.name AND k.tag_id < t.tag_id;
+
+-- 3) 중복 태그 삭제 (MySQL은 삭제 대상 테이블을 서브쿼리에서 직접 읽을 수 없으므로 파생 테이블로 한 번 감쌈)
+DELETE
+FROM tag
+WHERE tag_id IN (SELECT dup.tag_id
+                 FROM (SELECT DISTINCT t.tag_id
+                       FROM tag t
+                                JOIN tag k ON k.name = t.name AND k.tag_id < t.tag_id) dup);
+
+CREATE UNIQUE INDEX uk_tag_name ON tag (name);
+DROP INDEX idx_tag_name ON tag;
@@ -0,0 +1,96 @@
+package com.likelion.basecode.common.client;
+
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KobisRateLimiterTest {
+
+    @Test
+    void waitsForNextPermitWithinMaxWait() {
+        // 초당 10개, 버스트 2 -> 세 번째 호출은 약 100ms 대기
+        KobisRateLimiter limiter = limiter(10, 2, 500, 100);
+        limiter.acquire();
+        limiter.acquire();
+
+        long started = System.nanoTime();
+        limiter.acquire();
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(waitedMs).isBetween(50L, 400L);
+        assertThat(limiter.remainingQuota()).isEqualTo(97);
+    }
+
+    @Test
+    void rejectsWhenWaitWouldExceedMaxWait() {
+        // 초당 1개, 버스트 1 -> 두 번째 호출은 약 1초를 기다려야 하므로 max-wait 100ms에서 거절
+        KobisRateLimiter limiter = limiter(1, 1, 100, 100);
+        limiter.acquire();
+
+        long started = System.nanoTime();
+        assertThatThrownBy(limiter::acquire)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.MOVIE_API_RATE_LIMITED);
+        // 거절은 기다리지 않고 바로, 거절된 호출은 한도에서 빠지지 않음
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(100);
+        assertThat(limiter.remainingQuota()).isEqualTo(99);
+    }
+
+    @Test
+    void rejectsWhenDailyQuotaIsUsed() {
+        KobisRateLimiter limiter = limiter(100, 10, 500, 2);
+        limiter.acquire();
+        assertThat(limiter.hasQuotaAbove(0)).isTrue();
+        limiter.acquire();
+
+        assertThat(limiter.hasQuotaAbove(0)).isFalse();
+        assertThat(limiter.remainingQuota()).isZero();
+        assertThatThrownBy(limiter::acquire)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.MOVIE_API_QUOTA_EXHAUSTED);
+    }
+
+    @Test
+    void backsOffOnThrottleAndRecoversOnSuccess() {
+        // backoff-factor 0.5, recovery-step 0.5, 최소 0.5
+        KobisRateLimiter limiter = limiter(4, 4, 500, 100);
+
+        limiter.onThrottled("429");
+        assertThat(limiter.currentRate()).isEqualTo(2.0);
+        limiter.onThrottled("429");
+        limiter.onThrottled("429");
+        limiter.onThrottled("429");
+        assertThat(limiter.currentRate()).isEqualTo(0.5);
+
+        limiter.onSuccess();
+        assertThat(limiter.currentRate()).isEqualTo(1.0);
+        for (int i = 0; i < 10; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(limiter.currentRate()).isEqualTo(4.0);
+    }
+
+    @Test
+    void throttleDropsStoredPermits() {
+        // 버스트 5가 쌓여 있어도 429 이후에는 줄어든 속도(초당 0.5개)로 다음 토큰을 기다려야 함 -> max-wait 500ms에서 거절
+        KobisRateLimiter limiter = limiter(1, 5, 500, 100);
+        limiter.onThrottled("503");
+
+        assertThatThrownBy(limiter::acquire)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.MOVIE_API_RATE_LIMITED);
+    }
+
+    private static KobisRateLimiter limiter(double permitsPerSecond, double burst, long maxWaitMs, int dailyQuota) {
+        return new KobisRateLimiter(permitsPerSecond, 0.5, burst, maxWaitMs, dailyQuota, 0.5, 0.5, new SimpleMeterRegistry());
+    }
+}
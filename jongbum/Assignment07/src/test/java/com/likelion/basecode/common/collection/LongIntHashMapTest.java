@@ -0,0 +1,95 @@
+package com.likelion.basecode.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 선형 탐사 + tombstone 없는 삭제(shiftBack)가 배열 끝에서 0번 칸으로 넘어가는 사슬에서도 맞는지 확인
+class LongIntHashMapTest {
+
+    // new LongIntHashMap(4) -> 칸 8개, 6개까지는 rehash 없음
+    private static final int CAPACITY = 8;
+
+    @Test
+    void deleteAndReinsertAcrossWraparound() {
+        assertThat(LongIntHashMap.capacityFor(4)).isEqualTo(CAPACITY);
+        long[] lastSlotKeys = keysWithHome(CAPACITY - 1, 3);
+        long firstSlotKey = keysWithHome(0, 1)[0];
+
+        // 7번 칸에서 시작한 사슬이 7 -> 0 -> 1로 이어지고, 원래 0번 칸 키는 2번으로 밀림
+        LongIntHashMap map = new LongIntHashMap(4);
+        for (int i = 0; i < lastSlotKeys.length; i++) {
+            map.put(lastSlotKeys[i], i + 1);
+        }
+        map.put(firstSlotKey, 100);
+
+        // 사슬 맨 앞(7번 칸)을 지우면 뒤의 항목들이 배열 끝을 넘어 당겨져야 함
+        assertThat(map.remove(lastSlotKeys[0])).isEqualTo(1);
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.containsKey(lastSlotKeys[0])).isFalse();
+        assertThat(map.get(lastSlotKeys[1])).isEqualTo(2);
+        assertThat(map.get(lastSlotKeys[2])).isEqualTo(3);
+        assertThat(map.get(firstSlotKey)).isEqualTo(100);
+
+        // 다시 넣으면 사슬 끝에 붙고 나머지는 그대로
+        map.put(lastSlotKeys[0], 10);
+        assertThat(map.addTo(lastSlotKeys[0], 5)).isEqualTo(15);
+        assertThat(map.remove(firstSlotKey)).isEqualTo(100);
+        assertThat(map.get(lastSlotKeys[0])).isEqualTo(15);
+        assertThat(map.get(lastSlotKeys[1])).isEqualTo(2);
+        assertThat(map.get(lastSlotKeys[2])).isEqualTo(3);
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        Random random = new Random(42);
+        LongIntHashMap map = new LongIntHashMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            long key = 1 + random.nextInt(64);
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    map.put(key, i);
+                    expected.put(key, i);
+                }
+                case 1 -> assertThat(map.addTo(key, 1)).isEqualTo(expected.merge(key, 1, Integer::sum));
+                default -> {
+                    Integer removed = expected.remove(key);
+                    assertThat(map.remove(key)).isEqualTo(removed == null ? 0 : removed);
+                }
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        Map<Long, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void rejectsZeroKey() {
+        LongIntHashMap map = new LongIntHashMap();
+
+        assertThatThrownBy(() -> map.put(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(map.get(0)).isZero();
+        assertThat(map.remove(0)).isZero();
+    }
+
+    // 칸 CAPACITY개일 때 home 칸에 들어가는 키 count개
+    static long[] keysWithHome(int home, int count) {
+        long[] keys = new long[count];
+        int found = 0;
+        for (long key = 1; found < count; key++) {
+            if ((LongHashing.mix(key) & (CAPACITY - 1)) == home) {
+                keys[found++] = key;
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,57 @@
+package com.likelion.basecode.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.likelion.basecode.common.collection.LongIntHashMapTest.keysWithHome;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongObjectHashMapTest {
+
+    @Test
+    void deleteAndReinsertAcrossWraparound() {
+        // new LongObjectHashMap<>(4) -> LongIntHashMap과 같은 칸 8개
+        long[] lastSlotKeys = keysWithHome(7, 3);
+        long firstSlotKey = keysWithHome(0, 1)[0];
+
+        LongObjectHashMap<String> map = new LongObjectHashMap<>(4);
+        for (long key : lastSlotKeys) {
+            map.computeIfAbsent(key, Long::toString);
+        }
+        map.computeIfAbsent(firstSlotKey, key -> "first");
+
+        assertThat(map.remove(lastSlotKeys[0])).isEqualTo(Long.toString(lastSlotKeys[0]));
+        assertThat(map.get(lastSlotKeys[0])).isNull();
+        assertThat(map.get(lastSlotKeys[1])).isEqualTo(Long.toString(lastSlotKeys[1]));
+        assertThat(map.get(lastSlotKeys[2])).isEqualTo(Long.toString(lastSlotKeys[2]));
+        assertThat(map.get(firstSlotKey)).isEqualTo("first");
+
+        // 다시 넣을 때 factory가 호출되고, 이미 있는 키는 기존 값을 그대로 반환
+        assertThat(map.computeIfAbsent(lastSlotKeys[0], key -> "again")).isEqualTo("again");
+        assertThat(map.computeIfAbsent(lastSlotKeys[1], key -> "ignored")).isEqualTo(Long.toString(lastSlotKeys[1]));
+        assertThat(map.remove(firstSlotKey)).isEqualTo("first");
+        assertThat(map.size()).isEqualTo(3);
+
+        Map<Long, String> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertThat(actual).containsOnlyKeys(lastSlotKeys[0], lastSlotKeys[1], lastSlotKeys[2]);
+    }
+
+    @Test
+    void keepsEntriesWhenGrowing() {
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>(4);
+        for (long key = 1; key <= 1000; key++) {
+            map.computeIfAbsent(key, value -> value * 2);
+        }
+        for (long key = 1; key <= 1000; key += 2) {
+            map.remove(key);
+        }
+
+        assertThat(map.size()).isEqualTo(500);
+        for (long key = 1; key <= 1000; key++) {
+            assertThat(map.get(key)).isEqualTo(key % 2 == 0 ? key * 2 : null);
+        }
+    }
+}
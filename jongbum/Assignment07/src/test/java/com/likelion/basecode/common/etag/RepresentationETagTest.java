@@ -0,0 +1,40 @@
+package com.likelion.basecode.common.etag;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepresentationETagTest {
+
+    private static final String ETAG = "\"member-all-3-a-5\"";
+
+    @Test
+    void jsonKeepsETag() {
+        assertThat(eTag(null)).isEqualTo(ETAG);
+        assertThat(eTag("*/*")).isEqualTo(ETAG);
+        assertThat(eTag("application/json")).isEqualTo(ETAG);
+        assertThat(eTag("application/*")).isEqualTo(ETAG);
+        assertThat(eTag("not a media type")).isEqualTo(ETAG);
+    }
+
+    @Test
+    void binaryEncodingsGetOwnETag() {
+        assertThat(eTag("application/cbor")).isEqualTo("\"member-all-3-a-5-cbor\"");
+        assertThat(eTag("application/x-jackson-smile")).isEqualTo("\"member-all-3-a-5-smile\"");
+        // 구체적인 타입이 */* 보다 먼저, q가 높은 타입이 먼저
+        assertThat(eTag("*/*, application/cbor")).isEqualTo("\"member-all-3-a-5-cbor\"");
+        assertThat(eTag("application/cbor;q=0.5, application/json")).isEqualTo(ETAG);
+        assertThat(eTag("application/json;q=0.5, application/x-jackson-smile")).isEqualTo("\"member-all-3-a-5-smile\"");
+    }
+
+    private static String eTag(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        return RepresentationETag.of(ETAG, new ServletWebRequest(request));
+    }
+}
@@ -0,0 +1,98 @@
+package com.likelion.basecode.movie.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.basecode.common.error.ErrorCode;
+import com.likelion.basecode.common.exception.BusinessException;
+import com.likelion.basecode.movie.api.dto.response.MovieListResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoxOfficeSnapshotCacheTest {
+
+    private static final MovieCatalogService.FetchResult COMPLETE =
+            new MovieCatalogService.FetchResult(new MovieListResponseDto(List.of()), true);
+    private static final MovieCatalogService.FetchResult INCOMPLETE =
+            new MovieCatalogService.FetchResult(new MovieListResponseDto(List.of()), false);
+
+    @Test
+    void loadsOncePerDate() {
+        BoxOfficeSnapshotCache cache = new BoxOfficeSnapshotCache(new ObjectMapper(), 30_000);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<MovieCatalogService.FetchResult> loader = () -> {
+            calls.incrementAndGet();
+            return COMPLETE;
+        };
+
+        BoxOfficeSnapshot first = cache.get("20261018", loader);
+        assertThat(cache.get("20261018", loader)).isSameAs(first);
+        assertThat(calls).hasValue(1);
+
+        assertThat(cache.get("20261019", loader).targetDate()).isEqualTo("20261019");
+        assertThat(calls).hasValue(2);
+        assertThat(cache.current()).get().extracting(BoxOfficeSnapshot::targetDate).isEqualTo("20261019");
+    }
+
+    @Test
+    void remembersFailedLoadForTheSameDate() {
+        BoxOfficeSnapshotCache cache = new BoxOfficeSnapshotCache(new ObjectMapper(), 30_000);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<MovieCatalogService.FetchResult> failing = () -> {
+            calls.incrementAndGet();
+            throw new ResourceAccessException("Read timed out");
+        };
+
+        assertThatThrownBy(() -> cache.get("20261018", failing)).isInstanceOf(ResourceAccessException.class);
+        // 기억하는 동안에는 loader를 다시 부르지 않고 바로 실패
+        assertThatThrownBy(() -> cache.get("20261018", failing))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.MOVIE_API_UNAVAILABLE);
+        assertThat(calls).hasValue(1);
+
+        // 다른 날짜(대체 데이터)는 영향 없음
+        assertThat(cache.get("20261017", () -> COMPLETE).targetDate()).isEqualTo("20261017");
+    }
+
+    @Test
+    void retriesAfterFailureWindow() {
+        BoxOfficeSnapshotCache cache = new BoxOfficeSnapshotCache(new ObjectMapper(), 0);
+
+        assertThatThrownBy(() -> cache.get("20261018", () -> {
+            throw new ResourceAccessException("Read timed out");
+        })).isInstanceOf(ResourceAccessException.class);
+
+        assertThat(cache.get("20261018", () -> COMPLETE).targetDate()).isEqualTo("20261018");
+    }
+
+    @Test
+    void reloadsIncompleteResultAfterFailureWindow() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<MovieCatalogService.FetchResult> incomplete = () -> {
+            calls.incrementAndGet();
+            return INCOMPLETE;
+        };
+
+        // 창 안에서는 중간 결과도 재사용
+        BoxOfficeSnapshotCache cached = new BoxOfficeSnapshotCache(new ObjectMapper(), 30_000);
+        assertThat(cached.get("20261018", incomplete).complete()).isFalse();
+        cached.get("20261018", incomplete);
+        assertThat(calls).hasValue(1);
+
+        // 창이 지나면 중간 결과는 다시 로드, 완성된 결과는 계속 사용
+        BoxOfficeSnapshotCache expiring = new BoxOfficeSnapshotCache(new ObjectMapper(), 0);
+        expiring.get("20261018", incomplete);
+        expiring.get("20261018", incomplete);
+        assertThat(calls).hasValue(3);
+
+        BoxOfficeSnapshot complete = expiring.get("20261018", () -> COMPLETE);
+        assertThat(expiring.get("20261018", incomplete)).isSameAs(complete);
+        assertThat(calls).hasValue(3);
+    }
+}
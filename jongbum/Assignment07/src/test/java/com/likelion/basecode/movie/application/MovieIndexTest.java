@@ -0,0 +1,95 @@
+package com.likelion.basecode.movie.application;
+
+import com.likelion.basecode.movie.api.dto.response.MovieResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MovieIndexTest {
+
+    @Test
+    void ranksByScoreThenBoxOfficeOrder() {
+        // 순위 순: 이름 일치(3) < 이름 전체 일치(3 + 2), 장르(2)는 이름보다 낮음
+        MovieIndex index = MovieIndex.build(List.of(
+                movie("1", "범죄도시4", "액션,범죄"),
+                movie("2", "도시", "드라마"),
+                movie("3", "파묘", "미스터리,도시"),
+                movie("4", "서울의 봄", "드라마")));
+
+        assertThat(codes(index.topK(List.of("도시"), 10))).containsExactly("2", "1", "3");
+        assertThat(codes(index.topK(List.of("도시"), 2))).containsExactly("2", "1");
+        // 태그 점수는 더해짐: 범죄도시4 = 도시 3 + 범죄(장르) 2 + 범죄(이름) 3 중 큰 값 3 -> 6
+        assertThat(codes(index.topK(List.of("도시", "범죄"), 10))).containsExactly("1", "2", "3");
+        assertThat(index.topK(List.of("없는태그"), 10)).isEmpty();
+        assertThat(index.topK(List.of("도시"), 0)).isEmpty();
+    }
+
+    @Test
+    void tiesKeepBoxOfficeOrder() {
+        MovieIndex index = MovieIndex.build(List.of(
+                movie("1", "하얼빈", "드라마"),
+                movie("2", "소방관", "드라마"),
+                movie("3", "모아나 2", "애니메이션"),
+                movie("4", "청설", "드라마")));
+
+        assertThat(codes(index.topK(List.of("드라마"), 10))).containsExactly("1", "2", "4");
+        assertThat(codes(index.topK(List.of("드라마"), 2))).containsExactly("1", "2");
+        // 같은 태그를 여러 번 줘도 한 번만 셈 -> 동점 유지
+        assertThat(codes(index.topK(List.of("드라마", "#드라마", "드라마 "), 10))).containsExactly("1", "2", "4");
+    }
+
+    @Test
+    void genreOnlyMatches() {
+        MovieIndex index = MovieIndex.build(List.of(
+                movie("1", "위키드", "뮤지컬, 판타지"),
+                movie("2", "글래디에이터 2", "액션,드라마"),
+                movie("3", "무파사: 라이온 킹", null)));
+
+        assertThat(codes(index.topK(List.of("판타지"), 10))).containsExactly("1");
+        assertThat(codes(index.topK(List.of("액션"), 10))).containsExactly("2");
+        // 장르는 부분 문자열로 색인하지 않음
+        assertThat(index.topK(List.of("판타"), 10)).isEmpty();
+        assertThat(codes(index.topK(List.of("라이온"), 10))).containsExactly("3");
+    }
+
+    @Test
+    void indexesOnlyFirst40CharactersOfName() {
+        String name = "가".repeat(38) + "나다라마바";
+        MovieIndex index = MovieIndex.build(List.of(
+                movie("1", name, null),
+                movie("2", "가나", null)));
+
+        // 앞 40자(가 x 38 + 나다)까지만 색인
+        assertThat(codes(index.topK(List.of("나다"), 10))).containsExactly("1");
+        assertThat(index.topK(List.of("라마"), 10)).isEmpty();
+        assertThat(index.topK(List.of(name), 10)).isEmpty();
+        // 잘린 40자 전체가 이름 전체 일치로 취급됨
+        assertThat(codes(index.topK(List.of(name.substring(0, 40), "가나"), 10))).containsExactly("1", "2");
+    }
+
+    @Test
+    void normalizesTagsAndNames() {
+        MovieIndex index = MovieIndex.build(List.of(
+                movie("1", "Inside Out 2", "애니메이션"),
+                movie("2", Normalizer.normalize("베테랑2", Normalizer.Form.NFD), "액션")));
+
+        // 대소문자, 공백, # 무시
+        assertThat(codes(index.topK(List.of("#insideout"), 10))).containsExactly("1");
+        assertThat(codes(index.topK(List.of("OUT 2"), 10))).containsExactly("1");
+        // 자모가 풀어진(NFD) 이름/태그도 조합형(NFC)과 같은 토큰
+        assertThat(codes(index.topK(List.of("베테랑"), 10))).containsExactly("2");
+        assertThat(codes(index.topK(List.of(Normalizer.normalize("애니메이션", Normalizer.Form.NFD)), 10)))
+                .containsExactly("1");
+    }
+
+    private static MovieResponseDto movie(String movieCd, String movieNm, String genreNm) {
+        return new MovieResponseDto(movieCd, movieNm, "20240101", "한국", genreNm);
+    }
+
+    private static List<String> codes(List<MovieResponseDto> movies) {
+        return movies.stream().map(MovieResponseDto::movieCd).toList();
+    }
+}
@@ -0,0 +1,62 @@
+package com.likelion.basecode.perf;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// KOBIS 박스오피스/영화 상세, 태그 추천 API를 대신하는 RestTemplate 요청 팩토리
+// 네트워크 없이 고정 응답을 돌려주고 호출 수를 셈
+class OutboundStub implements ClientHttpRequestFactory {
+
+    static final int BOX_OFFICE_SIZE = 10;
+    // 태그 추천 API가 돌려주는 태그 (시드 데이터에 있는 태그, 박스오피스 영화명에도 포함됨)
+    static final List<String> RECOMMENDED_TAGS = List.of("tag-000", "tag-001", "tag-002", "tag-003", "tag-004");
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    int calls() {
+        return calls.get();
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        calls.incrementAndGet();
+
+        MockClientHttpRequest request = new MockClientHttpRequest(httpMethod, uri);
+        MockClientHttpResponse response = new MockClientHttpResponse(body(uri).getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        request.setResponse(response);
+        return request;
+    }
+
+    private static String body(URI uri) {
+        String path = uri.getPath();
+        if (path.endsWith("searchDailyBoxOfficeList.json")) {
+            String items = IntStream.range(0, BOX_OFFICE_SIZE)
+                    .mapToObj(i -> String.format("{\"movieCd\":\"2024%04d\",\"movieNm\":\"movie tag-%03d\","
+                            + "\"openDt\":\"2024-01-01\",\"repNationNm\":\"한국\"}", i, i))
+                    .collect(Collectors.joining(","));
+            return "{\"boxOfficeResult\":{\"dailyBoxOfficeList\":[" + items + "]}}";
+        }
+        if (path.endsWith("searchMovieInfo.json")) {
+            return "{\"movieInfoResult\":{\"movieInfo\":{\"genres\":[{\"genreNm\":\"드라마\"},{\"genreNm\":\"액션\"}]}}}";
+        }
+        if (path.endsWith("/recommend")) {
+            return RECOMMENDED_TAGS.stream()
+                    .map(tag -> "\"" + tag + "\"")
+                    .collect(Collectors.joining(",", "{\"tags\":[", "]}"));
+        }
+        throw new IllegalStateException("스텁에 정의되지 않은 외부 호출: " + uri);
+    }
+}
@@ -0,0 +1,153 @@
+package com.likelion.basecode.perf;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 엔드포인트별 SQL 문장 수, 외부 호출 수, 할당 바이트 예산
+// PostService / MemberService / MovieService 변경으로 예산을 넘으면 테스트(빌드)가 실패함
+// 예산을 늘려야 한다면 이유를 함께 남길 것 - 줄어든 경우에는 예산도 같이 줄여서 다시 늘어나지 않게 함
+@Tag("perf")
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false) // SqlStatsFilter 대신 PerfProbe가 직접 집계
+@ActiveProfiles("perf")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PerfBudgetTest {
+
+    private static final long MB = 1024 * 1024;
+
+    // 응답 생성에 필요한 것: ETag 집계 1 + 전체 조회 1
+    private static final PerfProbe.Budget MEMBER_LIST = new PerfProbe.Budget(2, 0, 48 * MB);
+    private static final PerfProbe.Budget NOT_MODIFIED = new PerfProbe.Budget(1, 0, 2 * MB);
+    // ETag 1 + 사용자 존재 확인 1 + 게시글 프로젝션 1 + 태그 이름 IN 조회 1
+    private static final PerfProbe.Budget POST_LIST = new PerfProbe.Budget(4, 0, 32 * MB);
+    // 사용자 1 + 게시글 insert 1 + 태그별 조회/연결 insert 2 x 5 + 태그 포함 재조회 1 (+ 여유 3)
+    private static final PerfProbe.Budget POST_SAVE = new PerfProbe.Budget(16, 1, 24 * MB);
+    // 박스오피스 1 + 영화 상세 10 (캐시 적재 시), 이후에는 외부 호출 없음
+    // 카탈로그 저장: 날짜 확인 1 + 기존 영화 조회 1 + 영화 upsert 10 + 날짜 1 + 순위 삭제 1 + 순위 insert 10
+    private static final PerfProbe.Budget BOX_OFFICE_COLD = new PerfProbe.Budget(
+            4 + 2 * OutboundStub.BOX_OFFICE_SIZE, 1 + OutboundStub.BOX_OFFICE_SIZE, 16 * MB);
+    private static final PerfProbe.Budget BOX_OFFICE_WARM = new PerfProbe.Budget(0, 0, 8 * MB);
+    // 게시글+저장된 태그 1 (태그 추천 API 재호출 없음, 박스오피스는 스냅샷 색인)
+    private static final PerfProbe.Budget RECOMMEND = new PerfProbe.Budget(1, 0, 16 * MB);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    private PerfProbe probe;
+
+    @BeforeAll
+    void setUp() {
+        new PerfDataSeeder(jdbcTemplate).seed();
+
+        OutboundStub outboundStub = new OutboundStub();
+        restTemplate.setRequestFactory(outboundStub);
+        probe = new PerfProbe(outboundStub);
+    }
+
+    @Test
+    void memberList() throws Exception {
+        mockMvc.perform(get("/member/all")).andExpect(status().isOk()); // JIT/직렬화기 초기화분 제외
+
+        PerfProbe.Measurement measurement = probe.measure(() ->
+                mockMvc.perform(get("/member/all")).andExpect(status().isOk()));
+        measurement.assertWithin("GET /member/all", MEMBER_LIST);
+    }
+
+    @Test
+    void memberListNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/member/all"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        PerfProbe.Measurement measurement = probe.measure(() ->
+                mockMvc.perform(get("/member/all").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                        .andExpect(status().isNotModified()));
+        measurement.assertWithin("GET /member/all (304)", NOT_MODIFIED);
+    }
+
+    @Test
+    void postListOfProlificMember() throws Exception {
+        String path = "/post/" + PerfDataSeeder.PROLIFIC_MEMBER_ID;
+        mockMvc.perform(get(path)).andExpect(status().isOk());
+
+        PerfProbe.Measurement measurement = probe.measure(() ->
+                mockMvc.perform(get(path)).andExpect(status().isOk()));
+        measurement.assertWithin("GET /post/{memberId}", POST_LIST);
+    }
+
+    @Test
+    void postListNotModified() throws Exception {
+        String path = "/post/" + PerfDataSeeder.PROLIFIC_MEMBER_ID;
+        String eTag = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        PerfProbe.Measurement measurement = probe.measure(() ->
+                mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                        .andExpect(status().isNotModified()));
+        measurement.assertWithin("GET /post/{memberId} (304)", NOT_MODIFIED);
+    }
+
+    @Test
+    void postSave() throws Exception {
+        mockMvc.perform(postSaveRequest()).andExpect(status().isOk());
+
+        PerfProbe.Measurement measurement = probe.measure(() ->
+                mockMvc.perform(postSaveRequest()).andExpect(status().isOk()));
+        measurement.assertWithin("POST /post/save", POST_SAVE);
+    }
+
+    @Test
+    void dailyBoxOffice() throws Exception {
+        // 다른 테스트가 먼저 캐시를 채웠다면 외부 호출 0
+        PerfProbe.Measurement cold = probe.measure(() ->
+                mockMvc.perform(get("/movies/daily-boxoffice")).andExpect(status().isOk()));
+        cold.assertWithin("GET /movies/daily-boxoffice (cold)", BOX_OFFICE_COLD);
+
+        PerfProbe.Measurement warm = probe.measure(() ->
+                mockMvc.perform(get("/movies/daily-boxoffice")).andExpect(status().isOk()));
+        warm.assertWithin("GET /movies/daily-boxoffice", BOX_OFFICE_WARM);
+    }
+
+    @Test
+    void recommendMovies() throws Exception {
+        mockMvc.perform(get("/movies/recommend/1")).andExpect(status().isOk());
+
+        PerfProbe.Measurement measurement = probe.measure(() ->
+                mockMvc.perform(get("/movies/recommend/1")).andExpect(status().isOk()));
+        measurement.assertWithin("GET /movies/recommend/{postId}", RECOMMEND);
+    }
+
+    // 저장 대상은 게시글 목록 예산을 재는 사용자(1번)와 다른 사용자
+    private static MockMultipartHttpServletRequestBuilder postSaveRequest() {
+        String json = "{\"memberId\":2,\"title\":\"perf title\",\"contents\":\"perf contents\"}";
+        return multipart("/post/save")
+                .file(new MockMultipartFile("post", "", MediaType.APPLICATION_JSON_VALUE,
+                        json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,66 @@
+package com.likelion.basecode.perf;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 운영과 비슷한 규모의 데이터를 JDBC 배치로 한 번에 적재 (JPA를 거치지 않으므로 측정에 영향 없음)
+// 사용자 1번은 게시글이 많은 작성자, 나머지 게시글은 다른 사용자들에게 고르게 분배
+class PerfDataSeeder {
+
+    static final int MEMBERS = 2_000;
+    static final int POSTS = 5_000;
+    static final int TAGS = 200;
+    static final int TAGS_PER_POST = 20;
+    static final long PROLIFIC_MEMBER_ID = 1L;
+    static final int PROLIFIC_MEMBER_POSTS = 50;
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    PerfDataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void seed() {
+        List<Object[]> members = new ArrayList<>();
+        for (long id = 1; id <= MEMBERS; id++) {
+            members.add(new Object[]{id, "member" + id, 20 + (int) (id % 30), id % 3 == 0 ? "AI" : id % 3 == 1 ? "BACKEND" : "FRONTEND"});
+        }
+        batch("INSERT INTO member (member_id, name, age, part, version) VALUES (?, ?, ?, ?, 0)", members);
+
+        List<Object[]> tags = new ArrayList<>();
+        for (long id = 1; id <= TAGS; id++) {
+            tags.add(new Object[]{id, String.format("tag-%03d", id - 1)});
+        }
+        batch("INSERT INTO tag (tag_id, name) VALUES (?, ?)", tags);
+
+        List<Object[]> posts = new ArrayList<>();
+        List<Object[]> postTags = new ArrayList<>();
+        long postTagId = 1;
+        for (long id = 1; id <= POSTS; id++) {
+            long memberId = id <= PROLIFIC_MEMBER_POSTS ? PROLIFIC_MEMBER_ID : 2 + (id % (MEMBERS - 1));
+            posts.add(new Object[]{id, "title" + id, "contents of post " + id, memberId});
+            for (int k = 0; k < TAGS_PER_POST; k++) {
+                long tagId = 1 + (id * 7 + k) % TAGS;
+                postTags.add(new Object[]{postTagId++, id, tagId});
+            }
+        }
+        batch("INSERT INTO post (post_id, title, contents, member_id, version) VALUES (?, ?, ?, ?, 0)", posts);
+        batch("INSERT INTO post_tag (post_tag_id, post_id, tag_id) VALUES (?, ?, ?)", postTags);
+
+        // 직접 넣은 id 다음부터 자동 증가하도록 맞춤
+        jdbcTemplate.execute("ALTER TABLE member ALTER COLUMN member_id RESTART WITH " + (MEMBERS + 1));
+        jdbcTemplate.execute("ALTER TABLE tag ALTER COLUMN tag_id RESTART WITH " + (TAGS + 1));
+        jdbcTemplate.execute("ALTER TABLE post ALTER COLUMN post_id RESTART WITH " + (POSTS + 1));
+        jdbcTemplate.execute("ALTER TABLE post_tag ALTER COLUMN post_tag_id RESTART WITH " + postTagId);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+}
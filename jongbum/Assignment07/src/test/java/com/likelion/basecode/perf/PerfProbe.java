@@ -0,0 +1,60 @@
+package com.likelion.basecode.perf;
+
+import com.likelion.basecode.common.sql.SqlRequestStats;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 현재 스레드에서 실행한 작업 하나의 SQL 문장 수, 외부 호출 수, 할당 바이트 측정
+// (MockMvc는 요청을 테스트 스레드에서 처리하므로 요청 전체가 측정 범위에 들어감)
+class PerfProbe {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final OutboundStub outboundStub;
+
+    PerfProbe(OutboundStub outboundStub) {
+        this.outboundStub = outboundStub;
+    }
+
+    Measurement measure(ThrowingRunnable action) throws Exception {
+        long threadId = Thread.currentThread().getId();
+        int callsBefore = outboundStub.calls();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+
+        SqlRequestStats stats = SqlRequestStats.begin(100);
+        try {
+            action.run();
+        } finally {
+            SqlRequestStats.end();
+        }
+
+        long allocated = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Measurement(stats.statementCount(), outboundStub.calls() - callsBefore, allocated, stats.summary());
+    }
+
+    @FunctionalInterface
+    interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    record Budget(int maxStatements, int maxOutboundCalls, long maxAllocatedBytes) {
+    }
+
+    record Measurement(int statements, int outboundCalls, long allocatedBytes, String sqlSummary) {
+
+        void assertWithin(String endpoint, Budget budget) {
+            assertThat(statements)
+                    .as("%s SQL 문장 수 (예산 %d)%s", endpoint, budget.maxStatements(), sqlSummary)
+                    .isLessThanOrEqualTo(budget.maxStatements());
+            assertThat(outboundCalls)
+                    .as("%s 외부 호출 수 (예산 %d)", endpoint, budget.maxOutboundCalls())
+                    .isLessThanOrEqualTo(budget.maxOutboundCalls());
+            assertThat(allocatedBytes)
+                    .as("%s 할당 바이트 (예산 %d)", endpoint, budget.maxAllocatedBytes())
+                    .isLessThanOrEqualTo(budget.maxAllocatedBytes());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.likelion.basecode.post.application;
+
+import com.likelion.basecode.common.client.TagRecommendationClient;
+import com.likelion.basecode.post.api.dto.request.PostSaveRequestDto;
+import com.likelion.basecode.post.api.dto.response.PostInfoResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+// 같은 새 태그 이름으로 게시글 두 개를 동시에 저장해도 uk_tag_name 위반(500) 없이 태그 하나를 함께 사용
+// perf 설정(H2 MySQL 모드)을 쓰되 성능 예산 테스트의 데이터와 섞이지 않도록 별도 메모리 DB
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:post-tag-race;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("perf")
+class PostServiceTagRaceTest {
+
+    private static final String NEW_TAG = "race-tag";
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private TagRecommendationClient tagClient;
+
+    @Test
+    void concurrentSavesShareNewTag() throws Exception {
+        jdbcTemplate.update("INSERT INTO member (name, age, part, version) VALUES ('race', 20, 'BACKEND', 0)");
+        Long memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+
+        // 두 저장 모두 게시글 insert 후 태그 추천에서 만나게 해서 태그 생성이 겹치도록 함
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        given(tagClient.getRecommendedTags(anyString())).willAnswer(invocation -> {
+            barrier.await(10, TimeUnit.SECONDS);
+            return List.of(NEW_TAG);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<PostInfoResponseDto> first = executor.submit(() -> postService.postSave(request(memberId), null, null));
+            Future<PostInfoResponseDto> second = executor.submit(() -> postService.postSave(request(memberId), null, null));
+
+            assertThat(first.get(30, TimeUnit.SECONDS).tags()).containsExactly(NEW_TAG);
+            assertThat(second.get(30, TimeUnit.SECONDS).tags()).containsExactly(NEW_TAG);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tag WHERE name = ?", Integer.class, NEW_TAG))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post_tag pt JOIN tag t ON t.tag_id = pt.tag_id WHERE t.name = ?",
+                Integer.class, NEW_TAG)).isEqualTo(2);
+    }
+
+    private static PostSaveRequestDto request(Long memberId) {
+        return new PostSaveRequestDto(memberId, "race title", "race contents", null);
+    }
+}
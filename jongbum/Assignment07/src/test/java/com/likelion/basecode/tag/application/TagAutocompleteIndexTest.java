@@ -0,0 +1,95 @@
+package com.likelion.basecode.tag.application;
+
+import com.likelion.basecode.tag.domain.repository.TagRepository;
+import com.likelion.basecode.tag.domain.repository.TagUsage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TagAutocompleteIndexTest {
+
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private TagAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        given(tagRepository.findAllUsage()).willReturn(List.of(
+                new TagUsage(1L, "한국", 5),
+                new TagUsage(2L, "한강", 7),
+                new TagUsage(3L, "학교", 4),
+                new TagUsage(4L, "하늘", 3),
+                new TagUsage(5L, "한국어", 2),
+                new TagUsage(6L, "서울", 9)));
+        index = new TagAutocompleteIndex(tagRepository, true, 1024);
+        index.reload();
+    }
+
+    @Test
+    void keysSplitSyllablesIntoJamo() {
+        assertThat(TagSearchKeys.key("한국")).isEqualTo("ㅎㅏㄴㄱㅜㄱ");
+        assertThat(TagSearchKeys.key("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(TagSearchKeys.key("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(TagSearchKeys.initials("한국어")).isEqualTo("ㅎㄱㅇ");
+        assertThat(TagSearchKeys.normalize(" #Spring Boot")).isEqualTo("springboot");
+        assertThat(TagSearchKeys.isInitialsOnly("ㅎㄱ")).isTrue();
+        assertThat(TagSearchKeys.isInitialsOnly("한ㄱ")).isFalse();
+    }
+
+    @Test
+    void prefixRangesWhileTyping() {
+        // "하"는 ㅎㅏ로 시작하는 모든 이름
+        assertThat(names("하")).containsExactly("한강", "한국", "학교", "하늘", "한국어");
+        // "한"은 받침 ㄴ까지 -> "하늘"(ㅎㅏㄴㅡㄹ)도 입력 중인 글자로 보면 일치
+        assertThat(names("한")).containsExactly("한강", "한국", "하늘", "한국어");
+        // "한ㄱ"은 다음 글자의 초성까지 -> "학교"(ㅎㅏㄱㄱㅛ)는 제외
+        assertThat(names("한ㄱ")).containsExactly("한강", "한국", "한국어");
+        assertThat(names("한국")).containsExactly("한국", "한국어");
+    }
+
+    @Test
+    void initialsOnlyQuery() {
+        assertThat(names("ㅎㄱ")).containsExactly("한강", "한국", "학교", "한국어");
+        assertThat(names("ㅅ")).containsExactly("서울");
+        assertThat(names("ㅎㄱㅇ")).containsExactly("한국어");
+    }
+
+    @Test
+    void limitKeepsMostUsed() {
+        assertThat(names("하", 2)).containsExactly("한강", "한국");
+        assertThat(index.suggest("하", 1)).containsExactly(new TagSuggestion(2L, "한강", 7));
+        assertThat(index.suggest(" ", 10)).isEmpty();
+        assertThat(index.suggest("하", 0)).isEmpty();
+    }
+
+    @Test
+    void renamesAndDeletesBeforeAndAfterCompaction() {
+        // 트랜잭션 밖이므로 바로 반영 (overlay)
+        index.apply(2L, "호수");
+        index.apply(3L, null);
+        index.add(7L, "한옥");
+        index.recordUsage(List.of(7L, 7L));
+
+        // 사용 횟수가 같으면(한국어, 한옥 모두 2) 이름 순
+        assertThat(names("하")).containsExactly("한국", "하늘", "한국어", "한옥");
+        assertThat(index.suggest("호", 10)).containsExactly(new TagSuggestion(2L, "호수", 7));
+
+        index.compact();
+
+        assertThat(names("하")).containsExactly("한국", "하늘", "한국어", "한옥");
+        assertThat(names("ㅎㅅ")).containsExactly("호수");
+        assertThat(names("ㅎㄱ")).containsExactly("한국", "한국어");
+    }
+
+    private List<String> names(String prefix) {
+        return names(prefix, 10);
+    }
+
+    private List<String> names(String prefix, int limit) {
+        return index.suggest(prefix, limit).stream().map(TagSuggestion::name).toList();
+    }
+}
@@ -0,0 +1,160 @@
+package com.likelion.basecode.tag.application;
+
+import com.likelion.basecode.posttag.domain.repository.PostTagRef;
+import com.likelion.basecode.posttag.domain.repository.PostTagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TagCooccurrenceIndexTest {
+
+    // 게시글 1~5의 태그: 태그 1과 함께 붙은 수는 2 -> 3번, 3 -> 2번, 4 -> 2번, 5 -> 1번
+    private static final List<PostTagRef> POST_TAGS = List.of(
+            ref(1, 1), ref(1, 2), ref(1, 3),
+            ref(2, 1), ref(2, 2), ref(2, 4),
+            ref(3, 1), ref(3, 2),
+            ref(4, 1), ref(4, 3), ref(4, 4),
+            ref(5, 1), ref(5, 5));
+
+    @TempDir
+    Path tempDir;
+
+    private final PostTagRepository postTagRepository = mock(PostTagRepository.class);
+
+    @Test
+    void topKOrdersByCountThenId() {
+        TagCooccurrenceIndex index = newIndex(tempDir.resolve("cooccurrence.bin"));
+        // 트랜잭션 밖이므로 바로 반영, 태그 순서와 중복은 결과에 영향 없음
+        index.recordPostTags(1L, List.of(), List.of(3L, 2L, 1L));
+        index.recordPostTags(2L, List.of(), List.of(4L, 1L, 2L, 2L));
+        index.recordPostTags(3L, List.of(), List.of(1L, 2L));
+        index.recordPostTags(4L, List.of(), List.of(4L, 3L, 1L));
+        index.recordPostTags(5L, List.of(), List.of(5L, 1L));
+
+        assertThat(index.related(1L, 10)).extracting(RelatedTag::tagId).containsExactly(2L, 3L, 4L, 5L);
+        // 3과 4는 함께 붙은 수가 같으므로 id가 작은 3이 남음
+        assertThat(index.related(1L, 2)).extracting(RelatedTag::tagId).containsExactly(2L, 3L);
+        assertThat(index.related(1L, 3)).extracting(RelatedTag::count).containsExactly(3L, 2L, 2L);
+        // 자카드: 함께 3 / (태그 1의 5 + 태그 2의 3 - 3)
+        assertThat(index.related(1L, 1).get(0).jaccard()).isEqualTo(0.6);
+        assertThat(index.related(5L, 10)).extracting(RelatedTag::tagId).containsExactly(1L);
+        assertThat(index.related(99L, 10)).isEmpty();
+    }
+
+    @Test
+    void removingPostsUpdatesRanking() {
+        TagCooccurrenceIndex index = newIndex(tempDir.resolve("cooccurrence.bin"));
+        index.recordPostTags(1L, List.of(), List.of(1L, 2L, 3L));
+        index.recordPostTags(2L, List.of(), List.of(1L, 2L));
+        index.recordPostTags(3L, List.of(), List.of(1L, 3L));
+        index.recordPostTags(4L, List.of(), List.of(1L, 3L));
+
+        // 게시글 수정 (1, 3 -> 1, 2): 1-2가 3번, 1-3이 2번이 됨
+        index.recordPostTags(4L, List.of(1L, 3L), List.of(1L, 2L));
+        assertThat(index.related(1L, 10)).extracting(RelatedTag::count).containsExactly(3L, 2L);
+        assertThat(index.related(1L, 10)).extracting(RelatedTag::tagId).containsExactly(2L, 3L);
+
+        // 3이 붙은 게시글을 모두 지우면 관련 태그에서도 빠짐
+        index.recordPostTags(1L, List.of(1L, 2L, 3L), List.of());
+        index.recordPostTags(3L, List.of(1L, 3L), List.of());
+        assertThat(index.related(1L, 10)).extracting(RelatedTag::tagId).containsExactly(2L);
+        assertThat(index.related(3L, 10)).isEmpty();
+    }
+
+    @Test
+    void checkpointRoundTrip() {
+        Path checkpoint = tempDir.resolve("cooccurrence.bin");
+        // 페이지 크기 4 -> 게시글의 태그가 페이지 경계에 걸치는 경우 포함 (다음 페이지에서 그 게시글부터 다시 읽음)
+        givenPostTags(POST_TAGS);
+        TagCooccurrenceIndex original = newIndex(checkpoint);
+        original.rebuild();
+        assertThat(Files.isRegularFile(checkpoint)).isTrue();
+
+        TagCooccurrenceIndex restored = newIndex(checkpoint);
+        restored.restore();
+
+        for (long tagId = 1; tagId <= 5; tagId++) {
+            assertThat(restored.related(tagId, 10)).isEqualTo(original.related(tagId, 10));
+        }
+        assertThat(restored.related(1L, 10)).extracting(RelatedTag::tagId).containsExactly(2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void rebuildKeepsChangesCommittedDuringScan() {
+        List<PostTagRef> refs = new ArrayList<>(POST_TAGS);
+        TagCooccurrenceIndex index = newIndex(tempDir.resolve("cooccurrence.bin"));
+        givenPostTags(refs);
+        index.rebuild();
+
+        // 첫 페이지(게시글 1)를 읽은 직후 커밋된 변경
+        // - 게시글 1 (이미 읽음): 1, 2, 3 -> 1, 5 => 스캔이 못 봤으므로 다시 적용
+        // - 게시글 6 (아직 안 읽음): 새로 2, 3 => 다음 페이지에서 읽으므로 다시 적용하지 않음
+        AtomicBoolean changed = new AtomicBoolean();
+        given(postTagRepository.findTagRefsAfterPostId(anyLong(), any(Pageable.class))).willAnswer(invocation -> {
+            List<PostTagRef> page = page(refs, invocation.getArgument(0), invocation.getArgument(1));
+            if (changed.compareAndSet(false, true)) {
+                refs.removeIf(ref -> ref.postId() == 1L);
+                refs.addAll(List.of(ref(1, 1), ref(1, 5), ref(6, 2), ref(6, 3)));
+                refs.sort(Comparator.comparing(PostTagRef::postId));
+                index.recordPostTags(1L, List.of(1L, 2L, 3L), List.of(1L, 5L));
+                index.recordPostTags(6L, List.of(), List.of(2L, 3L));
+            }
+            return page;
+        });
+        index.rebuild();
+
+        TagCooccurrenceIndex expected = newIndex(tempDir.resolve("expected.bin"));
+        givenPostTags(refs);
+        expected.rebuild();
+        for (long tagId = 1; tagId <= 5; tagId++) {
+            assertThat(index.related(tagId, 10)).isEqualTo(expected.related(tagId, 10));
+        }
+        assertThat(index.related(1L, 10)).extracting(RelatedTag::count).containsExactly(2L, 2L, 2L, 1L);
+    }
+
+    @Test
+    void ignoresUnreadableCheckpoint() throws Exception {
+        Path checkpoint = tempDir.resolve("cooccurrence.bin");
+        Files.write(checkpoint, new byte[]{1, 2, 3});
+
+        TagCooccurrenceIndex index = newIndex(checkpoint);
+        index.restore();
+
+        assertThat(index.related(1L, 10)).isEmpty();
+    }
+
+    private TagCooccurrenceIndex newIndex(Path checkpoint) {
+        return new TagCooccurrenceIndex(postTagRepository, true, checkpoint, 3_600_000, 4, new SimpleMeterRegistry());
+    }
+
+    // 게시글 id 순 페이지 조회 흉내
+    private void givenPostTags(List<PostTagRef> refs) {
+        given(postTagRepository.findTagRefsAfterPostId(anyLong(), any(Pageable.class))).willAnswer(invocation ->
+                page(refs, invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
+    private static List<PostTagRef> page(List<PostTagRef> refs, long afterPostId, Pageable pageable) {
+        return refs.stream()
+                .filter(ref -> ref.postId() > afterPostId)
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    private static PostTagRef ref(long postId, long tagId) {
+        return new PostTagRef(postId, tagId);
+    }
+}